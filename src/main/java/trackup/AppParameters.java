@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path archivePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the binary data file to browse read-only instead of the usual data file, or null if there is none.
+     */
+    public Path getArchivePath() {
+        return archivePath;
+    }
+
+    public void setArchivePath(Path archivePath) {
+        this.archivePath = archivePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +53,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String archivePathParameter = namedParameters.get("archive");
+        if (archivePathParameter != null && !FileUtil.isValidPath(archivePathParameter)) {
+            logger.warning("Invalid archive path " + archivePathParameter + ". Opening the usual data file instead.");
+            archivePathParameter = null;
+        }
+        appParameters.setArchivePath(archivePathParameter != null ? Paths.get(archivePathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +75,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(archivePath, otherAppParameters.archivePath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, archivePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("archivePath", archivePath)
                 .toString();
     }
 }
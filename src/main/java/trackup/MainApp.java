@@ -15,16 +15,19 @@ import trackup.commons.util.ConfigUtil;
 import trackup.commons.util.StringUtil;
 import trackup.logic.Logic;
 import trackup.logic.LogicManager;
+import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.AddressBook;
 import trackup.model.Model;
 import trackup.model.ModelManager;
 import trackup.model.ReadOnlyAddressBook;
+import trackup.model.ReadOnlyModelManager;
 import trackup.model.ReadOnlyUserPrefs;
 import trackup.model.UserPrefs;
 import trackup.model.util.SampleDataUtil;
+import trackup.storage.AddressBookFormatBridge;
 import trackup.storage.AddressBookStorage;
-import trackup.storage.JsonAddressBookStorage;
 import trackup.storage.JsonUserPrefsStorage;
+import trackup.storage.MappedAddressBookStorage;
 import trackup.storage.Storage;
 import trackup.storage.StorageManager;
 import trackup.storage.UserPrefsStorage;
@@ -57,10 +60,18 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
+        if (appParameters.getArchivePath() != null) {
+            AddressBookStorage archiveStorage = new MappedAddressBookStorage(appParameters.getArchivePath());
+            storage = new StorageManager(archiveStorage, userPrefsStorage);
+            model = initReadOnlyModel(storage, userPrefs);
+        } else {
+            importFromOtherFormats(userPrefs);
+            AddressBookStorage addressBookStorage = AddressBookFormatBridge.createStorage(
+                    userPrefs.getAddressBookFilePath(), userPrefs.getStorageFormat(), userPrefs.isJournaling());
+            storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+            model = initModelManager(storage, userPrefs);
+        }
 
         logic = new LogicManager(model, storage);
 
@@ -68,7 +79,22 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Imports the address book into the storage format chosen in {@code userPrefs} if it was saved in another format.
+     * If this fails, the data file in the other format is left untouched.
+     */
+    private void importFromOtherFormats(ReadOnlyUserPrefs userPrefs) {
+        try {
+            AddressBookFormatBridge.importFromOtherFormats(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getStorageFormat());
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not import data into the " + userPrefs.getStorageFormat() + " format: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}.
+     * The address book is read from its last snapshot, with the changes journalled after it replayed. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
@@ -90,9 +116,35 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
+        if (initialData instanceof AddressBook) {
+            // Freshly loaded data is not shared with anyone else, so it can be adopted without another copy
+            return ModelManager.fromLoadedAddressBook((AddressBook) initialData, userPrefs);
+        }
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns a {@code ReadOnlyModelManager} that browses {@code storage}'s address book without loading it into
+     * memory. An empty address book is browsed instead if {@code storage}'s address book is not found or cannot be
+     * read.
+     */
+    private Model initReadOnlyModel(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Browsing data file read-only : " + storage.getAddressBookFilePath());
+
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = storage.readAddressBook().orElseGet(() -> {
+                logger.warning("Data file " + storage.getAddressBookFilePath() + " not found.");
+                return new AddressBook();
+            });
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be browsing an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+        return new ReadOnlyModelManager(initialData, storage.getAddressBookFilePath(), userPrefs);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +229,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            logic.flushSaves();
+        } catch (CommandException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
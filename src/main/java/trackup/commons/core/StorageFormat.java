@@ -0,0 +1,13 @@
+package trackup.commons.core;
+
+/**
+ * The formats the address book can be saved in.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary format that is faster to load and save, for large address books. */
+    BINARY,
+    /** JSON split over a folder of segment files, so that saving a change only rewrites the segments it touches. */
+    SHARDED
+}
@@ -0,0 +1,107 @@
+package trackup.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose modifications can be grouped into batches.
+ *
+ * Listeners are told about every modification made between {@link #beginBatch()} and the matching
+ * {@link #endBatch()} in a single change, once the batch ends, so that views over the list such as sorted lists and
+ * list views update once per batch rather than once per modification. Batches may be nested; only the outermost one
+ * notifies listeners. Outside a batch, each modification is reported on its own as in any observable list.
+ *
+ * @param <E> the type of the elements in the list.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch of modifications, which are reported to listeners when the matching {@link #endBatch()} is
+     * called.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, reporting its modifications to listeners if it
+     * is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Replaces all elements with those in {@code replacement}.
+     * The old elements are dropped at once, instead of one at a time as in {@code ModifiableObservableListBase}.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        List<E> removed = elements;
+        elements = new ArrayList<>(replacement);
+        modCount++;
+
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        range.clear();
+        modCount++;
+
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(fromIndex, removed);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
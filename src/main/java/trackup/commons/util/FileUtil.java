@@ -1,10 +1,20 @@
 package trackup.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Writes and reads files
@@ -12,6 +22,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter SET_ASIDE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +93,84 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to a file, and forces it to disk before returning so that it survives a system crash.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns a path next to {@code file} to keep a copy of it under, named after {@code label} and the current time,
+     * e.g. {@code data.json.corrupt-20250401-140000} for the label {@code corrupt}.
+     */
+    public static Path getSetAsidePath(Path file, String label) {
+        return file.resolveSibling(file.getFileName() + "." + label + "-"
+                + LocalDateTime.now().format(SET_ASIDE_TIMESTAMP));
+    }
+
+    /**
+     * Writes given string to a file, such that the file holds either all of its old content or all of the new
+     * content even if the app or system crashes midway.
+     * The content is written to a temporary file in the same folder and forced to disk, which then replaces
+     * {@code file} in a single rename. If {@code backup} is not null, the old content of {@code file} is moved there
+     * first, so that {@code file} may briefly be missing while {@code backup} holds its last content.
+     */
+    public static void writeToFileAtomically(Path file, String content, Path backup) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), backup);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, Path)}, except that the content is streamed by
+     * {@code writer} through a fixed-size buffer, so it never has to be held in memory all at once.
+     * If {@code writer} fails, {@code file} is left as it was.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer, Path backup) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        if (backup != null && Files.exists(file)) {
+            moveAtomically(file, backup);
+        }
+        moveAtomically(temporaryFile, file);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,353 @@
+package trackup.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable map sorted by key, which is modified by making modified copies of it.
+ *
+ * The entries are held in a balanced tree whose nodes never change once they are built. A modified copy rebuilds only
+ * the path from the root to the entry that changed and shares every other node with the map it was made from, so
+ * making it costs O(log n) in time and memory. Every copy stays valid and may be read from any thread without
+ * locking. Besides lookups by key, values can be read by their position in key order.
+ *
+ * @param <K> the type of the keys, which must not be null.
+ * @param <V> the type of the values, which must not be null.
+ */
+public final class PersistentTreeMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the map with no entries.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of {@code map}, built in O(n) time if {@code map} is already sorted by key.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> copyOf(Map<K, ? extends V> map) {
+        requireNonNull(map);
+        Map.Entry<K, V>[] entries = map.entrySet().toArray(new Map.Entry[0]);
+        for (Map.Entry<K, V> entry : entries) {
+            requireNonNull(entry.getKey());
+            requireNonNull(entry.getValue());
+        }
+        // Entries that are already sorted take a single pass to sort
+        Arrays.sort(entries, Map.Entry.comparingByKey());
+        return new PersistentTreeMap<>(build(entries, 0, entries.length));
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns true if this map has no entries.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if this map has no entry for it.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the entry at {@code index} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}.
+     */
+    public V getValueAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<K, V> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index == leftSize) {
+                return node.value;
+            }
+            if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the entry for {@code key} in key order, or -1 if this map has no entry for it.
+     */
+    public int indexOf(K key) {
+        requireNonNull(key);
+        int index = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return index + size(node.left);
+            }
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the values of the entries whose keys are at least {@code fromKey} and less than {@code toKey}, in key
+     * order, as an unmodifiable list.
+     * Finding the range costs O(log n), and reading each value in it another O(log n).
+     */
+    public List<V> valuesBetween(K fromKey, K toKey) {
+        requireNonNull(fromKey);
+        requireNonNull(toKey);
+        int fromIndex = countKeysBelow(fromKey);
+        return values().subList(fromIndex, Math.max(fromIndex, countKeysBelow(toKey)));
+    }
+
+    /**
+     * Returns the number of entries whose keys are less than {@code key}.
+     */
+    private int countKeysBelow(K key) {
+        int count = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            if (key.compareTo(node.key) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of this map in which {@code key} maps to {@code value}.
+     */
+    public PersistentTreeMap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        return new PersistentTreeMap<>(put(root, key, value));
+    }
+
+    /**
+     * Returns a copy of this map without the entry for {@code key}, or this map if it has no entry for {@code key}.
+     */
+    public PersistentTreeMap<K, V> minus(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentTreeMap<>(newRoot);
+    }
+
+    /**
+     * Returns the values of this map in key order, as an unmodifiable list.
+     * Reading a value by its index costs O(log n), while iterating over all of them costs O(n).
+     */
+    public List<V> values() {
+        return new Values();
+    }
+
+    @Override
+    public String toString() {
+        return values().toString();
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> build(Map.Entry<K, V>[] entries, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(entries[middle].getKey(), entries[middle].getValue(),
+                build(entries, from, middle), build(entries, middle + 1, to));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        } else if (comparison > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        } else {
+            return new Node<>(key, value, node.left, node.right);
+        }
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node for the given entry and subtrees, rotated to be balanced.
+     * The heights of {@code left} and {@code right} must differ by at most two, as after a single insertion or
+     * removal.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> balance(K key, V value, Node<K, V> left,
+            Node<K, V> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> middle = left.right;
+            return new Node<>(middle.key, middle.value, new Node<>(left.key, left.value, left.left, middle.left),
+                    new Node<>(key, value, middle.right, right));
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> middle = right.left;
+            return new Node<>(middle.key, middle.value, new Node<>(key, value, left, middle.left),
+                    new Node<>(right.key, right.value, middle.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    /**
+     * A node of the tree, which is never modified once built.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    /**
+     * The values of the map in key order.
+     */
+    private final class Values extends AbstractList<V> {
+        @Override
+        public V get(int index) {
+            return getValueAt(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentTreeMap.this.size();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new ValueIterator<>(root);
+        }
+    }
+
+    /**
+     * Walks the values of a tree in key order, holding the path to the next value.
+     */
+    private static final class ValueIterator<K, V> implements Iterator<V> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        ValueIterator(Node<K, V> root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftmostPath(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package trackup.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for validating the strings held by the model's value classes.
+ *
+ * Each check accepts exactly the strings matched by the regular expression it names, which remains the specification
+ * of the value, but runs as a single pass over the characters instead of compiling and running a pattern. Letters and
+ * digits are ASCII only, as in Java's {@code \p{Alnum}} and {@code \d}.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII letter.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} holds only digits, at least {@code minLength} of them.
+     * Same as matching {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} holds only letters and digits, at least one of them.
+     * Same as matching {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} holds only letters, digits and spaces, does not start with a space, and has at
+     * least one letter.
+     * Same as matching {@code (?=.*[A-Za-z])[\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericPhrase(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || test.charAt(0) == ' ') {
+            return false;
+        }
+        boolean hasLetter = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isAsciiLetter(c)) {
+                hasLetter = true;
+            } else if (!isAsciiDigit(c) && c != ' ') {
+                return false;
+            }
+        }
+        return hasLetter;
+    }
+
+    /**
+     * Returns true if {@code test} does not start with whitespace and has no line breaks after its first character.
+     * Same as matching {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, so that it is not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
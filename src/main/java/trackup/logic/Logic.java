@@ -1,6 +1,8 @@
 package trackup.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import trackup.commons.core.GuiSettings;
@@ -24,6 +26,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is told about failures to save the address book.
+     * Saves happen in the background after a command has returned, so the handler may be called on another thread.
+     */
+    void setSaveErrorHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until every change made by the executed commands has been saved.
+     * If the latest save failed, the whole address book is saved once more.
+     * @throws CommandException If saving the whole address book failed too.
+     */
+    void flushSaves() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -42,6 +57,12 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the warnings about the data file raised while loading it, such as a damaged file being replaced by its
+     * backup.
+     */
+    List<String> getLoadWarnings();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -1,8 +1,13 @@
 package trackup.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,10 +18,12 @@ import trackup.logic.commands.CommandResult;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.logic.parser.AddressBookParser;
 import trackup.logic.parser.exceptions.ParseException;
+import trackup.model.AddressBookChange;
 import trackup.model.Model;
 import trackup.model.ReadOnlyAddressBook;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.storage.AsyncAddressBookSaver;
 import trackup.storage.Storage;
 
 /**
@@ -28,19 +35,49 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_READ_ONLY = "The data file is open read-only, so this command cannot be used.";
+
+    public static final String MESSAGE_NOT_UNDOABLE =
+            "This command cannot be undone, as it changed more data than the undo history can hold. The undo history "
+            + "was reset, so earlier commands cannot be undone either.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
+    private final boolean isJournaling;
+    private final boolean isReadOnly;
+    private final List<String> loadWarnings;
+    private final List<AddressBookChange> unsavedChanges = new ArrayList<>();
+    private long savedGeneration;
+    private boolean needsFullSave;
+    private volatile boolean hasSaveFailed;
+    private volatile Consumer<String> saveErrorHandler = unused -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved to {@code storage} in the background, along with the changes made by each command so
+     * that the storage can save only what they touch. If the storage is journaling, only the changes are recorded,
+     * apart from a full save after startup. Everything is saved again after a failure. If the storage is read-only,
+     * commands that modify the address book are refused.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new AsyncAddressBookSaver(storage);
         addressBookParser = new AddressBookParser();
+        savedGeneration = model.getAddressBookGeneration();
+
+        isJournaling = storage.isJournaling();
+        isReadOnly = storage.isReadOnly();
+        loadWarnings = List.copyOf(storage.getLoadWarnings());
+        // Other storages save incrementally from what they last read or saved themselves, so they need no full save
+        needsFullSave = isJournaling;
+        model.addAddressBookChangeListener(unsavedChanges::add);
+        saver.setErrorHandler(e -> {
+            hasSaveFailed = true;
+            saveErrorHandler.accept(toErrorMessage(e));
+        });
     }
 
     @Override
@@ -49,19 +86,70 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
+        if (isReadOnly && command.isMutating()) {
+            throw new CommandException(MESSAGE_READ_ONLY);
+        }
+        long generationBefore = model.getAddressBookGeneration();
+        boolean isUndoable;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // Whatever a failed command modified is undone together with it, not with the next command
+            isUndoable = model.commitAddressBook();
+        }
+        if (!isUndoable) {
+            commandResult = new CommandResult(commandResult.getFeedbackToUser() + "\n" + MESSAGE_NOT_UNDOABLE,
+                    commandResult.isShowHelp(), commandResult.isExit());
         }
+        assert command.isMutating() || model.getAddressBookGeneration() == generationBefore
+                : command + " modified the address book but is not declared as mutating";
 
+        // A failed save is retried after the next command, even if that command changes nothing
+        if (model.getAddressBookGeneration() == savedGeneration && !hasSaveFailed) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
+
+        if (hasSaveFailed) {
+            // The changes that failed to be written are lost to the storage, so it cannot save only the new ones
+            hasSaveFailed = false;
+            needsFullSave = true;
+        }
+        savedGeneration = model.getAddressBookGeneration();
+        if (needsFullSave || (isJournaling && unsavedChanges.stream().anyMatch(AddressBookChange::isReset))) {
+            saver.save(model.getAddressBookSnapshot());
+            needsFullSave = false;
+        } else if (isJournaling) {
+            saver.append(model.getAddressBookSnapshot(), List.copyOf(unsavedChanges));
+        } else {
+            saver.save(model.getAddressBookSnapshot(), List.copyOf(unsavedChanges));
+        }
+        unsavedChanges.clear();
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveErrorHandler = handler;
+    }
+
+    @Override
+    public void flushSaves() throws CommandException {
+        try {
+            saver.flush();
+        } catch (IOException e) {
+            throw new CommandException(toErrorMessage(e), e);
+        }
+    }
+
+    private static String toErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -82,6 +170,11 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public List<String> getLoadWarnings() {
+        return loadWarnings;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -1,5 +1,6 @@
 package trackup.logic;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -61,9 +62,9 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code event} for display to the user.
+     * Formats the {@code event}, whose linked contacts are {@code contacts}, for display to the user.
      */
-    public static String format(Event event) {
+    public static String format(Event event, Collection<Person> contacts) {
         final StringBuilder builder = new StringBuilder();
         builder.append(event.getTitle())
                 .append("; Start: ")
@@ -71,7 +72,9 @@ public class Messages {
                 .append("; End: ")
                 .append(event.getEndDateTime())
                 .append("; Contacts: ");
-        event.getContacts().forEach(builder::append);
+        builder.append(contacts.stream()
+                .map(contact -> contact.getName().fullName)
+                .collect(Collectors.joining(", ")));
         return builder.toString();
     }
 
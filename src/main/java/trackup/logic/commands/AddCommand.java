@@ -7,6 +7,7 @@ import static trackup.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static trackup.logic.parser.CliSyntax.PREFIX_NAME;
 import static trackup.logic.parser.CliSyntax.PREFIX_PHONE;
 import static trackup.logic.parser.CliSyntax.PREFIX_TAG;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import trackup.commons.util.ToStringBuilder;
 import trackup.logic.Messages;
@@ -51,6 +52,11 @@ public class AddCommand extends Command {
         toAdd = person;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -60,6 +66,7 @@ public class AddCommand extends Command {
         }
 
         model.addPerson(toAdd);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -7,6 +7,7 @@ import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_START;
 import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_TITLE;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -18,6 +19,7 @@ import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.Model;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * Adds an event to the calendar.
@@ -63,26 +65,34 @@ public class AddEventCommand extends Command {
         this.contactIndexes = (contactIndexes != null) ? contactIndexes : new HashSet<>();
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        Set<Person> linkedContacts = new HashSet<>();
+        List<Person> linkedContacts = new ArrayList<>();
+        Set<PersonId> linkedContactIds = new HashSet<>();
         for (Index index : contactIndexes) {
             if (index.getZeroBased() >= lastShownList.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
-            linkedContacts.add(lastShownList.get(index.getZeroBased()));
+            Person contact = lastShownList.get(index.getZeroBased());
+            linkedContacts.add(contact);
+            linkedContactIds.add(contact.getId());
         }
 
-        Event newEvent = new Event(eventName, startDateTime, endDateTime, linkedContacts);
+        Event newEvent = new Event(eventName, startDateTime, endDateTime, linkedContactIds);
         if (model.hasEvent(newEvent)) {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
 
         model.addEvent(newEvent);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(newEvent)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(newEvent, linkedContacts)));
     }
 
     @Override
@@ -39,6 +39,11 @@ public class AddNoteCommand extends Command {
         this.noteContent = noteContent;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -54,13 +59,14 @@ public class AddNoteCommand extends Command {
         }
         Note newNote = new Note(noteContent);
 
-        boolean added = personToEdit.addNote(newNote);
-        if (!added) {
+        if (personToEdit.getNotes().size() >= Person.MAX_NOTES) {
             return new CommandResult(String.format(
                     "%s already has the maximum number of notes (%s). Note not added.",
                     personToEdit.getName(), Person.MAX_NOTES));
         }
 
+        model.addNote(personToEdit, newNote);
+
         return new CommandResult(String.format(MESSAGE_SUCCESS, personToEdit.getName(), noteContent));
     }
 
@@ -15,6 +15,11 @@ public class ClearCommand extends Command {
             + ": Clears all contacts and events from TrackUp.\n";
     public static final String MESSAGE_SUCCESS = "TrackUp's contacts and events lists have been cleared!";
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may modify the address book data.
+     * Commands that only read the data, or that change nothing but the displayed view, need not be saved afterwards.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
 }
@@ -25,6 +25,7 @@ import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 import trackup.model.person.Phone;
 import trackup.model.tag.Tag;
 
@@ -133,6 +134,11 @@ public class DeleteByCommand extends Command {
         deleteByCategory.ifPresent(value -> stringBuilder.add("category", value));
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -151,20 +157,19 @@ public class DeleteByCommand extends Command {
         } else if (filteredList.size() == 1) {
             Person personToDelete = filteredList.get(0);
 
-            // Update all events linked to this contact
-            List<Event> allEvents = model.getEventList();
-            for (Event event : allEvents) {
-                if (event.getContacts().contains(personToDelete)) {
-                    Set<Person> updatedContacts = new HashSet<>(event.getContacts());
-                    updatedContacts.remove(personToDelete);
+            model.batch(() -> {
+                // Update only the events linked to this contact
+                for (Event event : model.getEventsForPerson(personToDelete)) {
+                    Set<PersonId> updatedContacts = new HashSet<>(event.getContactIds());
+                    updatedContacts.remove(personToDelete.getId());
 
                     Event updatedEvent = new Event(event.getTitle(), event.getStartDateTime(),
                             event.getEndDateTime(), updatedContacts);
                     model.setEvent(event, updatedEvent);
                 }
-            }
 
-            model.deletePerson(personToDelete);
+                model.deletePerson(personToDelete);
+            });
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         } else {
             model.updateFilteredPersonList(predicate);
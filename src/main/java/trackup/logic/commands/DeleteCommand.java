@@ -13,6 +13,7 @@ import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.Model;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * Deletes a person identified using it's displayed index from the address book.
@@ -35,6 +36,11 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -46,20 +52,19 @@ public class DeleteCommand extends Command {
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
 
-        // Update all events linked to this contact
-        List<Event> allEvents = model.getEventList();
-        for (Event event : allEvents) {
-            if (event.getContacts().contains(personToDelete)) {
-                Set<Person> updatedContacts = new HashSet<>(event.getContacts());
-                updatedContacts.remove(personToDelete);
+        model.batch(() -> {
+            // Update only the events linked to this contact
+            for (Event event : model.getEventsForPerson(personToDelete)) {
+                Set<PersonId> updatedContacts = new HashSet<>(event.getContactIds());
+                updatedContacts.remove(personToDelete.getId());
 
                 Event updatedEvent = new Event(event.getTitle(), event.getStartDateTime(),
                         event.getEndDateTime(), updatedContacts);
                 model.setEvent(event, updatedEvent);
             }
-        }
 
-        model.deletePerson(personToDelete);
+            model.deletePerson(personToDelete);
+        });
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
@@ -18,8 +18,10 @@ import trackup.commons.util.ToStringBuilder;
 import trackup.logic.Messages;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.Model;
+import trackup.model.ReadOnlyAddressBook;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * Deletes event from the calendar based on filters.
@@ -68,15 +70,20 @@ public class DeleteEventCommand extends Command {
         this.contactIndexes = contactIndexes;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Event> eventList = model.getEventList();
         List<Person> contactList = model.getFilteredPersonList();
 
-        Set<Person> contacts = contactIndexes.stream()
+        Set<PersonId> contactIds = contactIndexes.stream()
                 .filter(index -> index.getZeroBased() < contactList.size())
-                .map(index -> contactList.get(index.getZeroBased()))
+                .map(index -> contactList.get(index.getZeroBased()).getId())
                 .collect(Collectors.toSet());
 
         // Find matching events based on given criteria
@@ -85,16 +92,19 @@ public class DeleteEventCommand extends Command {
                         .contains(partialTitle.toLowerCase()))
                         && (startDateTime == null || event.getStartDateTime().equals(startDateTime))
                         && (endDateTime == null || event.getEndDateTime().equals(endDateTime))
-                        && (contacts.isEmpty() || event.getContacts().stream().anyMatch(contacts::contains)))
+                        && (contactIds.isEmpty() || contactIds.stream().anyMatch(event::hasContact)))
                 .toList();
 
         if (eventsToDelete.isEmpty()) {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        eventsToDelete.forEach(model::deleteEvent);
-        return new CommandResult(String.format(MESSAGE_SUCCESS,
-                eventsToDelete.stream().map(Messages::format).collect(Collectors.joining("\n"))));
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        String deletedEvents = eventsToDelete.stream()
+                .map(event -> Messages.format(event, addressBook.getContacts(event)))
+                .collect(Collectors.joining("\n"));
+        model.batch(() -> eventsToDelete.forEach(model::deleteEvent));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, deletedEvents));
     }
 
     @Override
@@ -40,6 +40,11 @@ public class DeleteNoteCommand extends Command {
         this.noteIndex = noteIndex;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -59,7 +64,7 @@ public class DeleteNoteCommand extends Command {
             throw new CommandException(String.format(MESSAGE_INVALID_NOTE_INDEX, person.getName()));
         }
 
-        person.removeNote(noteIndex);
+        model.deleteNote(person, noteIndex);
         return new CommandResult(String.format(MESSAGE_SUCCESS, noteIndex.getOneBased(), person.getName()));
     }
 
@@ -23,8 +23,6 @@ import trackup.logic.Messages;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.Model;
 import trackup.model.category.Category;
-import trackup.model.event.Event;
-import trackup.model.note.Note;
 import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
@@ -75,6 +73,11 @@ public class EditCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -93,20 +96,6 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
 
-        // Update all events linked to this contact
-        List<Event> allEvents = model.getEventList();
-        for (Event event : allEvents) {
-            if (event.getContacts().contains(personToEdit)) {
-                Set<Person> updatedContacts = new HashSet<>(event.getContacts());
-                updatedContacts.remove(personToEdit);
-                updatedContacts.add(editedPerson);
-
-                Event updatedEvent = new Event(event.getTitle(), event.getStartDateTime(),
-                        event.getEndDateTime(), updatedContacts);
-                model.setEvent(event, updatedEvent);
-            }
-        }
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
@@ -128,14 +117,8 @@ public class EditCommand extends Command {
             updatedCategory = editPersonDescriptor.getCategory();
         }
 
-        Person updatedPerson = new Person(updatedName, updatedPhone, updatedEmail,
-                updatedAddress, updatedTags, updatedCategory);
-
-        for (Note note : personToEdit.getNotes()) {
-            updatedPerson.addNote(note);
-        }
-
-        return updatedPerson;
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail,
+                updatedAddress, updatedTags, updatedCategory, personToEdit.getNotes());
     }
 
     @Override
@@ -2,14 +2,17 @@ package trackup.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import trackup.commons.util.ToStringBuilder;
 import trackup.logic.Messages;
 import trackup.model.Model;
 import trackup.model.person.NameContainsKeywordsPredicate;
+import trackup.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive, and a keyword ending with {@code *} matches the start of a word.
  */
 public class FindCommand extends Command {
 
@@ -17,9 +20,11 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds persons whose names contain any of the given keywords.\n"
+            + "End a keyword with " + NameContainsKeywordsPredicate.PREFIX_WILDCARD
+            + " to match names with a word starting with it.\n"
             + "Parameter(s): "
             + "<KEYWORD> [<MORE_KEYWORDS>]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob char" + NameContainsKeywordsPredicate.PREFIX_WILDCARD;
 
     public static final String MESSAGE_NO_MATCH = "No matching person found";
 
@@ -32,7 +37,9 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // The name index gives the same persons as the predicate without testing every person
+        Set<Person> matches = model.findPersonsByName(predicate.getKeywords());
+        model.updateFilteredPersonList(matches::contains);
 
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NO_MATCH));
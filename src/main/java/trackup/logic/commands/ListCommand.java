@@ -1,6 +1,7 @@
 package trackup.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Optional;
 
@@ -39,7 +40,7 @@ public class ListCommand extends Command {
             model.updateFilteredPersonList(person -> person.hasCategory(filterCategory));
             return new CommandResult(String.format(MESSAGE_SUCCESS_FILTERED, filterCategory));
         } else {
-            model.updateFilteredPersonList(person -> true);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(MESSAGE_SUCCESS);
         }
     }
@@ -0,0 +1,86 @@
+package trackup.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_END;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_START;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import trackup.commons.util.ToStringBuilder;
+import trackup.logic.Messages;
+import trackup.model.Model;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+
+/**
+ * Lists the events in the calendar that take place within a time range.
+ */
+public class ListEventCommand extends Command {
+
+    public static final String COMMAND_WORD = "listevent";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the events in TrackUp that overlap the given time range.\n"
+            + "Parameter(s): "
+            + PREFIX_EVENT_START + "<FROM_DATETIME> "
+            + PREFIX_EVENT_END + "<TO_DATETIME>\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_EVENT_START + "2025-03-30 00:00 "
+            + PREFIX_EVENT_END + "2025-04-06 00:00";
+
+    public static final String MESSAGE_SUCCESS = "%1$d event(s) between %2$s and %3$s:\n%4$s";
+
+    private static final DateTimeFormatter RANGE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a ListEventCommand to list the events overlapping [{@code from}, {@code to}).
+     */
+    public ListEventCommand(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Event> events = model.getEventsOverlapping(from, to);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        String listedEvents = events.stream()
+                .map(event -> Messages.format(event, addressBook.getContacts(event)))
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, events.size(),
+                from.format(RANGE_FORMATTER), to.format(RANGE_FORMATTER), listedEvents));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEventCommand)) {
+            return false;
+        }
+
+        ListEventCommand otherCommand = (ListEventCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,39 @@
+package trackup.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import trackup.logic.commands.exceptions.CommandException;
+import trackup.model.Model;
+
+/**
+ * Makes the changes undone by the latest undo command again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redoes the latest command undone by undo.\n";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
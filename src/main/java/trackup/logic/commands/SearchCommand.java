@@ -2,12 +2,10 @@ package trackup.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import trackup.model.Model;
 import trackup.model.person.Person;
-import trackup.model.tag.Tag;
 
 /**
  * Finds and lists all persons in the address book whose attributes contain the specified keyword.
@@ -39,25 +37,16 @@ public class SearchCommand extends Command {
 
     /**
      * Executes the search command by filtering the list of persons whose attributes contain the keyword.
+     * The matching persons are looked up in the model's search index rather than by testing every person.
      *
      * @param model The model containing the person list.
      * @return A CommandResult indicating the search results.
      */
     @Override
     public CommandResult execute(Model model) {
-        String lowerKeyword = this.keyword.toLowerCase();
         requireNonNull(model);
-        Predicate<Person> matchesKeyword = person ->
-                person.getName().fullName.toLowerCase().contains(lowerKeyword)
-                        || person.getPhone().value.contains(lowerKeyword)
-                        || person.getEmail().value.toLowerCase().contains(lowerKeyword)
-                        || person.getAddress().value.toLowerCase().contains(lowerKeyword)
-                        || person.getTags().stream().map(Tag::toString).collect(Collectors.joining(" "))
-                        .toLowerCase().contains(lowerKeyword)
-                        || (person.getCategory().isPresent() && person.getCategory().get().toString().toLowerCase()
-                        .contains(lowerKeyword));
-
-        model.updateFilteredPersonList(matchesKeyword);
+        Set<Person> matches = model.searchPersons(keyword);
+        model.updateFilteredPersonList(matches::contains);
 
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NO_MATCH, keyword));
@@ -0,0 +1,39 @@
+package trackup.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import trackup.logic.commands.exceptions.CommandException;
+import trackup.model.Model;
+
+/**
+ * Reverses the changes made to TrackUp's data by the latest command that has not been undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the latest command that changed TrackUp's contacts, events or notes.\n";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -22,9 +22,12 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.ListEventCommand;
+import trackup.logic.commands.RedoCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.SortCommand;
 import trackup.logic.commands.ToggleCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.parser.exceptions.ParseException;
 
 /**
@@ -100,6 +103,9 @@ public class AddressBookParser {
         case DeleteEventCommand.COMMAND_WORD:
             return new DeleteEventCommandParser().parse(arguments);
 
+        case ListEventCommand.COMMAND_WORD:
+            return new ListEventCommandParser().parse(arguments);
+
         case ToggleCommand.COMMAND_WORD:
             return new ToggleCommandParser().parse(arguments);
 
@@ -109,6 +115,12 @@ public class AddressBookParser {
         case DeleteNoteCommand.COMMAND_WORD:
             return new DeleteNoteCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -28,9 +28,9 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        // Validate each keyword using Name.isValidName()
+        // Validate each keyword using Name.isValidName(), ignoring the wildcard of a prefix keyword
         for (String keyword : nameKeywords) {
-            if (!Name.isValidName(keyword)) {
+            if (!Name.isValidName(NameContainsKeywordsPredicate.stripWildcard(keyword))) {
                 throw new ParseException(Name.MESSAGE_CONSTRAINTS);
             }
         }
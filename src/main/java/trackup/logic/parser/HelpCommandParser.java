@@ -15,9 +15,12 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.ListEventCommand;
+import trackup.logic.commands.RedoCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.SortCommand;
 import trackup.logic.commands.ToggleCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.parser.exceptions.ParseException;
 
 
@@ -45,9 +48,12 @@ public class HelpCommandParser implements Parser<HelpCommand> {
         case SearchCommand.COMMAND_WORD -> new HelpCommand(SearchCommand.MESSAGE_USAGE);
         case AddEventCommand.COMMAND_WORD -> new HelpCommand(AddEventCommand.MESSAGE_USAGE);
         case DeleteEventCommand.COMMAND_WORD -> new HelpCommand(DeleteEventCommand.MESSAGE_USAGE);
+        case ListEventCommand.COMMAND_WORD -> new HelpCommand(ListEventCommand.MESSAGE_USAGE);
         case AddNoteCommand.COMMAND_WORD -> new HelpCommand(AddNoteCommand.MESSAGE_USAGE);
         case DeleteNoteCommand.COMMAND_WORD -> new HelpCommand(DeleteNoteCommand.MESSAGE_USAGE);
         case ToggleCommand.COMMAND_WORD -> new HelpCommand(ToggleCommand.MESSAGE_USAGE);
+        case UndoCommand.COMMAND_WORD -> new HelpCommand(UndoCommand.MESSAGE_USAGE);
+        case RedoCommand.COMMAND_WORD -> new HelpCommand(RedoCommand.MESSAGE_USAGE);
         case ClearCommand.COMMAND_WORD -> new HelpCommand(ClearCommand.MESSAGE_USAGE);
         case ExitCommand.COMMAND_WORD -> new HelpCommand(ExitCommand.MESSAGE_USAGE);
         default ->
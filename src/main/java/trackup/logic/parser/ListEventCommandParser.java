@@ -0,0 +1,50 @@
+package trackup.logic.parser;
+
+import static trackup.logic.Messages.MESSAGE_END_BEFORE_START;
+import static trackup.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_END;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_START;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import trackup.logic.commands.ListEventCommand;
+import trackup.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListEventCommand object.
+ */
+public class ListEventCommandParser implements Parser<ListEventCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListEventCommand
+     * and returns a ListEventCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ListEventCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_START, PREFIX_EVENT_END);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_EVENT_START, PREFIX_EVENT_END)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENT_START, PREFIX_EVENT_END);
+        LocalDateTime from = ParserUtil.parseEventTime(argMultimap.getValue(PREFIX_EVENT_START).get());
+        LocalDateTime to = ParserUtil.parseEventTime(argMultimap.getValue(PREFIX_EVENT_END).get());
+
+        if (!to.isAfter(from)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+
+        return new ListEventCommand(from, to);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
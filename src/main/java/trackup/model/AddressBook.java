@@ -2,14 +2,29 @@ package trackup.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
+import trackup.commons.core.index.Index;
+import trackup.commons.util.PersistentTreeMap;
 import trackup.commons.util.ToStringBuilder;
 import trackup.model.event.Event;
+import trackup.model.event.EventIdentity;
 import trackup.model.event.UniqueEventList;
+import trackup.model.note.Note;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 import trackup.model.person.UniquePersonList;
+import trackup.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -19,6 +34,20 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueEventList events;
+    private final Map<PersonId, Map<EventIdentity, Event>> eventsByContact = new HashMap<>();
+    private final List<Consumer<AddressBookChange>> changeListeners = new ArrayList<>();
+    private long generation;
+
+    // Persistent maps of the persons and events, kept in list order by their keys in personKeys and eventKeys
+    private final Map<PersonId, Long> personKeys = new HashMap<>();
+    private final Map<EventIdentity, Long> eventKeys = new HashMap<>();
+    private PersistentTreeMap<Long, Person> sharedPersons = PersistentTreeMap.empty();
+    private PersistentTreeMap<PersonId, Long> sharedPersonKeys = PersistentTreeMap.empty();
+    private PersistentTreeMap<Long, Event> sharedEvents = PersistentTreeMap.empty();
+    private long nextKey;
+
+    // Records how to reverse each modification, if the address book keeps a history
+    private AddressBookHistory history;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -50,7 +79,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         requireNonNull(persons);
+        List<Person> previousPersons = sharedPersons.values();
         this.persons.setPersons(persons);
+        shareAllPersons();
+        if (isRecordingHistory()) {
+            long size = previousPersons.stream().mapToLong(AddressBookHistory::estimateSize).sum();
+            history.record(addressBook -> addressBook.setPersons(previousPersons), size);
+        }
+        recordChange(AddressBookChange::reset);
     }
 
     /**
@@ -59,7 +95,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         requireNonNull(events);
+        List<Event> previousEvents = sharedEvents.values();
         this.events.setEvents(events);
+        reindexEvents();
+        shareAllEvents();
+        if (isRecordingHistory()) {
+            long size = previousEvents.stream().mapToLong(AddressBookHistory::estimateSize).sum();
+            history.record(addressBook -> addressBook.setEvents(previousEvents), size);
+        }
+        recordChange(AddressBookChange::reset);
     }
 
     /**
@@ -82,12 +126,46 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, if any.
+     */
+    public Optional<Person> getSamePerson(Person person) {
+        requireNonNull(person);
+        return persons.getSamePerson(person);
+    }
+
+    /**
+     * Returns the persons in the address book with an attribute that contains {@code keyword}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> searchPersons(String keyword) {
+        requireNonNull(keyword);
+        return persons.search(keyword);
+    }
+
+    /**
+     * Returns the persons in the address book whose name matches any of {@code keywords}.
+     * The returned set compares persons by reference.
+     *
+     * @see trackup.model.person.NameContainsKeywordsPredicate
+     */
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByName(keywords);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person is given an identifier if it does not have a usable one yet.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        Person stored = persons.getSamePerson(p).orElseThrow();
+        sharePerson(stored);
+        PersonId id = stored.getId();
+        recordInverse(addressBook -> addressBook.removePerson(addressBook.getStoredPerson(id)), 0);
+        recordChange(() -> AddressBookChange.addPerson(stored));
     }
 
     /**
@@ -98,7 +176,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        Person previous = persons.getSamePerson(target).orElse(target);
         persons.setPerson(target, editedPerson);
+        Person stored = persons.getSamePerson(editedPerson).orElseThrow();
+        sharePerson(stored);
+        PersonId id = stored.getId();
+        recordInverse(addressBook -> addressBook.setPerson(addressBook.getStoredPerson(id), previous),
+                AddressBookHistory.estimateSize(previous));
+        recordChange(() -> AddressBookChange.setPerson(stored.getId(), stored));
     }
 
     /**
@@ -106,9 +191,70 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        // The stored person may carry a different identifier than an equal key
+        Person stored = persons.getSamePerson(key).orElse(key);
         persons.remove(key);
+        unsharePerson(stored.getId());
+        recordInverse(addressBook -> addressBook.addPerson(stored), AddressBookHistory.estimateSize(stored));
+        recordChange(() -> AddressBookChange.deletePerson(stored.getId()));
+    }
+
+    /**
+     * Adds {@code note} to {@code person}, which must exist in the address book.
+     *
+     * @return true if the note was added, false if the person already has the maximum number of notes.
+     */
+    public boolean addNote(Person person, Note note) {
+        requireNonNull(person);
+        requireNonNull(note);
+        // The stored person may have gained or lost notes since the caller looked it up
+        Person stored = persons.getSamePerson(person).orElseThrow(PersonNotFoundException::new);
+        if (stored.getNotes().size() >= Person.MAX_NOTES) {
+            return false;
+        }
+        List<Note> notes = new ArrayList<>(stored.getNotes());
+        notes.add(note);
+        PersonId id = setNotes(stored, notes);
+        recordInverse(addressBook -> {
+            Person current = addressBook.getStoredPerson(id);
+            addressBook.removeNote(current, Index.fromZeroBased(current.getNotes().size() - 1));
+        }, 0);
+        recordChange(() -> AddressBookChange.addNote(id, note));
+        return true;
+    }
+
+    /**
+     * Removes the note at {@code noteIndex} from {@code person}, which must exist in the address book.
+     *
+     * @throws IndexOutOfBoundsException if the person has no note at {@code noteIndex}.
+     */
+    public void removeNote(Person person, Index noteIndex) {
+        requireNonNull(person);
+        requireNonNull(noteIndex);
+        Person stored = persons.getSamePerson(person).orElseThrow(PersonNotFoundException::new);
+        List<Note> notes = new ArrayList<>(stored.getNotes());
+        Note removed = notes.remove(noteIndex.getZeroBased());
+        PersonId id = setNotes(stored, notes);
+        recordInverse(addressBook -> {
+            // Notes can only be added at the end through addNote, so the person is replaced by a restored copy
+            Person current = addressBook.getStoredPerson(id);
+            List<Note> restoredNotes = new ArrayList<>(current.getNotes());
+            restoredNotes.add(noteIndex.getZeroBased(), removed);
+            addressBook.setPerson(current, current.withNotes(restoredNotes));
+        }, 0);
+        recordChange(() -> AddressBookChange.deleteNote(id, noteIndex));
     }
 
+    /**
+     * Replaces {@code stored}, a person stored in the address book, by a copy with {@code notes} as its notes.
+     * Returns the identifier of the person.
+     */
+    private PersonId setNotes(Person stored, List<Note> notes) {
+        Person noted = stored.withNotes(notes);
+        persons.setPerson(stored, noted);
+        sharePerson(noted);
+        return noted.getId();
+    }
 
     //// Event-level operations
 
@@ -127,6 +273,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addEvent(Event event) {
         requireNonNull(event);
         events.add(event);
+        linkContacts(event);
+        long key = nextKey++;
+        eventKeys.put(event.getIdentity(), key);
+        sharedEvents = sharedEvents.plus(key, event);
+        recordInverse(addressBook -> addressBook.deleteEvent(event), 0);
+        recordChange(() -> AddressBookChange.addEvent(event));
     }
 
     /**
@@ -136,6 +288,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void deleteEvent(Event event) {
         requireNonNull(event);
         events.remove(event);
+        unlinkContacts(event);
+        sharedEvents = sharedEvents.minus(eventKeys.remove(event.getIdentity()));
+        recordInverse(addressBook -> addressBook.addEvent(event), AddressBookHistory.estimateSize(event));
+        recordChange(() -> AddressBookChange.deleteEvent(event));
     }
 
     /**
@@ -147,10 +303,179 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        unlinkContacts(target);
+        linkContacts(editedEvent);
+        long key = eventKeys.remove(target.getIdentity());
+        eventKeys.put(editedEvent.getIdentity(), key);
+        sharedEvents = sharedEvents.plus(key, editedEvent);
+        recordInverse(addressBook -> addressBook.setEvent(editedEvent, target),
+                AddressBookHistory.estimateSize(target));
+        recordChange(() -> AddressBookChange.setEvent(target, editedEvent));
+    }
+
+    /**
+     * Returns the events that list the person with {@code id} as a contact, in the order they were linked.
+     */
+    public List<Event> getEventsForPerson(PersonId id) {
+        requireNonNull(id);
+        Map<EventIdentity, Event> linked = eventsByContact.get(id);
+        return linked == null ? List.of() : List.copyOf(linked.values());
+    }
+
+    private void linkContacts(Event event) {
+        for (PersonId id : event.getContactIds()) {
+            eventsByContact.computeIfAbsent(id, unused -> new LinkedHashMap<>()).put(event.getIdentity(), event);
+        }
+    }
+
+    private void unlinkContacts(Event event) {
+        for (PersonId id : event.getContactIds()) {
+            Map<EventIdentity, Event> linked = eventsByContact.get(id);
+            if (linked != null && linked.remove(event.getIdentity()) != null && linked.isEmpty()) {
+                eventsByContact.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Counts a modification of this address book and describes it to the change listeners.
+     * The description is only created when there are listeners.
+     */
+    private void recordChange(Supplier<AddressBookChange> change) {
+        generation++;
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        AddressBookChange recorded = change.get();
+        changeListeners.forEach(listener -> listener.accept(recorded));
+    }
+
+    /**
+     * Records {@code inverse}, which reverses the modification just made, in the history if there is one.
+     * {@code estimatedBytes} is the memory taken by the data that only {@code inverse} holds.
+     */
+    private void recordInverse(Consumer<AddressBook> inverse, long estimatedBytes) {
+        if (isRecordingHistory()) {
+            history.record(inverse, estimatedBytes);
+        }
+    }
+
+    private boolean isRecordingHistory() {
+        return history != null && history.isRecording();
+    }
+
+    /**
+     * Returns the person stored with {@code id}, which must exist in the address book.
+     */
+    private Person getStoredPerson(PersonId id) {
+        return persons.getPerson(id).orElseThrow();
+    }
+
+    private void reindexEvents() {
+        eventsByContact.clear();
+        events.forEach(this::linkContacts);
+    }
+
+    //// snapshot maintenance
+
+    /**
+     * Puts {@code person}, which is stored in the address book, into the shared persons.
+     * It takes the place of the earlier version of the same person, so that the shared persons stay in list order.
+     */
+    private void sharePerson(Person person) {
+        PersonId id = person.getId();
+        long key = personKeys.computeIfAbsent(id, unused -> nextKey++);
+        sharedPersons = sharedPersons.plus(key, person);
+        sharedPersonKeys = sharedPersonKeys.plus(id, key);
+    }
+
+    private void unsharePerson(PersonId id) {
+        sharedPersons = sharedPersons.minus(personKeys.remove(id));
+        sharedPersonKeys = sharedPersonKeys.minus(id);
+    }
+
+    private void shareAllPersons() {
+        personKeys.clear();
+        Map<Long, Person> byKey = new LinkedHashMap<>();
+        Map<PersonId, Long> keysById = new HashMap<>();
+        for (Person person : persons) {
+            long key = nextKey++;
+            personKeys.put(person.getId(), key);
+            byKey.put(key, person);
+            keysById.put(person.getId(), key);
+        }
+        sharedPersons = PersistentTreeMap.copyOf(byKey);
+        sharedPersonKeys = PersistentTreeMap.copyOf(keysById);
+    }
+
+    private void shareAllEvents() {
+        eventKeys.clear();
+        Map<Long, Event> byKey = new LinkedHashMap<>();
+        for (Event event : events) {
+            long key = nextKey++;
+            eventKeys.put(event.getIdentity(), key);
+            byKey.put(key, event);
+        }
+        sharedEvents = PersistentTreeMap.copyOf(byKey);
+    }
+
+    //// batch operations
+
+    /**
+     * Makes the modifications in {@code changes} as one batch.
+     * Listeners of the person and event lists are told about all of them together once {@code changes} is done,
+     * instead of once per modification, even if {@code changes} throws. Change listeners of this address book are
+     * still told about each modification as it is made. Batches may be nested.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        persons.beginBatch();
+        events.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            events.endBatch();
+            persons.endBatch();
+        }
     }
 
     //// util methods
 
+    /**
+     * Records how to reverse every later modification of this address book in {@code history}.
+     */
+    void setHistory(AddressBookHistory history) {
+        requireNonNull(history);
+        this.history = history;
+    }
+
+    /**
+     * Returns a counter that increases whenever the data in this address book is modified.
+     * Two equal readings mean that nothing was modified in between.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Registers {@code listener} to be told about every later modification of this address book, right after it is
+     * made.
+     */
+    public void addChangeListener(Consumer<AddressBookChange> listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Returns an immutable version of the current data, which may be read from other threads while this address book
+     * continues to change.
+     * Taking a snapshot copies nothing, as the address book keeps a persistent version of its data up to date with
+     * each modification at a cost of O(log n).
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(sharedPersons, sharedPersonKeys, sharedEvents);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -169,6 +494,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> getPersonById(PersonId id) {
+        requireNonNull(id);
+        return persons.getPerson(id);
+    }
+
+    @Override
+    public List<Person> getPersonsWithIdsBetween(PersonId fromId, PersonId toId) {
+        return snapshot().getPersonsWithIdsBetween(fromId, toId);
+    }
+
+    @Override
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return events.getOverlapping(from, to);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
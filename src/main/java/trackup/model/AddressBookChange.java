@@ -0,0 +1,212 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import trackup.commons.core.index.Index;
+import trackup.commons.util.ToStringBuilder;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+
+/**
+ * Describes a single modification made to an {@code AddressBook}.
+ * Guarantees: immutable.
+ */
+public final class AddressBookChange {
+
+    /**
+     * The kinds of modifications to an address book.
+     */
+    public enum Kind {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON, ADD_EVENT, SET_EVENT, DELETE_EVENT, ADD_NOTE, DELETE_NOTE,
+        /** Replaces the whole content of the address book; it is not described any further. */
+        RESET
+    }
+
+    private final Kind kind;
+    private final PersonId personId;
+    private final Person person;
+    private final Event targetEvent;
+    private final Event event;
+    private final Note note;
+    private final Index noteIndex;
+
+    private AddressBookChange(Kind kind, PersonId personId, Person person, Event targetEvent, Event event,
+            Note note, Index noteIndex) {
+        this.kind = kind;
+        this.personId = personId;
+        this.person = person;
+        this.targetEvent = targetEvent;
+        this.event = event;
+        this.note = note;
+        this.noteIndex = noteIndex;
+    }
+
+    /**
+     * Returns a change that adds {@code person}, as stored in the address book.
+     */
+    public static AddressBookChange addPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Kind.ADD_PERSON, person.getId(), person, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces the person with {@code targetId} by {@code editedPerson}, as stored in the
+     * address book.
+     */
+    public static AddressBookChange setPerson(PersonId targetId, Person editedPerson) {
+        requireNonNull(targetId);
+        requireNonNull(editedPerson);
+        return new AddressBookChange(Kind.SET_PERSON, targetId, editedPerson, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that deletes the person with {@code id}.
+     */
+    public static AddressBookChange deletePerson(PersonId id) {
+        requireNonNull(id);
+        return new AddressBookChange(Kind.DELETE_PERSON, id, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code event}.
+     */
+    public static AddressBookChange addEvent(Event event) {
+        requireNonNull(event);
+        return new AddressBookChange(Kind.ADD_EVENT, null, null, null, event, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} by {@code editedEvent}.
+     */
+    public static AddressBookChange setEvent(Event target, Event editedEvent) {
+        requireNonNull(target);
+        requireNonNull(editedEvent);
+        return new AddressBookChange(Kind.SET_EVENT, null, null, target, editedEvent, null, null);
+    }
+
+    /**
+     * Returns a change that deletes {@code event}.
+     */
+    public static AddressBookChange deleteEvent(Event event) {
+        requireNonNull(event);
+        return new AddressBookChange(Kind.DELETE_EVENT, null, null, null, event, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code note} to the person with {@code personId}.
+     */
+    public static AddressBookChange addNote(PersonId personId, Note note) {
+        requireNonNull(personId);
+        requireNonNull(note);
+        return new AddressBookChange(Kind.ADD_NOTE, personId, null, null, null, note, null);
+    }
+
+    /**
+     * Returns a change that deletes the note at {@code noteIndex} from the person with {@code personId}.
+     */
+    public static AddressBookChange deleteNote(PersonId personId, Index noteIndex) {
+        requireNonNull(personId);
+        requireNonNull(noteIndex);
+        return new AddressBookChange(Kind.DELETE_NOTE, personId, null, null, null, null, noteIndex);
+    }
+
+    /**
+     * Returns a change that replaces the whole content of the address book.
+     */
+    public static AddressBookChange reset() {
+        return new AddressBookChange(Kind.RESET, null, null, null, null, null, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns true if this change replaces the whole content of the address book.
+     */
+    public boolean isReset() {
+        return kind == Kind.RESET;
+    }
+
+    /**
+     * Returns the identifier of the person that is added, replaced or deleted, or whose notes change.
+     */
+    public Optional<PersonId> getPersonId() {
+        return Optional.ofNullable(personId);
+    }
+
+    /**
+     * Returns the person that is added, or that replaces another.
+     */
+    public Optional<Person> getPerson() {
+        return Optional.ofNullable(person);
+    }
+
+    /**
+     * Returns the event that is replaced.
+     */
+    public Optional<Event> getTargetEvent() {
+        return Optional.ofNullable(targetEvent);
+    }
+
+    /**
+     * Returns the event that is added, deleted, or that replaces another.
+     */
+    public Optional<Event> getEvent() {
+        return Optional.ofNullable(event);
+    }
+
+    public Optional<Note> getNote() {
+        return Optional.ofNullable(note);
+    }
+
+    public Optional<Index> getNoteIndex() {
+        return Optional.ofNullable(noteIndex);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return kind == otherChange.kind
+                && Objects.equals(personId, otherChange.personId)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(targetEvent, otherChange.targetEvent)
+                && Objects.equals(event, otherChange.event)
+                && Objects.equals(note, otherChange.note)
+                && Objects.equals(noteIndex, otherChange.noteIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        // Index does not define its own hash code
+        Integer noteIndexValue = noteIndex == null ? null : noteIndex.getZeroBased();
+        return Objects.hash(kind, personId, person, targetEvent, event, note, noteIndexValue);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("personId", personId)
+                .add("person", person)
+                .add("targetEvent", targetEvent)
+                .add("event", event)
+                .add("note", note)
+                .add("noteIndex", noteIndex)
+                .toString();
+    }
+}
@@ -0,0 +1,259 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+
+/**
+ * The modifications made to an {@code AddressBook} by recent commands, kept so that they can be undone and redone.
+ *
+ * Every modification is recorded as the operation that reverses it, which holds only the data that the modification
+ * replaced or removed, so each step of the history takes memory in proportion to what its command changed rather than
+ * to the size of the address book. Undoing a step applies its operations in reverse order, which records the
+ * operations that reverse them in turn as the step to redo. The oldest steps are forgotten once the estimated memory
+ * taken by all steps exceeds the budget. A step that alone exceeds the budget is dropped as soon as it does, and the
+ * whole history is forgotten with it, as the older steps would no longer reverse the address book they were recorded
+ * against. Nothing is recorded while the budget is zero.
+ */
+final class AddressBookHistory {
+
+    private static final String MESSAGE_CONSTRAINTS = "The memory budget of the undo history cannot be negative";
+
+    // Rough sizes in bytes of the objects that operations hold, used to estimate the memory taken by a step
+    private static final long OPERATION_BYTES = 64;
+    private static final long PERSON_BYTES = 320;
+    private static final long NOTE_BYTES = 48;
+    private static final long EVENT_BYTES = 160;
+    private static final long CONTACT_BYTES = 32;
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private Step currentStep = new Step();
+    private long budgetBytes;
+    private long usedBytes;
+
+    /**
+     * Creates an empty history that keeps steps taking up to about {@code budgetBytes} bytes in total.
+     */
+    AddressBookHistory(long budgetBytes) {
+        setBudget(budgetBytes);
+    }
+
+    /**
+     * Keeps steps taking up to about {@code budgetBytes} bytes in total from now on, forgetting the oldest steps if
+     * the steps kept so far take more.
+     */
+    void setBudget(long budgetBytes) {
+        checkArgument(budgetBytes >= 0, MESSAGE_CONSTRAINTS);
+        this.budgetBytes = budgetBytes;
+        trimToBudget();
+    }
+
+    /**
+     * Returns true if modifications are recorded, which they are unless the budget is zero.
+     * Callers may skip working out what to record when it is not.
+     */
+    boolean isRecording() {
+        return budgetBytes > 0;
+    }
+
+    /**
+     * Records {@code inverse}, which reverses the modification just made to the address book, as part of the current
+     * step. {@code estimatedBytes} is the memory taken by the data that {@code inverse} holds.
+     */
+    void record(Consumer<AddressBook> inverse, long estimatedBytes) {
+        requireNonNull(inverse);
+        if (!isRecording()) {
+            return;
+        }
+        currentStep.add(inverse, estimatedBytes);
+        if (currentStep.estimatedBytes > budgetBytes) {
+            currentStep.drop();
+        }
+    }
+
+    /**
+     * Ends the current step. If any modification was recorded in it, it becomes the next step to undo, and the steps
+     * that could be redone are forgotten. If the step was too large to keep, the steps to undo are forgotten too.
+     *
+     * @return false if the step was too large to keep, so no modification made so far can be undone.
+     */
+    boolean commit() {
+        if (currentStep.isEmpty()) {
+            return true;
+        }
+        boolean isKept = !currentStep.isDropped();
+        if (isKept) {
+            push(undoSteps);
+        } else {
+            currentStep = new Step();
+            forget(undoSteps);
+        }
+        forget(redoSteps);
+        trimToBudget();
+        return isKept;
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || currentStep.hasInverses();
+    }
+
+    boolean canRedo() {
+        return currentStep.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverses the modifications of the latest step on {@code addressBook}, after ending the current step.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    void undo(AddressBook addressBook) {
+        commit();
+        if (undoSteps.isEmpty()) {
+            throw new IllegalStateException("There is no step to undo");
+        }
+        replay(undoSteps, redoSteps, addressBook);
+    }
+
+    /**
+     * Makes the modifications of the latest undone step on {@code addressBook} again.
+     *
+     * @throws IllegalStateException if there is no step to redo, or modifications were made since the last undo.
+     */
+    void redo(AddressBook addressBook) {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no step to redo");
+        }
+        replay(redoSteps, undoSteps, addressBook);
+    }
+
+    /**
+     * Applies the operations of the latest step in {@code from} to {@code addressBook} and moves the operations that
+     * reverse them, as recorded meanwhile, to {@code to}.
+     * If an operation fails, the whole history is forgotten, as it no longer matches the address book.
+     */
+    private void replay(Deque<Step> from, Deque<Step> to, AddressBook addressBook) {
+        requireNonNull(addressBook);
+        assert currentStep.isEmpty() : "Modifications must be committed before a step is replayed";
+        Step step = from.pop();
+        usedBytes -= step.estimatedBytes;
+        try {
+            addressBook.batch(() -> step.applyInReverse(addressBook));
+        } catch (RuntimeException e) {
+            undoSteps.clear();
+            redoSteps.clear();
+            currentStep = new Step();
+            usedBytes = 0;
+            throw e;
+        }
+        if (currentStep.isDropped()) {
+            // The steps left in to were recorded against the address book before the replay
+            currentStep = new Step();
+            forget(to);
+        } else if (currentStep.hasInverses()) {
+            push(to);
+        }
+        trimToBudget();
+    }
+
+    private void forget(Deque<Step> steps) {
+        while (!steps.isEmpty()) {
+            usedBytes -= steps.pop().estimatedBytes;
+        }
+    }
+
+    /**
+     * Pushes the current step onto {@code steps} and starts a new one.
+     */
+    private void push(Deque<Step> steps) {
+        steps.push(currentStep);
+        usedBytes += currentStep.estimatedBytes;
+        currentStep = new Step();
+    }
+
+    /**
+     * Forgets the oldest steps to undo, then the furthest steps to redo, until the steps kept fit in the budget.
+     */
+    private void trimToBudget() {
+        while (usedBytes > budgetBytes && !undoSteps.isEmpty()) {
+            usedBytes -= undoSteps.removeLast().estimatedBytes;
+        }
+        while (usedBytes > budgetBytes && !redoSteps.isEmpty()) {
+            usedBytes -= redoSteps.removeLast().estimatedBytes;
+        }
+    }
+
+    /**
+     * Returns the estimated memory in bytes taken by {@code person}, apart from the tags and category it shares with
+     * other persons.
+     */
+    static long estimateSize(Person person) {
+        long size = PERSON_BYTES + 2L * (person.getName().fullName.length() + person.getPhone().value.length()
+                + person.getEmail().value.length() + person.getAddress().value.length());
+        for (Note note : person.getNotes()) {
+            size += NOTE_BYTES + 2L * note.text.length();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated memory in bytes taken by {@code event}.
+     */
+    static long estimateSize(Event event) {
+        return EVENT_BYTES + 2L * event.getTitle().length() + CONTACT_BYTES * event.getContactIds().size();
+    }
+
+    /**
+     * The operations that reverse the modifications made by one command, in the order the modifications were made.
+     */
+    private static class Step {
+        private final List<Consumer<AddressBook>> inverses = new ArrayList<>();
+        private long estimatedBytes;
+        private boolean isDropped;
+
+        void add(Consumer<AddressBook> inverse, long estimatedBytes) {
+            if (!isDropped) {
+                inverses.add(inverse);
+            }
+            this.estimatedBytes += OPERATION_BYTES + estimatedBytes;
+        }
+
+        /**
+         * Forgets the operations recorded so far and ignores later ones, as the step is too large to keep.
+         */
+        void drop() {
+            inverses.clear();
+            isDropped = true;
+        }
+
+        boolean isDropped() {
+            return isDropped;
+        }
+
+        /**
+         * Returns true if no modification has been recorded in this step.
+         */
+        boolean isEmpty() {
+            return inverses.isEmpty() && !isDropped;
+        }
+
+        boolean hasInverses() {
+            return !inverses.isEmpty();
+        }
+
+        void applyInReverse(AddressBook addressBook) {
+            for (int i = inverses.size() - 1; i >= 0; i--) {
+                inverses.get(i).accept(addressBook);
+            }
+        }
+    }
+}
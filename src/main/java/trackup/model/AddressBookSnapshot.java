@@ -0,0 +1,112 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import trackup.commons.util.PersistentTreeMap;
+import trackup.commons.util.ToStringBuilder;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+
+/**
+ * An immutable version of the data in an {@code AddressBook}, which may be read from any thread.
+ *
+ * A snapshot is made of persistent maps that the address book keeps up to date as it is modified, so taking one copies
+ * nothing, and consecutive snapshots share all the entries that did not change in between. The persons and events are
+ * immutable, so a snapshot holds the same instances as the address book did when it was taken.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentTreeMap<Long, Person> personsByKey;
+    private final PersistentTreeMap<PersonId, Long> personKeys;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+
+    /**
+     * Creates a snapshot of the persons and events in {@code persons} and {@code events}, in key order.
+     * {@code personKeys} must map the identifier of each person in {@code persons} to its key there.
+     */
+    AddressBookSnapshot(PersistentTreeMap<Long, Person> persons, PersistentTreeMap<PersonId, Long> personKeys,
+            PersistentTreeMap<?, Event> events) {
+        requireNonNull(persons);
+        requireNonNull(personKeys);
+        requireNonNull(events);
+        assert persons.size() == personKeys.size() : "Person keys do not match the persons.";
+        this.personsByKey = persons;
+        this.personKeys = personKeys;
+        this.persons = new ValueList<>(persons.values());
+        this.events = new ValueList<>(events.values());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public Optional<Person> getPersonById(PersonId id) {
+        requireNonNull(id);
+        Long key = personKeys.get(id);
+        return key == null ? Optional.empty() : Optional.of(personsByKey.get(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the persons in the range are looked at, at a cost of O(log n) each.
+     */
+    @Override
+    public List<Person> getPersonsWithIdsBetween(PersonId fromId, PersonId toId) {
+        requireNonNull(fromId);
+        requireNonNull(toId);
+        return personKeys.valuesBetween(fromId, toId).stream()
+                .sorted()
+                .map(personsByKey::get)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("events", events)
+                .toString();
+    }
+
+    /**
+     * An unmodifiable observable list over the values of a persistent map, which never changes and so never tells its
+     * listeners anything.
+     */
+    private static class ValueList<E> extends ObservableListBase<E> {
+        private final List<E> values;
+
+        ValueList(List<E> values) {
+            this.values = values;
+        }
+
+        @Override
+        public E get(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return values.iterator();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import trackup.model.person.Person;
+
+/**
+ * A view of the persons in a source list that pass a predicate, kept up to date one change at a time.
+ *
+ * When the source list changes, only the persons that the change adds are tested against the predicate, and only
+ * the persons entering or leaving the view are reported to listeners, so adding, editing or deleting a single person
+ * costs little however many persons are shown. Setting a different predicate tests every person again, but likewise
+ * reports only the persons that enter or leave the view; setting the predicate already in use does nothing.
+ */
+class FilteredPersonView extends TransformationList<Person, Person> {
+
+    private Predicate<? super Person> predicate;
+    // Positions in the source list of the persons in this view, in ascending order; only the first size are used
+    private int[] positions;
+    private int size;
+
+    /**
+     * Creates a view of the persons in {@code source} that pass {@code predicate}.
+     */
+    FilteredPersonView(ObservableList<Person> source, Predicate<? super Person> predicate) {
+        super(source);
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.positions = new int[source.size()];
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                positions[size++] = i;
+            }
+        }
+    }
+
+    Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons of the source list that pass {@code predicate} instead.
+     * Nothing is tested or reported if {@code predicate} is the predicate already in use.
+     */
+    void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate == this.predicate) {
+            return;
+        }
+        this.predicate = predicate;
+
+        List<? extends Person> source = getSource();
+        int[] newPositions = new int[source.size()];
+        int newSize = 0;
+        int oldIndex = 0;
+        beginChange();
+        for (int i = 0; i < source.size(); i++) {
+            boolean wasShown = oldIndex < size && positions[oldIndex] == i;
+            if (wasShown) {
+                oldIndex++;
+            }
+            Person person = source.get(i);
+            if (predicate.test(person)) {
+                newPositions[newSize++] = i;
+                if (!wasShown) {
+                    nextAdd(newSize - 1, newSize);
+                }
+            } else if (wasShown) {
+                // The persons after newSize are still those of the old view, so this is where the person is shown
+                nextRemove(newSize, person);
+            }
+        }
+        positions = newPositions;
+        size = newSize;
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Applies a change that removes and then adds a range of persons at the same position of the source list.
+     */
+    private void addRemove(ListChangeListener.Change<? extends Person> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int start = indexOfFirstAtOrAfter(from);
+        int end = indexOfFirstAtOrAfter(from + removedSize);
+
+        List<Person> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(change.getRemoved().get(positions[i] - from));
+        }
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+
+        int newSize = start + addedCount + (size - end);
+        if (newSize > positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(newSize, positions.length * 2));
+        }
+        System.arraycopy(positions, end, positions, start + addedCount, size - end);
+        System.arraycopy(added, 0, positions, start, addedCount);
+        for (int i = start + addedCount; i < newSize; i++) {
+            positions[i] += addedSize - removedSize;
+        }
+        size = newSize;
+
+        if (!removed.isEmpty()) {
+            nextRemove(start, removed);
+        }
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Applies a change that modified persons in place, which may move them into or out of this view.
+     */
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            int index = indexOfFirstAtOrAfter(i);
+            boolean wasShown = index < size && positions[index] == i;
+            boolean isShown = predicate.test(getSource().get(i));
+            if (wasShown && isShown) {
+                nextUpdate(index);
+            } else if (wasShown) {
+                System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+                size--;
+                nextRemove(index, getSource().get(i));
+            } else if (isShown) {
+                if (size == positions.length) {
+                    positions = Arrays.copyOf(positions, Math.max(1, size * 2));
+                }
+                System.arraycopy(positions, index, positions, index + 1, size - index);
+                positions[index] = i;
+                size++;
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Applies a change that reordered persons of the source list, reordering the shown ones among them to match.
+     */
+    private void permute(ListChangeListener.Change<? extends Person> change) {
+        int start = indexOfFirstAtOrAfter(change.getFrom());
+        int end = indexOfFirstAtOrAfter(change.getTo());
+        if (start == end) {
+            return;
+        }
+        int[] moved = new int[end - start];
+        for (int i = start; i < end; i++) {
+            moved[i - start] = change.getPermutation(positions[i]);
+        }
+        int[] sorted = moved.clone();
+        Arrays.sort(sorted);
+        int[] permutation = new int[end - start];
+        for (int i = 0; i < moved.length; i++) {
+            permutation[i] = start + Arrays.binarySearch(sorted, moved[i]);
+        }
+        System.arraycopy(sorted, 0, positions, start, sorted.length);
+        nextPermutation(start, end, permutation);
+    }
+
+    /**
+     * Returns the index in this view of the first person at or after {@code sourceIndex} in the source list.
+     */
+    private int indexOfFirstAtOrAfter(int sourceIndex) {
+        int index = Arrays.binarySearch(positions, 0, size, sourceIndex);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(positions, 0, size, index);
+        return viewIndex >= 0 ? viewIndex : -1;
+    }
+
+    @Override
+    public Person get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
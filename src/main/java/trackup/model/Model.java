@@ -1,12 +1,18 @@
 package trackup.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import trackup.commons.core.GuiSettings;
+import trackup.commons.core.index.Index;
 import trackup.model.event.Event;
+import trackup.model.note.Note;
 import trackup.model.person.Person;
 
 /**
@@ -54,6 +60,61 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that increases whenever the address book data is modified through this model.
+     * Two equal readings mean that the address book did not change in between.
+     */
+    long getAddressBookGeneration();
+
+    /**
+     * Returns an immutable version of the current address book data, which may be read from other threads without
+     * copying or locking. Taking one copies nothing, and versions taken after each command share their unchanged data.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Makes the modifications to the address book in {@code changes} as one batch, so that the person and event
+     * lists, and the views over them, are updated once rather than once per modification.
+     * @throws NullPointerException if {@code changes} is null.
+     */
+    void batch(Runnable changes);
+
+    /**
+     * Returns true if there is a command whose modifications to the address book can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone command whose modifications to the address book can be made again.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverses the modifications made to the address book by the latest command that has not been undone.
+     * @throws IllegalStateException if there is no such command.
+     */
+    void undoAddressBook();
+
+    /**
+     * Makes the modifications undone by the latest undo again.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Marks the end of a command, so that the modifications it made to the address book are undone together.
+     * Undone commands can no longer be redone once a command has modified the address book.
+     *
+     * @return false if the command modified more data than the undo history can hold, so it cannot be undone.
+     */
+    boolean commitAddressBook();
+
+    /**
+     * Registers {@code listener} to be told about every later modification of the address book.
+     * @throws NullPointerException if {@code listener} is null.
+     */
+    void addAddressBookChangeListener(Consumer<AddressBookChange> listener);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -68,6 +129,7 @@ public interface Model {
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filter of the filtered person list is kept, so the person is only shown if it passes the filter.
      */
     void addPerson(Person person);
 
@@ -78,6 +140,18 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Adds {@code note} to the given person.
+     * The person must exist in the address book and have fewer than {@link Person#MAX_NOTES} notes.
+     */
+    void addNote(Person person, Note note);
+
+    /**
+     * Deletes the note at {@code noteIndex} from the given person.
+     * The person must exist in the address book and have a note at {@code noteIndex}.
+     */
+    void deleteNote(Person person, Index noteIndex);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -87,6 +161,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the persons in the address book whose name, phone, email, address, tags or category
+     * contain {@code keyword}, ignoring case.
+     * @throws NullPointerException if {@code keyword} is null.
+     */
+    Set<Person> searchPersons(String keyword);
+
+    /**
+     * Returns the persons in the address book whose name matches any of {@code keywords}, ignoring case.
+     * A keyword matches a whole word of the name, or the start of a word if it ends with
+     * {@link trackup.model.person.NameContainsKeywordsPredicate#PREFIX_WILDCARD}.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Set<Person> findPersonsByName(List<String> keywords);
+
     /**
      * Sort the filtered person list under current filter by the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -120,4 +209,16 @@ public interface Model {
     /** Returns an unmodifiable view of the event list */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns the events that list {@code person} as a contact.
+     * @throws NullPointerException if {@code person} is null.
+     */
+    List<Event> getEventsForPerson(Person person);
+
+    /**
+     * Returns the events whose time range [start, end) overlaps [{@code from}, {@code to}), ordered by start time.
+     * @throws NullPointerException if {@code from} or {@code to} is null.
+     */
+    List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to);
+
 }
@@ -4,16 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import trackup.commons.core.GuiSettings;
 import trackup.commons.core.LogsCenter;
+import trackup.commons.core.index.Index;
 import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Comparators;
 import trackup.model.person.Person;
 
 /**
@@ -24,35 +30,54 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonView filteredPersons;
     private final SortedList<Person> sortedFilteredPersons;
     private final ObservableList<Event> eventList;
+    private final AddressBookHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(new AddressBook(requireNonNull(addressBook)), new UserPrefs(requireNonNull(userPrefs)));
+    }
 
+    /**
+     * Initializes a ModelManager that takes ownership of {@code addressBook} instead of copying it.
+     */
+    private ModelManager(AddressBook addressBook, UserPrefs userPrefs) {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.addressBook = addressBook;
+        this.userPrefs = userPrefs;
+        this.filteredPersons = new FilteredPersonView(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
         this.sortedFilteredPersons = new SortedList<>(filteredPersons);
         this.eventList = this.addressBook.getEventList();
+        this.history = new AddressBookHistory(toBytes(userPrefs.getUndoHistoryMegabytes()));
+        this.addressBook.setHistory(history);
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Returns a ModelManager that adopts a freshly loaded {@code addressBook} as its data, without copying it or
+     * checking its contents for duplicates again.
+     * The caller must not retain or modify {@code addressBook} afterwards.
+     */
+    public static ModelManager fromLoadedAddressBook(AddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, userPrefs);
+        return new ModelManager(addressBook, new UserPrefs(userPrefs));
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setBudget(toBytes(userPrefs.getUndoHistoryMegabytes()));
     }
 
     @Override
@@ -94,6 +119,57 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookGeneration() {
+        return addressBook.getGeneration();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        addressBook.batch(changes);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+    }
+
+    @Override
+    public boolean commitAddressBook() {
+        return history.commit();
+    }
+
+    private static long toBytes(int megabytes) {
+        return megabytes * 1024L * 1024L;
+    }
+
+    @Override
+    public void addAddressBookChangeListener(Consumer<AddressBookChange> listener) {
+        requireNonNull(listener);
+        addressBook.addChangeListener(listener);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -108,7 +184,6 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -118,6 +193,18 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void addNote(Person person, Note note) {
+        requireAllNonNull(person, note);
+        addressBook.addNote(person, note);
+    }
+
+    @Override
+    public void deleteNote(Person person, Index noteIndex) {
+        requireAllNonNull(person, noteIndex);
+        addressBook.removeNote(person, noteIndex);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -136,8 +223,23 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Set<Person> searchPersons(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.searchPersons(keyword);
+    }
+
+    @Override
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByName(keywords);
+    }
+
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
+        if (comparator != null) {
+            Comparators.precomputeSortKeys(filteredPersons);
+        }
         sortedFilteredPersons.setComparator(comparator);
     }
 
@@ -173,6 +275,18 @@ public class ModelManager implements Model {
         return eventList;
     }
 
+    @Override
+    public List<Event> getEventsForPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getEventsForPerson(person.getId());
+    }
+
+    @Override
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsOverlapping(from, to);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
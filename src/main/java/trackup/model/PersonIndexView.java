@@ -0,0 +1,87 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+import trackup.model.person.Person;
+
+/**
+ * An unmodifiable view of selected positions of a list of persons, in a given order.
+ *
+ * Only the positions are kept, so a person is fetched from the source list each time it is read. This suits sources
+ * that produce persons on demand rather than holding them, which a {@code FilteredList} or {@code SortedList} would
+ * copy into memory in full.
+ */
+class PersonIndexView extends ObservableListBase<Person> {
+
+    private final List<Person> source;
+    private int[] positions;
+
+    /**
+     * Creates a view that shows the whole of {@code source}, in order.
+     */
+    PersonIndexView(List<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.positions = null;
+    }
+
+    /**
+     * Shows the persons at {@code positions} of the source list, in that order.
+     * If {@code positions} is null, the whole source list is shown.
+     */
+    void setPositions(int[] positions) {
+        int[] oldPositions = this.positions;
+        List<Person> removed = new PositionList(oldPositions);
+        this.positions = positions;
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        if (positions == null) {
+            return source.get(index);
+        }
+        if (index < 0 || index >= positions.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return source.get(positions[index]);
+    }
+
+    @Override
+    public int size() {
+        return positions == null ? source.size() : positions.length;
+    }
+
+    /**
+     * The persons at earlier positions, fetched only if a listener asks for them.
+     */
+    private class PositionList extends AbstractList<Person> {
+        private final int[] positions;
+
+        PositionList(int[] positions) {
+            this.positions = positions;
+        }
+
+        @Override
+        public Person get(int index) {
+            return source.get(positions == null ? index : positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions == null ? source.size() : positions.length;
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package trackup.model;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * Unmodifiable view of an address book
@@ -21,4 +27,40 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    default Optional<Person> getPersonById(PersonId id) {
+        return getPersonList().stream().filter(person -> person.getId().equals(id)).findFirst();
+    }
+
+    /**
+     * Returns the persons whose identifiers are at least {@code fromId} and less than {@code toId}, in the order of
+     * the person list.
+     */
+    default List<Person> getPersonsWithIdsBetween(PersonId fromId, PersonId toId) {
+        return getPersonList().stream()
+                .filter(person -> person.getId().compareTo(fromId) >= 0 && person.getId().compareTo(toId) < 0)
+                .toList();
+    }
+
+    /**
+     * Returns the persons linked to {@code event}.
+     */
+    default List<Person> getContacts(Event event) {
+        return event.getContactIds().stream()
+                .map(this::getPersonById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Returns the events whose time range [start, end) overlaps [{@code from}, {@code to}), ordered by start time.
+     */
+    default List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return getEventList().stream()
+                .filter(event -> event.getStartDateTime().isBefore(to) && event.getEndDateTime().isAfter(from))
+                .sorted(Comparator.comparing(Event::getStartDateTime))
+                .toList();
+    }
 }
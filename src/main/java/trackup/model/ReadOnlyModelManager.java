@@ -0,0 +1,329 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import trackup.commons.core.GuiSettings;
+import trackup.commons.core.LogsCenter;
+import trackup.commons.core.index.Index;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Comparators;
+import trackup.model.person.NameContainsKeywordsPredicate;
+import trackup.model.person.Person;
+import trackup.model.person.PersonContainsKeywordPredicate;
+
+/**
+ * Represents a model of address book data that is only browsed, never modified.
+ *
+ * The data is used as given, without being copied into an {@code AddressBook} or indexed, so that an address book
+ * which produces its persons and events on demand is never held in memory in full. The filtered person list keeps
+ * only the positions of the persons it shows, and lookups scan the data instead of using indexes. As persons may be
+ * produced afresh each time they are read, the sets of persons returned by lookups compare them by equality rather
+ * than by reference.
+ */
+public class ReadOnlyModelManager implements Model {
+    public static final String MESSAGE_READ_ONLY = "The address book is open read-only";
+
+    private static final Logger logger = LogsCenter.getLogger(ReadOnlyModelManager.class);
+
+    private final ReadOnlyAddressBook addressBook;
+    private final Path addressBookFilePath;
+    private final UserPrefs userPrefs;
+    private final PersonIndexView filteredPersons;
+    private Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+    private Comparator<Person> comparator;
+
+    /**
+     * Initializes a ReadOnlyModelManager that browses {@code addressBook}, read from {@code addressBookFilePath}.
+     * {@code addressBook} must not change afterwards.
+     */
+    public ReadOnlyModelManager(ReadOnlyAddressBook addressBook, Path addressBookFilePath,
+            ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, addressBookFilePath, userPrefs);
+        logger.fine("Initializing read-only model of " + addressBookFilePath + " with user prefs " + userPrefs);
+
+        this.addressBook = addressBook;
+        this.addressBookFilePath = addressBookFilePath;
+        this.userPrefs = new UserPrefs(userPrefs);
+        this.filteredPersons = new PersonIndexView(addressBook.getPersonList());
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    /**
+     * Returns the path of the address book being browsed, which need not be the one in the user prefs.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookFilePath;
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public long getAddressBookGeneration() {
+        return 0;
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook;
+    }
+
+    @Override
+    public void batch(Runnable changes) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return false;
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public boolean commitAddressBook() {
+        // Nothing is ever modified, so there is nothing to undo
+        return true;
+    }
+
+    @Override
+    public void addAddressBookChangeListener(Consumer<AddressBookChange> listener) {
+        requireNonNull(listener);
+        // The address book never changes, so there is nothing to tell the listener
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getPersonList().stream().anyMatch(person::isSamePerson);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addNote(Person person, Note note) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteNote(Person person, Index noteIndex) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        refreshFilteredPersons();
+    }
+
+    @Override
+    public Set<Person> searchPersons(String keyword) {
+        requireNonNull(keyword);
+        return findPersons(new PersonContainsKeywordPredicate(keyword));
+    }
+
+    @Override
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return findPersons(new NameContainsKeywordsPredicate(keywords));
+    }
+
+    /**
+     * Returns the persons that pass {@code predicate}, in a set that compares them by equality, as the address book
+     * may produce a fresh copy of a person each time it is read.
+     */
+    private Set<Person> findPersons(Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        this.comparator = comparator;
+        refreshFilteredPersons();
+    }
+
+    /**
+     * Recomputes the positions shown by the filtered person list from the current predicate and comparator.
+     * Only the persons that pass the predicate are held, and only while they are sorted.
+     */
+    private void refreshFilteredPersons() {
+        List<Person> persons = addressBook.getPersonList();
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS && comparator == null) {
+            filteredPersons.setPositions(null);
+            return;
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (predicate.test(person)) {
+                positions.add(i);
+                if (comparator != null) {
+                    matches.add(person);
+                }
+            }
+        }
+
+        if (comparator != null) {
+            Comparators.precomputeSortKeys(matches);
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < matches.size(); i++) {
+                order.add(i);
+            }
+            // A stable sort, so that equal persons stay in the order of the address book as in a SortedList
+            order.sort((first, second) -> comparator.compare(matches.get(first), matches.get(second)));
+            positions = order.stream().map(positions::get).toList();
+        }
+        filteredPersons.setPositions(positions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    //=========== Event ======================================================================================
+
+    @Override
+    public boolean hasEvent(Event event) {
+        requireNonNull(event);
+        return addressBook.getEventList().contains(event);
+    }
+
+    @Override
+    public void addEvent(Event event) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void deleteEvent(Event event) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setEvent(Event target, Event editedEvent) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return addressBook.getEventList();
+    }
+
+    @Override
+    public List<Event> getEventsForPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getEventList().stream()
+                .filter(event -> event.getContactIds().contains(person.getId()))
+                .toList();
+    }
+
+    @Override
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsOverlapping(from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReadOnlyModelManager)) {
+            return false;
+        }
+
+        ReadOnlyModelManager otherModelManager = (ReadOnlyModelManager) other;
+        return addressBook.equals(otherModelManager.addressBook)
+                && addressBookFilePath.equals(otherModelManager.addressBookFilePath)
+                && userPrefs.equals(otherModelManager.userPrefs)
+                && filteredPersons.equals(otherModelManager.filteredPersons);
+    }
+
+}
@@ -3,6 +3,7 @@ package trackup.model;
 import java.nio.file.Path;
 
 import trackup.commons.core.GuiSettings;
+import trackup.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getStorageFormat();
+
+    /**
+     * Returns the memory, in megabytes, that the history of undoable commands may take.
+     */
+    int getUndoHistoryMegabytes();
+
+    /**
+     * Returns true if the changes made to the address book are recorded in a journal next to the data file.
+     */
+    boolean isJournaling();
+
 }
@@ -1,20 +1,28 @@
 package trackup.model;
 
 import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import trackup.commons.core.GuiSettings;
+import trackup.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_MEGABYTES = 64;
+    public static final String MESSAGE_UNDO_HISTORY_CONSTRAINTS = "The undo history size cannot be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "trackup.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int undoHistoryMegabytes = DEFAULT_UNDO_HISTORY_MEGABYTES;
+    private boolean journaling;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setUndoHistoryMegabytes(newUserPrefs.getUndoHistoryMegabytes());
+        setJournaling(newUserPrefs.isJournaling());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public int getUndoHistoryMegabytes() {
+        return undoHistoryMegabytes;
+    }
+
+    /**
+     * Sets the memory, in megabytes, that the history of undoable commands may take.
+     * A size of 0 turns undo off.
+     */
+    public void setUndoHistoryMegabytes(int undoHistoryMegabytes) {
+        checkArgument(undoHistoryMegabytes >= 0, MESSAGE_UNDO_HISTORY_CONSTRAINTS);
+        this.undoHistoryMegabytes = undoHistoryMegabytes;
+    }
+
+    public boolean isJournaling() {
+        return journaling;
+    }
+
+    /**
+     * Sets whether the changes made to the address book are recorded in a journal next to the data file, rather than
+     * by saving the whole data file after every change.
+     */
+    public void setJournaling(boolean journaling) {
+        this.journaling = journaling;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +114,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && storageFormat == otherUserPrefs.storageFormat
+                && undoHistoryMegabytes == otherUserPrefs.undoHistoryMegabytes
+                && journaling == otherUserPrefs.journaling;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageFormat, undoHistoryMegabytes, journaling);
     }
 
     @Override
@@ -82,6 +130,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nUndo history size (MB) : " + undoHistoryMegabytes);
+        sb.append("\nJournaling : " + journaling);
         return sb.toString();
     }
 
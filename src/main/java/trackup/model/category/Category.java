@@ -6,11 +6,20 @@ import static trackup.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Category in the address book.
  * Guarantees: immutable; value is one of the predefined valid categories.
+ *
+ * Categories should be obtained through {@link #of(String)}, which returns one shared instance per category.
  */
 public class Category {
 
     public static final String MESSAGE_CONSTRAINTS = "Category should be one of: Client, Investor, Partner, Other";
     private static final String[] VALID_CATEGORIES = {"Client", "Investor", "Partner", "Other"};
+    private static final Category[] CANONICAL_CATEGORIES = new Category[VALID_CATEGORIES.length];
+
+    static {
+        for (int i = 0; i < VALID_CATEGORIES.length; i++) {
+            CANONICAL_CATEGORIES[i] = new Category(VALID_CATEGORIES[i]);
+        }
+    }
 
     public final String categoryName;
 
@@ -25,6 +34,21 @@ public class Category {
         this.categoryName = categoryName;
     }
 
+    /**
+     * Returns the canonical {@code Category} named {@code categoryName}.
+     *
+     * @param categoryName A valid category name.
+     */
+    public static Category of(String categoryName) {
+        requireNonNull(categoryName);
+        for (int i = 0; i < VALID_CATEGORIES.length; i++) {
+            if (VALID_CATEGORIES[i].equals(categoryName)) {
+                return CANONICAL_CATEGORIES[i];
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+    }
+
     /**
      * Returns true if a given string is a valid category name.
      */
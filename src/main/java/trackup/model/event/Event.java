@@ -5,21 +5,23 @@ import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
-import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * Represents an Event in the calendar.
  * An Event has a title, a start time, an end time, and a set of linked contacts.
+ * Contacts are referred to by their {@link PersonId}, so edits to a contact do not affect its events.
  * Events are immutable once created.
  */
 public class Event {
     private final String title;
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
-    private final Set<Person> contacts = new HashSet<>();
+    private final Set<PersonId> contactIds = new HashSet<>();
+    private final EventIdentity identity;
+    private final int hash;
 
     /**
      * Constructs an {@code Event}.
@@ -27,14 +29,23 @@ public class Event {
      * @param title The title of the event.
      * @param startDateTime The starting date and time of the event.
      * @param endDateTime The ending date and time of the event.
-     * @param contacts A set of contacts linked to this event.
+     * @param contactIds The identifiers of the contacts linked to this event.
      */
-    public Event(String title, LocalDateTime startDateTime, LocalDateTime endDateTime, Set<Person> contacts) {
-        requireAllNonNull(title, startDateTime, endDateTime, contacts);
+    public Event(String title, LocalDateTime startDateTime, LocalDateTime endDateTime, Set<PersonId> contactIds) {
+        requireAllNonNull(title, startDateTime, endDateTime, contactIds);
         this.title = title;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
-        this.contacts.addAll(contacts);
+        this.contactIds.addAll(contactIds);
+        this.identity = new EventIdentity(title, startDateTime, endDateTime);
+        this.hash = 31 * identity.hashCode() + this.contactIds.hashCode();
+    }
+
+    /**
+     * Returns the identity of this event, which events that are the same event share.
+     */
+    public EventIdentity getIdentity() {
+        return identity;
     }
 
     public String getTitle() {
@@ -50,12 +61,19 @@ public class Event {
     }
 
     /**
-     * Returns an unmodifiable view of the contacts linked to this event.
+     * Returns an unmodifiable view of the identifiers of the contacts linked to this event.
      *
-     * @return A set of contacts.
+     * @return A set of contact identifiers.
+     */
+    public Set<PersonId> getContactIds() {
+        return Collections.unmodifiableSet(contactIds);
+    }
+
+    /**
+     * Returns true if the contact with identifier {@code id} is linked to this event.
      */
-    public Set<Person> getContacts() {
-        return Collections.unmodifiableSet(contacts);
+    public boolean hasContact(PersonId id) {
+        return contactIds.contains(id);
     }
 
     /**
@@ -66,10 +84,7 @@ public class Event {
         if (otherEvent == this) {
             return true;
         }
-        return otherEvent != null
-                && otherEvent.getTitle().equals(getTitle())
-                && otherEvent.getStartDateTime().equals(getStartDateTime())
-                && otherEvent.getEndDateTime().equals(getEndDateTime());
+        return otherEvent != null && otherEvent.identity.equals(identity);
     }
 
     /**
@@ -82,25 +97,24 @@ public class Event {
             return true;
         }
 
-        if (!(other instanceof Event)) {
+        // instanceof handles nulls
+        if (!(other instanceof Event otherEvent)) {
             return false;
         }
 
-        Event otherEvent = (Event) other;
-        return title.equals(otherEvent.title)
-                && startDateTime.equals(otherEvent.startDateTime)
-                && endDateTime.equals(otherEvent.endDateTime)
-                && contacts.equals(otherEvent.contacts);
+        return hash == otherEvent.hash
+                && identity.equals(otherEvent.identity)
+                && contactIds.equals(otherEvent.contactIds);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(title, startDateTime, endDateTime, contacts);
+        return hash;
     }
 
     @Override
     public String toString() {
         return "Event{" + "title='" + title + '\'' + ", startDateTime=" + startDateTime
-                + ", endDateTime=" + endDateTime + ", contacts=" + contacts + '}';
+                + ", endDateTime=" + endDateTime + ", contacts=" + contactIds + '}';
     }
 }
@@ -0,0 +1,52 @@
+package trackup.model.event;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The identity of an {@link Event} as used by {@link Event#isSameEvent(Event)}: its title and time range.
+ * Identities are immutable and compute their hash once, so they are cheap keys for sets and maps of events,
+ * without hashing the contacts of the events.
+ * Guarantees: immutable; two identities are equal if and only if their events are the same event.
+ */
+public final class EventIdentity {
+
+    private final String title;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final int hash;
+
+    EventIdentity(String title, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.hash = Objects.hash(title, startDateTime, endDateTime);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventIdentity otherIdentity)) {
+            return false;
+        }
+
+        return hash == otherIdentity.hash
+                && title.equals(otherIdentity.title)
+                && startDateTime.equals(otherIdentity.startDateTime)
+                && endDateTime.equals(otherIdentity.endDateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return title + " " + startDateTime + " " + endDateTime;
+    }
+}
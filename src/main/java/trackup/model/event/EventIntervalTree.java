@@ -0,0 +1,168 @@
+package trackup.model.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A time index over events, answering "which events overlap [from, to)" without scanning every event.
+ *
+ * Events are kept in a randomized balanced binary search tree (a treap) ordered by start, end and title, which is a
+ * total order because no two events in a {@link UniqueEventList} share all three. Every node also records the latest
+ * end time found in its subtree, so a query only descends into subtrees that can still contain an overlapping event.
+ * Queries take expected O(log n + k) time for k results and return events in start time order.
+ */
+class EventIntervalTree {
+
+    private static final Comparator<Event> ORDER = Comparator.comparing(Event::getStartDateTime)
+            .thenComparing(Event::getEndDateTime)
+            .thenComparing(Event::getTitle);
+
+    private final Random priorities = new Random();
+    private Node root;
+
+    /**
+     * Adds {@code event} to the index.
+     * No event with the same identity may already be indexed.
+     */
+    void add(Event event) {
+        root = insert(root, new Node(event, priorities.nextInt()));
+    }
+
+    /**
+     * Removes the event with the same identity as {@code event} from the index, if present.
+     */
+    void remove(Event event) {
+        root = delete(root, event);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    void setAll(Iterable<Event> events) {
+        root = null;
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the events whose time range [start, end) overlaps [{@code from}, {@code to}), ordered by start time.
+     */
+    List<Event> getOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Event> result = new ArrayList<>();
+        collectOverlapping(root, from, to, result);
+        return result;
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Event> result) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, result);
+        if (!node.event.getStartDateTime().isBefore(to)) {
+            // everything to the right starts even later
+            return;
+        }
+        if (node.event.getEndDateTime().isAfter(from)) {
+            result.add(node.event);
+        }
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (toInsert.priority > node.priority) {
+            Node[] halves = split(node, toInsert.event);
+            toInsert.left = halves[0];
+            toInsert.right = halves[1];
+            return toInsert.update();
+        }
+        if (ORDER.compare(toInsert.event, node.event) < 0) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        return node.update();
+    }
+
+    private static Node delete(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = ORDER.compare(event, node.event);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = delete(node.left, event);
+        } else {
+            node.right = delete(node.right, event);
+        }
+        return node.update();
+    }
+
+    /**
+     * Splits {@code node} into the events ordered before {@code key} and the rest.
+     */
+    private static Node[] split(Node node, Event key) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (ORDER.compare(node.event, key) < 0) {
+            Node[] halves = split(node.right, key);
+            node.right = halves[0];
+            halves[0] = node.update();
+            return halves;
+        }
+        Node[] halves = split(node.left, key);
+        node.left = halves[1];
+        halves[1] = node.update();
+        return halves;
+    }
+
+    /**
+     * Merges two trees where every event in {@code lower} is ordered before every event in {@code upper}.
+     */
+    private static Node merge(Node lower, Node upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            return lower.update();
+        }
+        upper.left = merge(lower, upper.left);
+        return upper.update();
+    }
+
+    private static final class Node {
+        private final Event event;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private LocalDateTime maxEnd;
+
+        Node(Event event, int priority) {
+            this.event = event;
+            this.priority = priority;
+            this.maxEnd = event.getEndDateTime();
+        }
+
+        Node update() {
+            maxEnd = event.getEndDateTime();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+            return this;
+        }
+    }
+}
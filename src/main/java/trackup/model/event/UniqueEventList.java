@@ -3,11 +3,15 @@ package trackup.model.event;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackup.commons.util.BatchedObservableList;
 import trackup.model.event.exceptions.DuplicateEventException;
 import trackup.model.event.exceptions.EventNotFoundException;
 
@@ -18,22 +22,27 @@ import trackup.model.event.exceptions.EventNotFoundException;
  * However, the removal of an event uses {@code Event#equals(Object)} to ensure that the
  * exact event instance is removed.
  *
+ * Identity lookups are served by a hash index keyed on the {@link EventIdentity} of each event, and time range
+ * lookups by an {@link EventIntervalTree}. Both are kept in sync with the backing list by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Event> internalList = new BatchedObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<EventIdentity, Event> identityIndex = new HashMap<>();
+    private final EventIntervalTree timeIndex = new EventIntervalTree();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return identityIndex.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -45,6 +54,8 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
+        identityIndex.put(toAdd.getIdentity(), toAdd);
+        timeIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,49 +67,97 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        EventIdentity targetIdentity = target.getIdentity();
+        Event existing = identityIndex.get(targetIdentity);
+        if (existing == null || !existing.equals(target)) {
             throw new EventNotFoundException();
         }
 
-        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
+        EventIdentity editedIdentity = editedEvent.getIdentity();
+        if (!targetIdentity.equals(editedIdentity) && identityIndex.containsKey(editedIdentity)) {
             throw new DuplicateEventException();
         }
 
+        int index = internalList.indexOf(existing);
+        assert index != -1 : "Identity index is out of sync with the backing list.";
+        identityIndex.remove(targetIdentity);
+        identityIndex.put(editedIdentity, editedEvent);
+        timeIndex.remove(existing);
+        timeIndex.add(editedEvent);
         internalList.set(index, editedEvent);
     }
 
-
     /**
      * Removes the equivalent event from the list.
      * The event must exist in the list.
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        EventIdentity identity = toRemove.getIdentity();
+        Event existing = identityIndex.get(identity);
+        if (existing == null || !existing.equals(toRemove)) {
             throw new EventNotFoundException();
         }
+        internalList.remove(existing);
+        identityIndex.remove(identity);
+        timeIndex.remove(existing);
     }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        timeIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
-
     /**
      * Replaces the contents of this list with {@code events}.
-     * {@code events} must not contain duplicate events.
+     * {@code events} must not contain duplicate events, which is checked in a single hashed pass.
      */
     public void setEvents(List<Event> events) {
         requireNonNull(events);
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        Map<EventIdentity, Event> replacementIndex = new HashMap<>();
+        for (Event event : events) {
+            if (replacementIndex.putIfAbsent(event.getIdentity(), event) != null) {
+                throw new DuplicateEventException();
+            }
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        timeIndex.setAll(events);
         internalList.setAll(events);
     }
 
+    /**
+     * Returns the events whose time range overlaps [{@code from}, {@code to}), ordered by start time.
+     * An event occupies [start, end), so one that ends exactly at {@code from} is not included.
+     */
+    public List<Event> getOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return timeIndex.getOverlapping(from, to);
+    }
+
+    /**
+     * Starts a batch of modifications, which listeners of the list are told about together when the matching
+     * {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,19 +193,4 @@ public class UniqueEventList implements Iterable<Event> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code events} contains only unique events.
-     */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
-
@@ -3,6 +3,8 @@ package trackup.model.person;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.AppUtil.checkArgument;
 
+import trackup.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -31,10 +33,10 @@ public class Address implements Comparable<Address> {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
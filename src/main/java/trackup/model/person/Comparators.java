@@ -1,23 +1,42 @@
 package trackup.model.person;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.function.Function;
 
 /**
  * A utility class that provides {@link Comparator} implementations for {@link Person} objects
  * in ascending order. Each comparator compares persons based on different attributes.
+ *
+ * The comparators compare keys that are normalized once per person and cached, see {@link PersonSortKeys},
+ * rather than deriving them from the person's fields on every comparison.
  */
 public class Comparators {
 
-    public static final Comparator<Person> NAME_COMPARATOR = comparing(Person::getName);
-    public static final Comparator<Person> PHONE_COMPARATOR = comparing(Person::getPhone);
-    public static final Comparator<Person> ADDRESS_COMPARATOR = comparing(Person::getAddress);
-    public static final Comparator<Person> EMAIL_COMPARATOR = comparing(Person::getEmail);
-    public static final Comparator<Person> TAG_COMPARATOR = comparing(p -> p.getTags().toString());
-    public static final Comparator<Person> CATEGORY_COMPARATOR = comparing(p -> p.getCategory().toString());
+    /** Collections at least this large have their sort keys computed in parallel. */
+    public static final int PARALLEL_THRESHOLD = 10_000;
 
-    private static <T extends Comparable<T>> Comparator<Person> comparing(Function<Person, T> keyExtractor) {
-        return Comparator.comparing(keyExtractor);
+    public static final Comparator<Person> NAME_COMPARATOR = comparing(keys -> keys.name);
+    public static final Comparator<Person> PHONE_COMPARATOR = comparing(keys -> keys.phone);
+    public static final Comparator<Person> ADDRESS_COMPARATOR = comparing(keys -> keys.address);
+    public static final Comparator<Person> EMAIL_COMPARATOR = comparing(keys -> keys.email);
+    public static final Comparator<Person> TAG_COMPARATOR = comparing(keys -> keys.tags);
+    public static final Comparator<Person> CATEGORY_COMPARATOR = comparing(keys -> keys.category);
+
+    /**
+     * Computes the sort keys of {@code persons} ahead of a sort, in parallel if there are many of them,
+     * so that the sort itself only compares cached keys.
+     */
+    public static void precomputeSortKeys(Collection<Person> persons) {
+        if (persons.size() >= PARALLEL_THRESHOLD) {
+            persons.parallelStream().forEach(Person::getSortKeys);
+        } else {
+            persons.forEach(Person::getSortKeys);
+        }
+    }
+
+    private static Comparator<Person> comparing(Function<PersonSortKeys, String> keyExtractor) {
+        return Comparator.comparing(person -> keyExtractor.apply(person.getSortKeys()));
     }
 
 }
@@ -3,6 +3,8 @@ package trackup.model.person;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.AppUtil.checkArgument;
 
+import trackup.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -50,9 +52,75 @@ public class Email implements Comparable<Email> {
 
     /**
      * Returns if a given string is a valid email.
+     * Same as matching {@link #VALIDATION_REGEX}, but checked in a single pass, as the nested repetitions of the regex
+     * make it backtrack heavily on long domains that fail to match.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        requireNonNull(test);
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} before {@code end} are runs of alphanumeric characters separated
+     * by single special characters, as in {@code LOCAL_PART_REGEX}.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        return isSeparatedAlphanumeric(test, 0, end, SPECIAL_CHARACTERS);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} are domain labels separated by periods, as in
+     * {@code DOMAIN_REGEX}: at least two labels, with the last one as in {@code DOMAIN_LAST_PART_REGEX}.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int lastPeriod = test.lastIndexOf('.');
+        if (lastPeriod < start) {
+            return false;
+        }
+        int labelStart = start;
+        while (labelStart <= lastPeriod) {
+            int period = test.indexOf('.', labelStart);
+            if (!isSeparatedAlphanumeric(test, labelStart, period, "-")) {
+                return false;
+            }
+            labelStart = period + 1;
+        }
+        return isValidLastDomainLabel(test, lastPeriod + 1);
+    }
+
+    private static boolean isValidLastDomainLabel(String test, int start) {
+        int end = test.length();
+        if (end - start < 2 || !ValidationUtil.isAsciiAlphanumeric(test.charAt(start))
+                || !ValidationUtil.isAsciiAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (!ValidationUtil.isAsciiAlphanumeric(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} up to {@code end} are runs of alphanumeric
+     * characters separated by single characters among {@code separators}, and there is at least one run.
+     */
+    private static boolean isSeparatedAlphanumeric(String test, int start, int end, String separators) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (ValidationUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && separators.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package trackup.model.person;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -8,18 +9,44 @@ import trackup.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a whole word of the name, or, if it ends with {@link #PREFIX_WILDCARD}, the start of a word.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+
+    /** Marks a keyword that matches the name words starting with it. */
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns true if {@code keyword} matches the start of words rather than whole words.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.length() > PREFIX_WILDCARD.length() && keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    /**
+     * Returns {@code keyword} without its trailing {@link #PREFIX_WILDCARD}.
+     */
+    public static String stripWildcard(String keyword) {
+        return keyword.endsWith(PREFIX_WILDCARD)
+                ? keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length())
+                : keyword;
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return keywords.stream().anyMatch(keyword -> isPrefixKeyword(keyword)
+                ? StringUtil.containsWordStartingWithIgnoreCase(person.getName().fullName, stripWildcard(keyword))
+                : StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
     @Override
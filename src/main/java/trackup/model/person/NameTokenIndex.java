@@ -0,0 +1,87 @@
+package trackup.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A case-folded index from the words of persons' names to the persons, used for whole-word and prefix name matching.
+ *
+ * The words are kept in sorted order, so a whole-word lookup is a single search and a prefix lookup visits only the
+ * words that start with the prefix. Persons are tracked by reference, so the index must be given the exact instances
+ * that are stored.
+ */
+class NameTokenIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByToken = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        for (String token : tokensOf(person)) {
+            personsByToken.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if present.
+     */
+    void remove(Person person) {
+        for (String token : tokensOf(person)) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByToken.clear();
+    }
+
+    /**
+     * Returns the indexed persons with a name word equal to one of {@code keywords}, ignoring case.
+     * A keyword ending with {@link NameContainsKeywordsPredicate#PREFIX_WILDCARD} matches the name words that start
+     * with the rest of it instead. The returned set compares persons by reference.
+     */
+    Set<Person> find(Collection<String> keywords) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            if (NameContainsKeywordsPredicate.isPrefixKeyword(keyword)) {
+                String prefix = fold(NameContainsKeywordsPredicate.stripWildcard(keyword).trim());
+                for (Set<Person> persons : withPrefix(prefix).values()) {
+                    matches.addAll(persons);
+                }
+            } else {
+                matches.addAll(personsByToken.getOrDefault(fold(keyword.trim()), Set.of()));
+            }
+        }
+        return matches;
+    }
+
+    private Map<String, Set<Person>> withPrefix(String prefix) {
+        if (prefix.isEmpty()) {
+            return Map.of();
+        }
+        // Every word starting with the prefix sorts between the prefix and the prefix followed by the largest char
+        return personsByToken.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private static String[] tokensOf(Person person) {
+        return fold(person.getName().fullName).split("\\s+");
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -4,13 +4,11 @@ import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import trackup.commons.core.index.Index;
 import trackup.commons.util.ToStringBuilder;
 import trackup.model.category.Category;
 import trackup.model.note.Note;
@@ -24,6 +22,9 @@ public class Person {
 
     public static final int MAX_NOTES = 5;
 
+    // Stable identifier, not part of the person's identity or data
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -33,19 +34,72 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
     private final Optional<Category> category;
-    private final ObservableList<Note> notes;
+    private final List<Note> notes;
+
+    private final PersonIdentity identity;
+    // Leaves out the notes, which are only compared once everything else is equal
+    private final int hash;
+
+    // Derived from the fields above on first use; racing threads compute equal keys
+    private PersonSortKeys sortKeys;
+
     /**
      * Every field must be present and not null.
+     * The person is not given an identifier until it is added to an address book.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Optional<Category> category) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(PersonId.UNASSIGNED, name, phone, email, address, tags, category);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+                  Optional<Category> category) {
+        this(id, name, phone, email, address, tags, category, List.of());
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+                  Optional<Category> category, List<Note> notes) {
+        requireAllNonNull(id, name, phone, email, address, tags, notes);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.tags.addAll(tags);
         this.category = category; // can be Optional.empty()
-        this.notes = FXCollections.observableArrayList();
+        this.notes = List.copyOf(notes);
+        this.identity = new PersonIdentity(name, phone, email);
+        this.hash = 31 * identity.hashCode() + Objects.hash(address, this.tags, category);
+    }
+
+    public PersonId getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this person, including its notes, with the identifier {@code id}.
+     */
+    public Person withId(PersonId id) {
+        return new Person(id, name, phone, email, address, tags, category, notes);
+    }
+
+    /**
+     * Returns a copy of this person, including its identifier, with {@code notes} as its notes.
+     */
+    public Person withNotes(List<Note> notes) {
+        return new Person(id, name, phone, email, address, tags, category, notes);
+    }
+
+    /**
+     * Returns the identity of this person, which persons that are the same person share.
+     */
+    public PersonIdentity getIdentity() {
+        return identity;
     }
 
     public Name getName() {
@@ -80,32 +134,24 @@ public class Person {
         return this.category.isPresent() && this.category.get().equals(category);
     }
 
-    public ObservableList<Note> getNotes() {
-        return notes;
-    }
-
     /**
-     * Adds a note to the person's list of notes if the maximum limit has not been reached.
-     *
-     * @param note the note to add.
-     * @return true if the note was successfully added, false if the person already has the maximum number of notes.
+     * Returns the keys this person is sorted by, computing them on first use.
      */
-    public boolean addNote(Note note) {
-        if (notes.size() >= MAX_NOTES) {
-            return false;
+    PersonSortKeys getSortKeys() {
+        PersonSortKeys keys = sortKeys;
+        if (keys == null) {
+            keys = new PersonSortKeys(this);
+            sortKeys = keys;
         }
-        notes.add(note);
-        return true;
+        return keys;
     }
 
     /**
-     * Removes the note at the specified index from the person's list of notes.
-     *
-     * @param index the zero-based index of the note to remove.
-     * @throws IndexOutOfBoundsException if the index is invalid.
+     * Returns an immutable note list, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
      */
-    public void removeNote(Index index) {
-        notes.remove(index.getZeroBased());
+    public List<Note> getNotes() {
+        return notes;
     }
 
     /**
@@ -116,15 +162,13 @@ public class Person {
         if (otherPerson == this) {
             return true;
         }
-        return otherPerson != null
-                && otherPerson.getName().equals(getName())
-                && otherPerson.getPhone().equals(getPhone())
-                && otherPerson.getEmail().equals(getEmail());
+        return otherPerson != null && otherPerson.identity.equals(identity);
     }
 
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The identifier is not compared, as it only records where the person is stored.
      */
     @Override
     public boolean equals(Object other) {
@@ -137,9 +181,8 @@ public class Person {
             return false;
         }
 
-        return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
+        return hash == otherPerson.hash
+                && identity.equals(otherPerson.identity)
                 && address.equals(otherPerson.address)
                 && tags.equals(otherPerson.tags)
                 && category.equals(otherPerson.category)
@@ -148,8 +191,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, category, notes);
+        return hash;
     }
 
     @Override
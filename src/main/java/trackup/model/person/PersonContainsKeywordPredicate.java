@@ -0,0 +1,86 @@
+package trackup.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import trackup.commons.util.ToStringBuilder;
+import trackup.model.tag.Tag;
+
+/**
+ * Tests that one of a {@code Person}'s searchable attributes contains the keyword given, ignoring case.
+ * This is the plain-scan counterpart of the search served by {@link PersonSearchIndex}, and matches the same persons.
+ */
+public class PersonContainsKeywordPredicate implements Predicate<Person> {
+
+    private final String keyword;
+    private final String lowerKeyword;
+
+    /**
+     * Constructs a predicate that tests for {@code keyword}.
+     */
+    public PersonContainsKeywordPredicate(String keyword) {
+        requireNonNull(keyword);
+        this.keyword = keyword;
+        this.lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return containsKeyword(toSearchableFields(person), lowerKeyword);
+    }
+
+    /**
+     * Returns true if one of {@code fields} contains {@code lowerKeyword}.
+     */
+    static boolean containsKeyword(String[] fields, String lowerKeyword) {
+        for (String field : fields) {
+            if (field.contains(lowerKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lower-cased searchable attributes of {@code person}.
+     * Tags are joined into one attribute so that a keyword may span several tags, as in a plain scan.
+     */
+    static String[] toSearchableFields(Person person) {
+        return new String[] {
+            person.getName().fullName.toLowerCase(Locale.ROOT),
+            person.getPhone().value.toLowerCase(Locale.ROOT),
+            person.getEmail().value.toLowerCase(Locale.ROOT),
+            person.getAddress().value.toLowerCase(Locale.ROOT),
+            person.getTags().stream().map(Tag::toString).collect(Collectors.joining(" ")).toLowerCase(Locale.ROOT),
+            person.getCategory().map(category -> category.toString().toLowerCase(Locale.ROOT)).orElse("")
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonContainsKeywordPredicate)) {
+            return false;
+        }
+
+        PersonContainsKeywordPredicate otherPredicate = (PersonContainsKeywordPredicate) other;
+        return keyword.equals(otherPredicate.keyword);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keyword", keyword).toString();
+    }
+}
@@ -0,0 +1,77 @@
+package trackup.model.person;
+
+import static trackup.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the stable identifier of a Person in the address book.
+ * Unlike the displayed index, the identifier of a person never changes when the person is edited,
+ * so other entities (e.g. events) can refer to the person by it.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public class PersonId implements Comparable<PersonId> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person IDs should be positive integers";
+
+    /** Placeholder for persons that have not been given an identifier by the address book yet. */
+    public static final PersonId UNASSIGNED = new PersonId();
+
+    public final long value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param value A valid identifier.
+     */
+    public PersonId(long value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        this.value = value;
+    }
+
+    private PersonId() {
+        this.value = 0;
+    }
+
+    /**
+     * Returns true if a given value is a valid identifier.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    /**
+     * Returns true if this is an identifier given out by the address book, i.e. not {@link #UNASSIGNED}.
+     */
+    public boolean isAssigned() {
+        return value > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value == otherPersonId.value;
+    }
+
+    @Override
+    public int compareTo(PersonId other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
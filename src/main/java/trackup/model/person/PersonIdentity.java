@@ -0,0 +1,53 @@
+package trackup.model.person;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The identity of a {@link Person} as used by {@link Person#isSamePerson(Person)}: its name, phone and email.
+ * Identities are immutable and compute their hash once, so they are cheap keys for sets and maps of persons,
+ * unlike persons themselves, whose equality also covers their data fields and notes.
+ * Guarantees: immutable; two identities are equal if and only if their persons are the same person.
+ */
+public final class PersonIdentity {
+
+    private final Name name;
+    private final Phone phone;
+    // Lower-cased because Email#equals(Object) ignores case while Email#hashCode() does not
+    private final String email;
+    private final int hash;
+
+    PersonIdentity(Name name, Phone phone, Email email) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email.value.toLowerCase(Locale.ROOT);
+        this.hash = Objects.hash(name, phone, this.email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity otherIdentity)) {
+            return false;
+        }
+
+        return hash == otherIdentity.hash
+                && name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone)
+                && email.equals(otherIdentity.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + phone + " " + email;
+    }
+}
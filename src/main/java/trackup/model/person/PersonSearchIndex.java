@@ -0,0 +1,124 @@
+package trackup.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trigram inverted index over the searchable attributes of persons, used for case-insensitive substring search.
+ *
+ * Each person's name, phone, email, address, tags and category are lower-cased once when the person is indexed, and
+ * every three-character substring of them is recorded in a posting list. A search only verifies the persons found in
+ * every posting list of the keyword's trigrams. Keywords shorter than a trigram cannot be narrowed down and are
+ * verified against every person, which is still cheaper than a plain scan as no strings are built per test.
+ *
+ * Persons are tracked by reference, so the index must be given the exact instances that are stored.
+ */
+class PersonSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Person, String[]> searchableFields = new IdentityHashMap<>();
+    private final Map<Long, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        String[] fields = PersonContainsKeywordPredicate.toSearchableFields(person);
+        searchableFields.put(person, fields);
+        for (long gram : trigramsOf(fields)) {
+            postings.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if present.
+     */
+    void remove(Person person) {
+        String[] fields = searchableFields.remove(person);
+        if (fields == null) {
+            return;
+        }
+        for (long gram : trigramsOf(fields)) {
+            Set<Person> posting = postings.get(gram);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        searchableFields.clear();
+        postings.clear();
+    }
+
+    /**
+     * Returns the indexed persons with an attribute that contains {@code keyword}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> search(String keyword) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidatesFor(lowerKeyword)) {
+            if (PersonContainsKeywordPredicate.containsKeyword(searchableFields.get(candidate), lowerKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose indexed attributes contain every trigram of {@code lowerKeyword}.
+     */
+    private Iterable<Person> candidatesFor(String lowerKeyword) {
+        if (lowerKeyword.length() < GRAM_LENGTH) {
+            return searchableFields.keySet();
+        }
+
+        List<Set<Person>> postingLists = new ArrayList<>();
+        for (long gram : trigramsOf(new String[] {lowerKeyword})) {
+            Set<Person> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            postingLists.add(posting);
+        }
+
+        // Walk the shortest posting list and probe the others
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<Person> shortest = postingLists.get(0);
+        List<Set<Person>> others = postingLists.subList(1, postingLists.size());
+        List<Person> candidates = new ArrayList<>();
+        for (Person person : shortest) {
+            if (others.stream().allMatch(posting -> posting.contains(person))) {
+                candidates.add(person);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code fields}, each packed into a {@code long}.
+     * Trigrams do not span attribute boundaries.
+     */
+    private static Set<Long> trigramsOf(String[] fields) {
+        Set<Long> grams = new HashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams.add(((long) field.charAt(i) << 32) | ((long) field.charAt(i + 1) << 16) | field.charAt(i + 2));
+            }
+        }
+        return grams;
+    }
+}
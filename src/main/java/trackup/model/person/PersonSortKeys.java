@@ -0,0 +1,36 @@
+package trackup.model.person;
+
+/**
+ * The normalized keys that {@link Comparators} sort a {@link Person} by, computed once per person.
+ * Persons are immutable apart from their notes, so an edited person is a new instance with its own keys.
+ */
+final class PersonSortKeys {
+
+    final String name;
+    final String phone;
+    final String email;
+    final String address;
+    final String tags;
+    final String category;
+
+    PersonSortKeys(Person person) {
+        this.name = foldCase(person.getName().fullName);
+        this.phone = person.getPhone().value;
+        this.email = person.getEmail().value;
+        this.address = person.getAddress().value;
+        this.tags = person.getTags().toString();
+        this.category = person.getCategory().toString();
+    }
+
+    /**
+     * Returns {@code value} folded so that plain {@link String#compareTo} orders it
+     * like {@link String#compareToIgnoreCase} orders the original.
+     */
+    static String foldCase(String value) {
+        char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return new String(folded);
+    }
+}
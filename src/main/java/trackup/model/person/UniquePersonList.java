@@ -3,11 +3,20 @@ package trackup.model.person;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import trackup.commons.util.BatchedObservableList;
+import trackup.commons.util.PersistentTreeMap;
 import trackup.model.person.exceptions.DuplicatePersonException;
 import trackup.model.person.exceptions.PersonNotFoundException;
 
@@ -18,55 +27,130 @@ import trackup.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are served by a hash index keyed on the {@link PersonIdentity} of each person, which is kept in
+ * sync with the backing list by every mutating operation. Every stored person has a unique {@link PersonId}, and
+ * persons can also be looked up by it. Substring search over the persons' attributes is served by a
+ * {@link PersonSearchIndex}, and name word matching by a {@link NameTokenIndex}. The position of each person in the
+ * backing list is found in O(log n) through a tree of order keys, so edits and removals do not scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonIdentity, Person> identityIndex = new HashMap<>();
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private long nextId = 1;
+
+    // Keys that increase along the backing list; the rank of a person's key in the tree is its position in the list
+    private final Map<PersonId, Long> orderKeys = new HashMap<>();
+    private PersistentTreeMap<Long, Person> order = PersistentTreeMap.empty();
+    private long nextOrderKey;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentity());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> getPerson(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code person}, if any.
+     */
+    public Optional<Person> getSamePerson(Person person) {
+        requireNonNull(person);
+        return Optional.ofNullable(identityIndex.get(person.getIdentity()));
+    }
+
+    /**
+     * Returns the persons in the list with an attribute that contains {@code keyword}, ignoring case.
+     * The returned set compares persons by reference, and holds the instances stored in this list.
+     */
+    public Set<Person> search(String keyword) {
+        requireNonNull(keyword);
+        return searchIndex.search(keyword);
+    }
+
+    /**
+     * Returns the persons in the list whose name matches any of {@code keywords},
+     * as defined by {@link NameContainsKeywordsPredicate}.
+     * The returned set compares persons by reference, and holds the instances stored in this list.
+     */
+    public Set<Person> findByName(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.find(keywords);
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     * If the person has no identifier yet, or its identifier is already taken, a copy of the person with a fresh
+     * identifier is stored instead.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person stored = toAdd;
+        if (!toAdd.getId().isAssigned() || idIndex.containsKey(toAdd.getId())) {
+            stored = toAdd.withId(new PersonId(nextId));
+        }
+        index(stored);
+        long orderKey = nextOrderKey++;
+        orderKeys.put(stored.getId(), orderKey);
+        order = order.plus(orderKey, stored);
+        internalList.add(stored);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The stored person keeps the identifier of {@code target}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         assert target != null && editedPerson != null;
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        PersonIdentity targetIdentity = target.getIdentity();
+        Person existing = identityIndex.get(targetIdentity);
+        if (existing == null || !existing.equals(target)) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        PersonIdentity editedIdentity = editedPerson.getIdentity();
+        if (!targetIdentity.equals(editedIdentity) && identityIndex.containsKey(editedIdentity)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person stored = editedPerson.getId().equals(existing.getId())
+                ? editedPerson
+                : editedPerson.withId(existing.getId());
+        long orderKey = orderKeys.get(existing.getId());
+        int index = order.indexOf(orderKey);
+        assert internalList.get(index) == existing : "Order keys are out of sync with the backing list.";
+        identityIndex.remove(targetIdentity);
+        searchIndex.remove(existing);
+        nameIndex.remove(existing);
+        index(stored);
+        order = order.plus(orderKey, stored);
+        internalList.set(index, stored);
     }
 
     /**
@@ -75,28 +159,101 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        PersonIdentity identity = toRemove.getIdentity();
+        Person existing = identityIndex.get(identity);
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        long orderKey = orderKeys.remove(existing.getId());
+        int index = order.indexOf(orderKey);
+        assert internalList.get(index) == existing : "Order keys are out of sync with the backing list.";
+        order = order.minus(orderKey);
+        internalList.remove(index);
+        identityIndex.remove(identity);
+        idIndex.remove(existing.getId());
+        searchIndex.remove(existing);
+        nameIndex.remove(existing);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        nextId = replacement.nextId;
+        orderKeys.clear();
+        orderKeys.putAll(replacement.orderKeys);
+        order = replacement.order;
+        nextOrderKey = replacement.nextOrderKey;
+        searchIndex.clear();
+        nameIndex.clear();
+        replacement.internalList.forEach(person -> {
+            searchIndex.add(person);
+            nameIndex.add(person);
+        });
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, which is checked in a single hashed pass.
+     * Persons keep their identifiers where these are assigned and unique among {@code persons};
+     * the others are stored as copies with fresh identifiers.
      */
     public void setPersons(List<Person> persons) {
         requireNonNull(persons);
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<PersonIdentity, Person> replacementIndex = new HashMap<>();
+        long maxId = 0;
+        for (Person person : persons) {
+            if (replacementIndex.putIfAbsent(person.getIdentity(), person) != null) {
+                throw new DuplicatePersonException();
+            }
+            maxId = Math.max(maxId, person.getId().value);
         }
 
-        internalList.setAll(persons);
+        identityIndex.clear();
+        idIndex.clear();
+        searchIndex.clear();
+        nameIndex.clear();
+        // Fresh identifiers start after the largest one in use, so they never collide with kept ones
+        nextId = maxId + 1;
+        orderKeys.clear();
+        nextOrderKey = 0;
+        List<Person> replacement = new ArrayList<>(persons.size());
+        Map<Long, Person> replacementOrder = new LinkedHashMap<>();
+        for (Person person : persons) {
+            Person stored = person;
+            if (!person.getId().isAssigned() || idIndex.containsKey(person.getId())) {
+                stored = person.withId(new PersonId(nextId));
+            }
+            index(stored);
+            long orderKey = nextOrderKey++;
+            orderKeys.put(stored.getId(), orderKey);
+            replacementOrder.put(orderKey, stored);
+            replacement.add(stored);
+        }
+        order = PersistentTreeMap.copyOf(replacementOrder);
+        internalList.setAll(replacement);
+    }
+
+    /**
+     * Starts a batch of modifications, which listeners of the list are told about together when the matching
+     * {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -137,17 +294,13 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Records {@code person} in the identity, identifier, search and name indexes.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        assert persons != null : "Input list for uniqueness check should not be null.";
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private void index(Person person) {
+        identityIndex.put(person.getIdentity(), person);
+        idIndex.put(person.getId(), person);
+        searchIndex.add(person);
+        nameIndex.add(person);
+        nextId = Math.max(nextId, person.getId().value + 1);
     }
 }
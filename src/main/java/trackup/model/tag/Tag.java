@@ -3,15 +3,25 @@ package trackup.model.tag;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import trackup.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags should be obtained through {@link #of(String)}, which shares a single instance among all equal tags.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // Never evicted, as an address book only has a few hundred distinct tags
+    private static final ConcurrentMap<String, Tag> internedTags = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +35,28 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, so that equal tags share one instance and compare
+     * equal by identity.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = internedTags.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        Tag newTag = new Tag(tagName);
+        Tag existing = internedTags.putIfAbsent(tagName, newTag);
+        return existing == null ? newTag : existing;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -18,6 +18,7 @@ import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 import trackup.model.person.Phone;
 import trackup.model.tag.Tag;
 
@@ -27,24 +28,30 @@ import trackup.model.tag.Tag;
 public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
-            new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
+            new Person(new PersonId(1),
+                new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"),
-                getTagSet("friends"), Optional.of(new Category("Client"))),
-            new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
+                getTagSet("friends"), Optional.of(Category.of("Client"))),
+            new Person(new PersonId(2),
+                new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
-                getTagSet("colleagues", "friends"), Optional.of(new Category("Investor"))),
-            new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
+                getTagSet("colleagues", "friends"), Optional.of(Category.of("Investor"))),
+            new Person(new PersonId(3),
+                new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-                getTagSet("neighbours"), Optional.of(new Category("Partner"))),
-            new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
+                getTagSet("neighbours"), Optional.of(Category.of("Partner"))),
+            new Person(new PersonId(4),
+                new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                getTagSet("family"), Optional.of(new Category("Other"))),
-            new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
+                getTagSet("family"), Optional.of(Category.of("Other"))),
+            new Person(new PersonId(5),
+                new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"),
-                getTagSet("classmates"), Optional.of(new Category("Client"))),
-            new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
+                getTagSet("classmates"), Optional.of(Category.of("Client"))),
+            new Person(new PersonId(6),
+                new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"),
-                getTagSet("colleagues"), Optional.of(new Category("Investor")))
+                getTagSet("colleagues"), Optional.of(Category.of("Investor")))
         };
     }
 
@@ -61,15 +68,15 @@ public class SampleDataUtil {
             new Event("Follow-Ups",
                 thisTuesday.with(LocalTime.of(6, 0)),
                 thisTuesday.with(LocalTime.of(8, 0)),
-                new HashSet<>(Set.of(samplePersons[0], samplePersons[1]))),
+                new HashSet<>(Set.of(samplePersons[0].getId(), samplePersons[1].getId()))),
             new Event("Contract Negotiations",
                 thisThursday.with(LocalTime.of(1, 0)),
                 thisThursday.with(LocalTime.of(3, 0)),
-                new HashSet<>(Set.of(samplePersons[2], samplePersons[3]))),
+                new HashSet<>(Set.of(samplePersons[2].getId(), samplePersons[3].getId()))),
             new Event("Quarterly Reports",
                 thisSaturday.with(LocalTime.of(13, 0)),
                 thisSaturday.with(LocalTime.of(15, 0)),
-                new HashSet<>(Set.of(samplePersons[4], samplePersons[5])))
+                new HashSet<>(Set.of(samplePersons[4].getId(), samplePersons[5].getId())))
         };
     }
 
@@ -89,7 +96,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
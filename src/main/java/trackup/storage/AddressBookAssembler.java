@@ -0,0 +1,172 @@
+package trackup.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.model.event.Event;
+import trackup.model.event.exceptions.DuplicateEventException;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Builds the model's {@code AddressBook} from persons and events that are handed over one at a time as they are read,
+ * so that each can be dropped from its stored form as soon as it is converted.
+ * All persons must be added before any event, as events refer to persons.
+ * Persons saved without an identifier are given one, and events saved in the old format are migrated to refer to
+ * persons by identifier.
+ *
+ * Stored persons are held back in batches that are converted in parallel, and then merged one at a time in the order
+ * they were added, so that duplicates and invalid persons are reported as if each were converted on arrival.
+ */
+class AddressBookAssembler {
+
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_EVENT = "This event already exists in the calendar";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate person ID(s).";
+
+    private final AddressBook addressBook = new AddressBook();
+    private final ParallelPersonConverter converter = new ParallelPersonConverter();
+    private final int batchSize;
+    private final List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<PersonId> personIds = new HashSet<>();
+    private final List<Event> events = new ArrayList<>();
+    private boolean hasPlacedPersons;
+    private boolean isLegacyFormat;
+
+    AddressBookAssembler() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an assembler that converts stored persons once {@code batchSize} of them are held back.
+     */
+    AddressBookAssembler(int batchSize) {
+        assert batchSize > 0 : "Batch size must be positive";
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Converts and adds {@code jsonAdaptedPerson}.
+     * The person may be held back until more persons arrive, so errors may only be reported by a later call.
+     *
+     * @throws IllegalValueException if a person added so far violates any data constraints, or has the identifier of
+     *     a person added before it.
+     */
+    public void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        assert !hasPlacedPersons : "Persons must be added before events";
+        pendingPersons.add(jsonAdaptedPerson);
+        if (pendingPersons.size() >= batchSize) {
+            convertPendingPersons();
+        }
+    }
+
+    /**
+     * Converts the stored persons held back, then adds them in the order they arrived, stopping at the first one
+     * that could not be converted.
+     */
+    private void convertPendingPersons() throws IllegalValueException {
+        if (pendingPersons.isEmpty()) {
+            return;
+        }
+        List<JsonAdaptedPerson> records = List.copyOf(pendingPersons);
+        pendingPersons.clear();
+
+        ParallelPersonConverter.Result result = converter.convert(records);
+        List<Person> converted = result.getPersons();
+        for (int i = 0; i < converted.size(); i++) {
+            addConvertedPerson(converted.get(i));
+            isLegacyFormat |= !records.get(i).hasId();
+        }
+        result.throwIfFailed();
+    }
+
+    /**
+     * Adds {@code person}.
+     *
+     * @throws IllegalValueException if the person has the identifier of a person added before.
+     */
+    public void addPerson(Person person) throws IllegalValueException {
+        assert !hasPlacedPersons : "Persons must be added before events";
+        convertPendingPersons();
+        addConvertedPerson(person);
+    }
+
+    private void addConvertedPerson(Person person) throws IllegalValueException {
+        if (person.getId().isAssigned() && !personIds.add(person.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+        }
+        persons.add(person);
+    }
+
+    /**
+     * Converts and adds {@code jsonAdaptedEvent}, resolving its contacts among the persons added so far.
+     *
+     * @throws IllegalValueException if the event violates any data constraints, or the persons do.
+     */
+    public void addEvent(JsonAdaptedEvent jsonAdaptedEvent) throws IllegalValueException {
+        placePersons();
+        events.add(jsonAdaptedEvent.toModelType(addressBook));
+        isLegacyFormat |= jsonAdaptedEvent.hasLegacyContacts();
+    }
+
+    /**
+     * Adds {@code event}.
+     *
+     * @throws IllegalValueException if a contact of the event is not among the persons added, or the persons violate
+     *     any data constraints.
+     */
+    public void addEvent(Event event) throws IllegalValueException {
+        placePersons();
+        for (PersonId contactId : event.getContactIds()) {
+            if (addressBook.getPersonById(contactId).isEmpty()) {
+                throw new IllegalValueException(String.format(JsonAdaptedEvent.MESSAGE_UNKNOWN_CONTACT, contactId));
+            }
+        }
+        events.add(event);
+    }
+
+    /**
+     * Returns true if any person or event added was saved before persons had identifiers.
+     */
+    public boolean isLegacyFormat() {
+        return isLegacyFormat;
+    }
+
+    /**
+     * Returns the address book holding everything added.
+     *
+     * @throws IllegalValueException if there are duplicate persons or events.
+     */
+    public AddressBook build() throws IllegalValueException {
+        placePersons();
+        // Each list is checked for duplicates and built in a single pass
+        try {
+            addressBook.setEvents(events);
+        } catch (DuplicateEventException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+        return addressBook;
+    }
+
+    private void placePersons() throws IllegalValueException {
+        if (hasPlacedPersons) {
+            return;
+        }
+        convertPendingPersons();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        hasPlacedPersons = true;
+        persons.clear();
+        personIds.clear();
+    }
+}
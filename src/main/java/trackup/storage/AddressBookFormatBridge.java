@@ -0,0 +1,140 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.core.StorageFormat;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * Moves address book data between the storage formats, so that the data is kept when the format is switched in the
+ * user prefs.
+ *
+ * The data file of each format sits next to the json data file named in the user prefs, with its own extension; the
+ * sharded format keeps its data in a folder rather than a single file. When
+ * the data file of the chosen format does not exist yet, the data is imported from the file of another format, which
+ * is then renamed so that it is not imported again once it has gone stale.
+ */
+public class AddressBookFormatBridge {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatBridge.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String SHARDED_EXTENSION = ".shards";
+    private static final String IMPORTED_SUFFIX = ".imported";
+
+    private AddressBookFormatBridge() {}
+
+    /**
+     * Returns the path of the data file in {@code format} for the address book whose json data file is at
+     * {@code jsonFilePath}.
+     */
+    public static Path getFilePath(Path jsonFilePath, StorageFormat format) {
+        requireNonNull(jsonFilePath);
+        requireNonNull(format);
+
+        switch (format) {
+        case BINARY:
+            return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + BINARY_EXTENSION);
+        case SHARDED:
+            return jsonFilePath.resolveSibling(getBaseName(jsonFilePath) + SHARDED_EXTENSION);
+        default:
+            return jsonFilePath;
+        }
+    }
+
+    private static String getBaseName(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        return fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+    }
+
+    /**
+     * Returns a storage of the address book whose json data file is at {@code jsonFilePath}, with its data saved in
+     * {@code format}, which journals the changes made if {@code isJournaling}. The sharded format already saves only
+     * what changed, so it is never journaled. A journal left from when journaling was on is folded into the data file
+     * when it is read.
+     */
+    public static AddressBookStorage createStorage(Path jsonFilePath, StorageFormat format, boolean isJournaling) {
+        Path filePath = getFilePath(jsonFilePath, format);
+        if (format == StorageFormat.SHARDED) {
+            return new ShardedAddressBookStorage(filePath);
+        }
+        AtomicFileAddressBookStorage snapshotStorage = format == StorageFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+        if (isJournaling) {
+            return new JournaledAddressBookStorage(snapshotStorage,
+                    JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        }
+        if (Files.exists(JournaledAddressBookStorage.getJournalPath(filePath))) {
+            return JournaledAddressBookStorage.withJournalingOff(snapshotStorage);
+        }
+        return snapshotStorage;
+    }
+
+    /**
+     * Imports the address book whose json data file is at {@code jsonFilePath} into {@code format}, from the data
+     * file of another format, if there is no data file in {@code format} yet.
+     *
+     * @return true if the address book was imported.
+     * @throws DataLoadingException if the data file of the other format could not be read.
+     * @throws IOException if the address book could not be saved in {@code format}.
+     */
+    public static boolean importFromOtherFormats(Path jsonFilePath, StorageFormat format)
+            throws DataLoadingException, IOException {
+        AddressBookStorage target = createStorage(jsonFilePath, format, false);
+        if (hasData(target.getAddressBookFilePath())) {
+            return false;
+        }
+
+        for (StorageFormat otherFormat : StorageFormat.values()) {
+            AddressBookStorage source = createStorage(jsonFilePath, otherFormat, false);
+            if (otherFormat == format || !hasData(source.getAddressBookFilePath())) {
+                continue;
+            }
+
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (addressBook.isEmpty()) {
+                continue;
+            }
+            logger.info("Importing " + source.getAddressBookFilePath() + " into " + target.getAddressBookFilePath());
+            target.saveAddressBook(addressBook.get());
+            setAside(source.getAddressBookFilePath());
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean hasData(Path filePath) {
+        if (Files.isDirectory(filePath)) {
+            return Files.exists(ShardedAddressBookStorage.getManifestPath(filePath));
+        }
+        return Files.exists(filePath) || Files.exists(AtomicFileAddressBookStorage.getBackupPath(filePath));
+    }
+
+    /**
+     * Renames the data file at {@code filePath}, its backup, their checksums and any journal left after it, so that
+     * their data is only imported once.
+     */
+    private static void setAside(Path filePath) throws IOException {
+        for (Path path : new Path[] {filePath, AtomicFileAddressBookStorage.getBackupPath(filePath),
+                JsonAddressBookStorage.getChecksumPath(filePath),
+                JournaledAddressBookStorage.getJournalPath(filePath)}) {
+            if (Files.exists(path)) {
+                Files.move(path, path.resolveSibling(path.getFileName() + IMPORTED_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -2,9 +2,11 @@ package trackup.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBookChange;
 import trackup.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,49 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, which is the address book last saved to the storage with {@code changes} made to it.
+     * Storages that can rewrite only what the changes touch override this; by default the whole address book is
+     * saved.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the warnings for the user gathered while reading the address book, e.g. that some of the data on disk
+     * could not be read and was set aside. By default there are none.
+     */
+    default List<String> getLoadWarnings() {
+        return List.of();
+    }
+
+    /**
+     * Returns true if this storage can only be read from, so that nothing may be saved to it.
+     */
+    default boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if this storage can record individual changes through
+     * {@link #appendChanges(ReadOnlyAddressBook, List)}, which is
+     * cheaper than saving the whole address book.
+     */
+    default boolean isJournaling() {
+        return false;
+    }
+
+    /**
+     * Records {@code changes} made to the address book that was last saved to the storage, which turned it into
+     * {@code addressBook}. The storage may save {@code addressBook} in full instead, e.g. once its journal is long.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws UnsupportedOperationException if this storage is not {@link #isJournaling() journaling}.
+     */
+    default void appendChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
 }
@@ -0,0 +1,225 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.util.StringUtil;
+import trackup.model.AddressBookChange;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ *
+ * Saving only ever needs the latest data, so requests that arrive while a save is running are coalesced: whichever
+ * address book was requested last is written once the running save finishes, and the ones before it are dropped.
+ * The address books handed to {@link #save(ReadOnlyAddressBook)} must therefore not change after being handed over.
+ * The changes that come with address books handed to {@link #save(ReadOnlyAddressBook, List)} are gathered across
+ * the dropped ones, so the storage is still told everything that changed since its last save. Changes handed to
+ * {@link #append(ReadOnlyAddressBook, List)} are all written, in order, after the address book they follow.
+ * If a save fails, {@link #flush()} saves the latest address book in full once more before giving up.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor;
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private final List<AddressBookChange> pendingSaveChanges = new ArrayList<>();
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyAddressBook pendingAppendedAddressBook;
+    private ReadOnlyAddressBook latestAddressBook;
+    private boolean isPendingSaveFull;
+    private boolean isWriteScheduled;
+
+    private volatile Consumer<IOException> errorHandler = unused -> { };
+    private volatile IOException lastFailure;
+
+    /**
+     * Creates a saver that writes to {@code storage} on its own background thread.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            // Exiting must not wait for the thread; pending saves are flushed explicitly instead
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is told about every failed save.
+     * The handler is called on the background thread.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any earlier address book or changes that have not been
+     * written yet.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (lock) {
+            latestAddressBook = addressBook;
+            pendingAddressBook = addressBook;
+            isPendingSaveFull = true;
+            pendingSaveChanges.clear();
+            pendingChanges.clear();
+            pendingAppendedAddressBook = null;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Schedules {@code addressBook}, which is the address book last scheduled with {@code changes} made to it, to be
+     * saved through {@link AddressBookStorage#saveAddressBook(ReadOnlyAddressBook, List)}.
+     * It replaces any earlier address book that has not been written yet, taking over the changes that came with it;
+     * if that address book was to be saved in full, so is this one.
+     */
+    public void save(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        synchronized (lock) {
+            if (pendingAddressBook == null) {
+                isPendingSaveFull = false;
+            }
+            latestAddressBook = addressBook;
+            pendingAddressBook = addressBook;
+            pendingSaveChanges.addAll(changes);
+            pendingChanges.clear();
+            pendingAppendedAddressBook = null;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Schedules {@code changes}, which turn the address book scheduled before them into {@code addressBook}, to be
+     * appended to the storage after everything scheduled before them.
+     * {@code addressBook} must not change after being handed over, like the ones handed to
+     * {@link #save(ReadOnlyAddressBook)}.
+     * The storage must be {@link AddressBookStorage#isJournaling() journaling}.
+     */
+    public void append(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        synchronized (lock) {
+            latestAddressBook = addressBook;
+            pendingAppendedAddressBook = addressBook;
+            pendingChanges.addAll(changes);
+            scheduleWrite();
+        }
+    }
+
+    private void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Blocks until everything scheduled so far has been written.
+     * If the latest save failed, the storage has missed the changes in it, so the latest address book is then saved
+     * in full once more before this returns.
+     *
+     * @throws IOException if saving the latest address book in full failed too, or waiting was interrupted.
+     */
+    public void flush() throws IOException {
+        // The executor runs tasks in order, so once this one has run every scheduled save is done
+        runOnSaverThread(() -> { });
+        if (lastFailure == null) {
+            return;
+        }
+
+        ReadOnlyAddressBook addressBook;
+        synchronized (lock) {
+            addressBook = latestAddressBook;
+        }
+        logger.info("Latest save failed, saving the address book in full again");
+        runOnSaverThread(() -> {
+            storage.saveAddressBook(addressBook);
+            lastFailure = null;
+        });
+    }
+
+    /**
+     * Runs {@code write} on the background thread after everything scheduled so far, and waits for it to finish.
+     */
+    private void runOnSaverThread(Write write) throws IOException {
+        try {
+            executor.submit(() -> {
+                write.run();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data to be saved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyAddressBook appendedAddressBook;
+        boolean isFullSave;
+        List<AddressBookChange> saveChanges;
+        List<AddressBookChange> changes;
+        synchronized (lock) {
+            addressBook = pendingAddressBook;
+            isFullSave = isPendingSaveFull;
+            saveChanges = List.copyOf(pendingSaveChanges);
+            changes = List.copyOf(pendingChanges);
+            appendedAddressBook = pendingAppendedAddressBook;
+            pendingAddressBook = null;
+            pendingAppendedAddressBook = null;
+            pendingSaveChanges.clear();
+            pendingChanges.clear();
+            isWriteScheduled = false;
+        }
+
+        try {
+            if (addressBook != null && isFullSave) {
+                storage.saveAddressBook(addressBook);
+            } else if (addressBook != null) {
+                storage.saveAddressBook(addressBook, saveChanges);
+            }
+            if (!changes.isEmpty()) {
+                storage.appendChanges(appendedAddressBook, changes);
+            }
+            lastFailure = null;
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            lastFailure = e;
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * A write to the storage.
+     */
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,184 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.util.FileUtil;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a single file on the hard disk, in a format given by subclasses.
+ *
+ * The file is replaced atomically on every save, while the previous file is kept as a backup next to it. A file that
+ * is missing or damaged is therefore never mistaken for an empty or partial address book; the backup is read instead.
+ * A damaged file is moved aside before the backup is put back in its place, so that nothing in it is lost, e.g. if
+ * the user edited it by hand, and the user is warned through {@link #getLoadWarnings()}.
+ */
+public abstract class AtomicFileAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_BACKUP_LOADED = "The data file %1$s could not be read, so its backup was "
+            + "loaded instead. The file that could not be read was moved to %2$s.";
+    public static final String MESSAGE_BACKUP_LOADED_FILE_KEPT = "The data file %1$s could not be read, so its backup "
+            + "was loaded instead. Move the file elsewhere before making any change if you want to keep it, as the "
+            + "next save replaces the backup by it.";
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileAddressBookStorage.class);
+
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String REJECTED_LABEL = "corrupt";
+
+    private final Path filePath;
+    private final List<String> loadWarnings = new ArrayList<>();
+
+    protected AtomicFileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the backup that holds the previously saved content of the file at {@code filePath}.
+     */
+    public static Path getBackupPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the backup of the file if the file is missing or cannot be read. A file that cannot be read is
+     * moved aside, and the backup is put back in its place.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path backupPath = getBackupPath(filePath);
+        boolean isFileRejected = false;
+        try {
+            if (Files.exists(filePath)) {
+                return Optional.of(readFile(filePath, filePath));
+            }
+            if (!Files.exists(backupPath)) {
+                return Optional.empty();
+            }
+            logger.warning("Data file " + filePath + " is missing, reading its backup " + backupPath);
+        } catch (DataLoadingException e) {
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Could not read " + filePath + ", reading its backup " + backupPath + " instead");
+            isFileRejected = true;
+        }
+
+        ReadOnlyAddressBook addressBook = readFile(backupPath, filePath);
+        if (!isFileRejected || setAsideRejectedFile(filePath)) {
+            restoreBackup(backupPath, filePath);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the warnings for the user gathered while reading the address book, e.g. that its backup was read
+     * because the data file was damaged.
+     */
+    @Override
+    public List<String> getLoadWarnings() {
+        return List.copyOf(loadWarnings);
+    }
+
+    /**
+     * Reads the address book in the existing file at {@code source}.
+     *
+     * @param source the data file at {@code filePath}, or its backup.
+     * @param filePath the data file, which may be rewritten if it is {@code source}, e.g. to migrate it to a newer
+     *     format.
+     * @throws DataLoadingException if the file could not be read, or does not hold a valid address book.
+     */
+    protected abstract ReadOnlyAddressBook readFile(Path source, Path filePath) throws DataLoadingException;
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format read by {@link #readFile(Path, Path)}.
+     */
+    protected abstract void writeFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException;
+
+    /**
+     * Moves the data file at {@code filePath}, which could not be read, aside for the user to recover from, and
+     * warns the user about it.
+     *
+     * @return true if the file was moved, so that the backup may be put in its place.
+     */
+    private boolean setAsideRejectedFile(Path filePath) {
+        Path rejectedPath = FileUtil.getSetAsidePath(filePath, REJECTED_LABEL);
+        try {
+            Files.move(filePath, rejectedPath);
+        } catch (IOException ioe) {
+            logger.warning("Could not move " + filePath + " aside: " + ioe.getMessage());
+            loadWarnings.add(String.format(MESSAGE_BACKUP_LOADED_FILE_KEPT, filePath));
+            return false;
+        }
+        logger.warning("Moved " + filePath + ", which could not be read, to " + rejectedPath);
+        loadWarnings.add(String.format(MESSAGE_BACKUP_LOADED, filePath, rejectedPath));
+        return true;
+    }
+
+    /**
+     * Puts the content of the backup at {@code backupPath} back into {@code filePath}, so that the next save does not
+     * replace the good backup by the damaged file.
+     * Failing to do so is not fatal, as the backup is still there.
+     */
+    private void restoreBackup(Path backupPath, Path filePath) {
+        try {
+            Files.copy(backupPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            backupRestored(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Could not restore " + filePath + " from its backup: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Called once the content of the backup has been copied back into the data file at {@code filePath}, for
+     * subclasses that keep other files in step with the data file.
+     */
+    protected void backupRestored(Path filePath) throws IOException {
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeFile(addressBook, out), getBackupPath(filePath));
+    }
+}
@@ -0,0 +1,297 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.category.Category;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Address;
+import trackup.model.person.Email;
+import trackup.model.person.Name;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.model.person.Phone;
+import trackup.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact binary format.
+ *
+ * A file starts with a magic number and a format version, followed by a table of the distinct tag and category names,
+ * the persons and the events, and ends with a CRC32 checksum of everything before it. Strings are written as their
+ * length in bytes followed by their UTF-8 encoding; persons refer to tags and categories by their position in the
+ * table, so each distinct name is stored and validated only once. Event times are written as seconds since the epoch
+ * in UTC, so any fraction of a second is dropped.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x54524B42; // "TRKB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file has unsupported format version %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file does not match its checksum";
+    public static final String MESSAGE_INVALID_LENGTH = "Data file holds an invalid length %d";
+    public static final String MESSAGE_INVALID_INDEX = "Data file refers to an unknown tag or category %d";
+
+    static final int NO_CATEGORY = -1;
+    static final int MAX_STRING_LENGTH = 1024 * 1024;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, leaving {@code out} open.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+            person.getCategory().ifPresent(category ->
+                    stringTable.putIfAbsent(category.categoryName, stringTable.size()));
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+
+        data.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(data, string);
+        }
+
+        data.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            data.writeLong(person.getId().value);
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(stringTable.get(tag.tagName));
+            }
+            data.writeInt(person.getCategory().map(category -> stringTable.get(category.categoryName))
+                    .orElse(NO_CATEGORY));
+            data.writeInt(person.getNotes().size());
+            for (Note note : person.getNotes()) {
+                writeString(data, note.text);
+            }
+        }
+
+        data.writeInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            writeString(data, event.getTitle());
+            data.writeLong(event.getStartDateTime().toEpochSecond(ZoneOffset.UTC));
+            data.writeLong(event.getEndDateTime().toEpochSecond(ZoneOffset.UTC));
+            List<PersonId> contactIds = event.getContactIds().stream().sorted().toList();
+            data.writeInt(contactIds.size());
+            for (PersonId contactId : contactIds) {
+                data.writeLong(contactId.value);
+            }
+        }
+
+        data.flush();
+        data.writeInt((int) checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Reads the address book at the start of {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read, is not in this format, or fails its checksum.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+
+        // The checksum only sees the bytes actually read, as it sits above the buffer
+        CheckedInputStream checkedIn = new CheckedInputStream(new BufferedInputStream(in), new CRC32());
+        DataInputStream data = new DataInputStream(checkedIn);
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = readLength(data);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(readString(data));
+        }
+        // Each distinct name is validated once, and the resulting tag or category shared by all persons
+        Tag[] tags = new Tag[stringCount];
+        Category[] categories = new Category[stringCount];
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        int personCount = readLength(data);
+        for (int i = 0; i < personCount; i++) {
+            assembler.addPerson(readPerson(data, strings, tags, categories));
+        }
+
+        int eventCount = readLength(data);
+        for (int i = 0; i < eventCount; i++) {
+            assembler.addEvent(readEvent(data));
+        }
+
+        int checksum = (int) checkedIn.getChecksum().getValue();
+        if (data.readInt() != checksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return assembler.build();
+    }
+
+    /**
+     * Reads the person record at the start of {@code data}.
+     * Tags and categories are created from {@code strings} once per position, and shared through {@code tags} and
+     * {@code categories}.
+     */
+    static Person readPerson(DataInputStream data, List<String> strings, Tag[] tags, Category[] categories)
+            throws IOException, IllegalValueException {
+        long id = data.readLong();
+        String name = readString(data);
+        String phone = readString(data);
+        String email = readString(data);
+        String address = readString(data);
+
+        int tagCount = readLength(data);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int index = readIndex(data, strings);
+            if (tags[index] == null) {
+                tags[index] = toModelValue(() -> Tag.of(strings.get(index)));
+            }
+            personTags.add(tags[index]);
+        }
+
+        int categoryIndex = data.readInt();
+        Optional<Category> category = Optional.empty();
+        if (categoryIndex != NO_CATEGORY) {
+            checkIndex(categoryIndex, strings);
+            if (categories[categoryIndex] == null) {
+                categories[categoryIndex] = toModelValue(() -> Category.of(strings.get(categoryIndex)));
+            }
+            category = Optional.of(categories[categoryIndex]);
+        }
+
+        int noteCount = readLength(data);
+        if (noteCount > Person.MAX_NOTES) {
+            throw new IllegalValueException(String.format("A person can have at most %d notes.", Person.MAX_NOTES));
+        }
+        List<Note> notes = new ArrayList<>();
+        for (int i = 0; i < noteCount; i++) {
+            String note = readString(data);
+            notes.add(toModelValue(() -> new Note(note)));
+        }
+
+        Optional<Category> personCategory = category;
+        return toModelValue(() -> new Person(id == 0 ? PersonId.UNASSIGNED : new PersonId(id),
+                new Name(name), new Phone(phone), new Email(email), new Address(address), personTags,
+                personCategory, notes));
+    }
+
+    /**
+     * Reads the event record at the start of {@code data}.
+     */
+    static Event readEvent(DataInputStream data) throws IOException, IllegalValueException {
+        String title = readString(data);
+        long start = data.readLong();
+        long end = data.readLong();
+        int contactCount = readLength(data);
+        Set<PersonId> contactIds = new HashSet<>();
+        for (int i = 0; i < contactCount; i++) {
+            long contactId = data.readLong();
+            contactIds.add(toModelValue(() -> new PersonId(contactId)));
+        }
+        return toModelValue(() -> new Event(title, LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(end, 0, ZoneOffset.UTC), contactIds));
+    }
+
+    static String readString(DataInputStream data) throws IOException {
+        int length = readLength(data);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, length));
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            throw new IOException(String.format(MESSAGE_INVALID_LENGTH, length));
+        }
+        return length;
+    }
+
+    private static int readIndex(DataInputStream data, List<String> strings) throws IOException {
+        int index = data.readInt();
+        checkIndex(index, strings);
+        return index;
+    }
+
+    private static void checkIndex(int index, List<String> strings) throws IOException {
+        if (index < 0 || index >= strings.size()) {
+            throw new IOException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+    }
+
+    /**
+     * Returns the model value made by {@code constructor}, which checks its own constraints.
+     *
+     * @throws IllegalValueException if the constraints were violated.
+     */
+    private static <T> T toModelValue(ModelConstructor<T> constructor) throws IllegalValueException {
+        try {
+            return constructor.construct();
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Constructs a model value, throwing {@code IllegalArgumentException} or {@code DateTimeException} if its
+     * constraints are violated.
+     */
+    @FunctionalInterface
+    private interface ModelConstructor<T> {
+        T construct();
+    }
+}
@@ -0,0 +1,46 @@
+package trackup.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookFormat}.
+ * Loading and saving skip the text parsing and formatting of JSON, which matters for very large address books.
+ */
+public class BinaryAddressBookStorage extends AtomicFileAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readFile(Path source, Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + source + " found.");
+
+        try (InputStream in = Files.newInputStream(source)) {
+            return BinaryAddressBookFormat.read(in);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + source + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + source + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinaryAddressBookFormat.write(addressBook, out);
+    }
+}
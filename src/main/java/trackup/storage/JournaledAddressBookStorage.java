@@ -0,0 +1,321 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.FileUtil;
+import trackup.commons.util.JsonUtil;
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file, json by default, plus a journal of the changes made
+ * since the snapshot was saved.
+ *
+ * The journal sits next to the snapshot file and holds one JSON record per line, so recording a change costs the size
+ * of the change rather than the size of the address book. Its first line names the checksum of the snapshot it
+ * follows; a journal that does not match, e.g. because the snapshot was edited by hand, is never replayed, but moved
+ * aside and reported through {@link #getLoadWarnings()}. Once the journal grows past the compaction threshold, the
+ * snapshot and journal are folded into a fresh snapshot.
+ *
+ * A storage made by {@link #withJournalingOff(AddressBookStorage)} does not journal; it only folds a journal left from
+ * when journaling was on into the snapshot as it is read.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    public static final String MESSAGE_JOURNAL_MISMATCHED = "The changes recorded in the journal %1$s do not follow "
+            + "the data file %2$s, e.g. because the data file was edited by hand or replaced by its backup, so they "
+            + "were not applied. The journal was moved to %3$s.";
+    public static final String MESSAGE_JOURNAL_RECORD_REJECTED = "Change %1$d recorded in the journal %2$s could not "
+            + "be applied, so it and the changes after it were not applied. The whole journal was copied to %3$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String HEADER_PREFIX = "TRACKUP-JOURNAL 1 ";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String REJECTED_LABEL = "rejected";
+
+    private final AddressBookStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final boolean isJournaling;
+    private final List<String> loadWarnings = new ArrayList<>();
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage with a json snapshot that compacts the journal once it is at least
+     * {@code compactionThreshold} bytes long.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)), compactionThreshold);
+    }
+
+    /**
+     * Creates a storage that keeps its snapshots in {@code snapshotStorage}, and compacts the journal once it is at
+     * least {@code compactionThreshold} bytes long.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        this(snapshotStorage, compactionThreshold, true);
+    }
+
+    private JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold,
+            boolean isJournaling) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.isJournaling = isJournaling;
+    }
+
+    /**
+     * Returns a storage that keeps its snapshots in {@code snapshotStorage} without journaling, for an address book
+     * that was journaled before. The changes left in the journal are replayed and folded into the snapshot when it is
+     * read, and the journal is removed.
+     */
+    public static JournaledAddressBookStorage withJournalingOff(AddressBookStorage snapshotStorage) {
+        return new JournaledAddressBookStorage(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD, false);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     * A last journal record that was only partly written, as left by a crash, is dropped. If any other record cannot
+     * be read or applied, the replay stops there: the address book keeps the records before it, and the journal is
+     * copied aside for recovery and cut off at that record, so that later changes can still be journalled after it.
+     * If this storage is not journaling, the replayed address book is then saved as the snapshot in place of the
+     * journal.
+     *
+     * @throws DataLoadingException if the snapshot or the journal could not be read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (snapshot.isEmpty() || !Files.exists(journalPath)) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = snapshot.get() instanceof AddressBook loaded
+                ? loaded
+                : new AddressBook(snapshot.get());
+        try {
+            replayJournal(addressBook, filePath, journalPath);
+        } catch (IOException e) {
+            logger.warning("Error reading journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (!isJournaling && Files.exists(journalPath)) {
+            foldJournal(addressBook, filePath);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook}, as replayed from the journal of the snapshot at {@code filePath}, as the snapshot.
+     * Failing to do so is not fatal, as the journal is then kept and folded again on the next read or save.
+     */
+    private void foldJournal(ReadOnlyAddressBook addressBook, Path filePath) {
+        logger.info("Journaling is off, folding journal of " + filePath + " into it");
+        try {
+            saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            logger.warning("Could not fold journal of " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private void replayJournal(AddressBook addressBook, Path filePath, Path journalPath) throws IOException {
+        String journal = FileUtil.readFromFile(journalPath);
+        int headerEnd = journal.indexOf('\n');
+        if (headerEnd < 0 || !journal.startsWith(HEADER_PREFIX)
+                || !journal.substring(HEADER_PREFIX.length(), headerEnd).equals(checksumOf(filePath))) {
+            setAsideMismatchedJournal(journal, headerEnd, filePath, journalPath);
+            return;
+        }
+
+        int replayed = 0;
+        int recordStart = headerEnd + 1;
+        String failure = null;
+        while (recordStart < journal.length()) {
+            int recordEnd = journal.indexOf('\n', recordStart);
+            if (recordEnd < 0) {
+                break;
+            }
+            boolean isLastRecord = recordEnd == journal.length() - 1;
+
+            try {
+                JsonUtil.fromJsonString(journal.substring(recordStart, recordEnd), JsonAdaptedChange.class)
+                        .applyTo(addressBook);
+            } catch (IOException e) {
+                if (!isLastRecord) {
+                    failure = e.getMessage();
+                }
+                break;
+            } catch (IllegalValueException ive) {
+                failure = ive.getMessage();
+                break;
+            }
+            replayed++;
+            recordStart = recordEnd + 1;
+        }
+        logger.info("Replayed " + replayed + " change(s) from journal " + journalPath);
+
+        if (failure != null) {
+            Path rejectedPath = FileUtil.getSetAsidePath(journalPath, REJECTED_LABEL);
+            Files.copy(journalPath, rejectedPath);
+            logger.severe("Record " + (replayed + 1) + " of journal " + journalPath + " cannot be applied: " + failure
+                    + "\nIt and the records after it were NOT replayed; the whole journal was kept as " + rejectedPath);
+            loadWarnings.add(String.format(MESSAGE_JOURNAL_RECORD_REJECTED, replayed + 1, journalPath, rejectedPath));
+            truncate(journalPath, journal.substring(0, recordStart).getBytes(StandardCharsets.UTF_8).length);
+        } else if (recordStart < journal.length()) {
+            logger.warning("Dropping a partly written record at the end of journal " + journalPath);
+            truncate(journalPath, journal.substring(0, recordStart).getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    /**
+     * Moves aside the journal at {@code journalPath}, whose content is {@code journal}, as it does not follow the
+     * snapshot at {@code filePath}. A journal without records is only removed, as nothing in it is lost.
+     */
+    private void setAsideMismatchedJournal(String journal, int headerEnd, Path filePath, Path journalPath)
+            throws IOException {
+        if (journal.isBlank() || journal.length() == headerEnd + 1) {
+            logger.info("Journal " + journalPath + " does not follow the current snapshot but is empty, removing it");
+            Files.delete(journalPath);
+            return;
+        }
+        Path rejectedPath = FileUtil.getSetAsidePath(journalPath, REJECTED_LABEL);
+        Files.move(journalPath, rejectedPath);
+        logger.severe("Journal " + journalPath + " does not follow the current snapshot " + filePath
+                + "\nNone of its changes were replayed; it was moved to " + rejectedPath);
+        loadWarnings.add(String.format(MESSAGE_JOURNAL_MISMATCHED, journalPath, filePath, rejectedPath));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} as the snapshot at {@code filePath} and starts an empty journal after it, or removes
+     * the journal if this storage is not journaling.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        if (isJournaling) {
+            FileUtil.writeToFile(getJournalPath(filePath), HEADER_PREFIX + checksumOf(filePath) + "\n");
+        } else {
+            Files.deleteIfExists(getJournalPath(filePath));
+        }
+    }
+
+    @Override
+    public List<String> getLoadWarnings() {
+        List<String> warnings = new ArrayList<>(snapshotStorage.getLoadWarnings());
+        warnings.addAll(loadWarnings);
+        return warnings;
+    }
+
+    @Override
+    public boolean isJournaling() {
+        return isJournaling;
+    }
+
+    /**
+     * Appends {@code changes} to the journal and forces them to disk. Once the journal has grown past the threshold,
+     * it is compacted by saving {@code addressBook} as a fresh snapshot.
+     * The changes must follow the address book that was last saved or journalled.
+     */
+    @Override
+    public void appendChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        if (!isJournaling) {
+            throw new UnsupportedOperationException("Journaling is off for " + getAddressBookFilePath());
+        }
+        Path filePath = getAddressBookFilePath();
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(journalPath)) {
+            throw new IOException("No saved address book to record changes after: " + filePath);
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedChange(change))).append('\n');
+        }
+        FileUtil.appendToFile(journalPath, records.toString());
+
+        if (Files.size(journalPath) >= compactionThreshold) {
+            compact(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} and its journal by {@code addressBook}, which the journal leads to.
+     * Failing to do so is not fatal, as the journal stays valid.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) {
+        logger.info("Compacting journal of " + filePath);
+        try {
+            saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            logger.warning("Could not compact journal of " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static String checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static void truncate(Path filePath, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+}
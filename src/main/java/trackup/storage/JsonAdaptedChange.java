@@ -0,0 +1,147 @@
+package trackup.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import trackup.commons.core.index.Index;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+import trackup.model.AddressBookChange.Kind;
+import trackup.model.event.exceptions.DuplicateEventException;
+import trackup.model.event.exceptions.EventNotFoundException;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.model.person.exceptions.DuplicatePersonException;
+import trackup.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, as recorded in an address book journal.
+ * Only the fields used by the kind of change are written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_KIND = "Journal record has an unknown kind: %s";
+    public static final String MESSAGE_NOT_APPLICABLE = "Journal record cannot be applied to the address book: %s";
+
+    private final String kind;
+    private final Long personId;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedEvent targetEvent;
+    private final JsonAdaptedEvent event;
+    private final JsonAdaptedNote note;
+    private final Integer noteIndex;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("kind") String kind, @JsonProperty("personId") Long personId,
+                             @JsonProperty("person") JsonAdaptedPerson person,
+                             @JsonProperty("targetEvent") JsonAdaptedEvent targetEvent,
+                             @JsonProperty("event") JsonAdaptedEvent event,
+                             @JsonProperty("note") JsonAdaptedNote note,
+                             @JsonProperty("noteIndex") Integer noteIndex) {
+        this.kind = kind;
+        this.personId = personId;
+        this.person = person;
+        this.targetEvent = targetEvent;
+        this.event = event;
+        this.note = note;
+        this.noteIndex = noteIndex;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(AddressBookChange source) {
+        kind = source.getKind().name();
+        personId = source.getPersonId().map(id -> id.value).orElse(null);
+        person = source.getPerson().map(JsonAdaptedPerson::new).orElse(null);
+        targetEvent = source.getTargetEvent().map(JsonAdaptedEvent::new).orElse(null);
+        event = source.getEvent().map(JsonAdaptedEvent::new).orElse(null);
+        note = source.getNote().map(JsonAdaptedNote::new).orElse(null);
+        noteIndex = source.getNoteIndex().map(Index::getZeroBased).orElse(null);
+    }
+
+    /**
+     * Makes the recorded change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is invalid, or does not fit the content of {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+
+        final Kind modelKind;
+        try {
+            modelKind = Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_KIND, kind));
+        }
+
+        try {
+            switch (modelKind) {
+            case ADD_PERSON:
+                addressBook.addPerson(requirePresent(person, "person").toModelType());
+                break;
+            case SET_PERSON:
+                addressBook.setPerson(getPerson(addressBook), requirePresent(person, "person").toModelType());
+                break;
+            case DELETE_PERSON:
+                addressBook.removePerson(getPerson(addressBook));
+                break;
+            case ADD_EVENT:
+                addressBook.addEvent(requirePresent(event, "event").toModelType(addressBook));
+                break;
+            case SET_EVENT:
+                addressBook.setEvent(requirePresent(targetEvent, "targetEvent").toModelType(addressBook),
+                        requirePresent(event, "event").toModelType(addressBook));
+                break;
+            case DELETE_EVENT:
+                addressBook.deleteEvent(requirePresent(event, "event").toModelType(addressBook));
+                break;
+            case ADD_NOTE:
+                if (!addressBook.addNote(getPerson(addressBook), requirePresent(note, "note").toModelType())) {
+                    throw new IllegalValueException(String.format(MESSAGE_NOT_APPLICABLE, "too many notes"));
+                }
+                break;
+            case DELETE_NOTE:
+                Person notedPerson = getPerson(addressBook);
+                int index = requirePresent(noteIndex, "noteIndex");
+                if (index < 0 || index >= notedPerson.getNotes().size()) {
+                    throw new IllegalValueException(String.format(MESSAGE_NOT_APPLICABLE, "no such note"));
+                }
+                addressBook.removeNote(notedPerson, Index.fromZeroBased(index));
+                break;
+            default:
+                // Resets are never journalled, as the whole address book is saved instead
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_KIND, kind));
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException
+                | DuplicateEventException | EventNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_APPLICABLE, e.getMessage()), e);
+        }
+    }
+
+    private Person getPerson(AddressBook addressBook) throws IllegalValueException {
+        long id = requirePresent(personId, "personId");
+        if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        return addressBook.getPersonById(new PersonId(id))
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_NOT_APPLICABLE,
+                        "unknown person " + id)));
+    }
+
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
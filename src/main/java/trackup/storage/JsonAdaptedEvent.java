@@ -4,26 +4,43 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import trackup.commons.core.LogsCenter;
 import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * Linked contacts are stored as the identifiers of persons in the same address book.
  */
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_CONTACT = "Event's contact %s does not refer to a known person.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedEvent.class);
 
     private final String title;
     private final String startDateTime;
     private final String endDateTime;
+    private final List<Long> contactIds = new ArrayList<>();
+
+    /**
+     * Full copies of the linked contacts, as saved before persons had identifiers.
+     * Only read to migrate old data files, and never written.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> contacts = new ArrayList<>();
 
     /**
@@ -33,10 +50,14 @@ class JsonAdaptedEvent {
     public JsonAdaptedEvent(@JsonProperty("title") String title,
                             @JsonProperty("startDateTime") String startDateTime,
                             @JsonProperty("endDateTime") String endDateTime,
+                            @JsonProperty("contactIds") List<Long> contactIds,
                             @JsonProperty("contacts") List<JsonAdaptedPerson> contacts) {
         this.title = title;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
+        if (contactIds != null) {
+            this.contactIds.addAll(contactIds);
+        }
         if (contacts != null) {
             this.contacts.addAll(contacts);
         }
@@ -49,17 +70,27 @@ class JsonAdaptedEvent {
         title = source.getTitle();
         startDateTime = source.getStartDateTime().toString();
         endDateTime = source.getEndDateTime().toString();
-        contacts.addAll(source.getContacts().stream()
-                .map(JsonAdaptedPerson::new)
+        contactIds.addAll(source.getContactIds().stream()
+                .map(id -> id.value)
+                .sorted()
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this event was saved in the old format, with full copies of its contacts.
+     */
+    public boolean hasLegacyContacts() {
+        return !contacts.isEmpty();
+    }
+
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Contacts are resolved against the persons in {@code addressBook}. Contacts saved in the old format are
+     * matched to the person with the same identity, and dropped with a warning if there is no such person.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(AddressBook addressBook) throws IllegalValueException {
         if (title == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Title"));
         }
@@ -79,11 +110,30 @@ class JsonAdaptedEvent {
             throw new IllegalValueException("Invalid DateTime format for Event.");
         }
 
-        Set<Person> eventContacts = new HashSet<>();
+        Set<PersonId> eventContactIds = new HashSet<>();
+        for (Long contactId : contactIds) {
+            if (contactId == null || !PersonId.isValidId(contactId)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            PersonId modelContactId = new PersonId(contactId);
+            if (addressBook.getPersonById(modelContactId).isEmpty()) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CONTACT, contactId));
+            }
+            eventContactIds.add(modelContactId);
+        }
+
         for (JsonAdaptedPerson contact : contacts) {
-            eventContacts.add(contact.toModelType());
+            Person contactPerson = contact.toModelType();
+            Optional<Person> person = addressBook.getSamePerson(contactPerson);
+            if (person.isPresent()) {
+                eventContactIds.add(person.get().getId());
+            } else {
+                logger.warning("Dropping contact " + contactPerson.getName() + " (" + contactPerson.getEmail()
+                        + ") from event '" + title + "' at " + startDateTime
+                        + ", as the address book has no person with the same identity");
+            }
         }
 
-        return new Event(title, modelStartDateTime, modelEndDateTime, eventContacts);
+        return new Event(title, modelStartDateTime, modelEndDateTime, eventContactIds);
     }
 }
@@ -17,6 +17,7 @@ import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 import trackup.model.person.Phone;
 import trackup.model.tag.Tag;
 
@@ -27,6 +28,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -38,13 +40,16 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A missing {@code id} is allowed for data saved before persons had identifiers.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email, @JsonProperty("address") String address,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("category") String category,
                              @JsonProperty("notes") List<JsonAdaptedNote> notes) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -58,10 +63,19 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without an identifier with the given person details.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+                             String category, List<JsonAdaptedNote> notes) {
+        this(null, name, phone, email, address, tags, category, notes);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().isAssigned() ? source.getId().value : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -75,12 +89,29 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this person was saved with an identifier.
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        final PersonId modelId;
+        if (id == null) {
+            modelId = PersonId.UNASSIGNED;
+        } else {
+            if (!PersonId.isValidId(id)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            modelId = new PersonId(id);
+        }
+
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -127,7 +158,7 @@ class JsonAdaptedPerson {
             if (!Category.isValidCategoryName(category)) {
                 throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
             }
-            modelCategory = new Category(category);
+            modelCategory = Category.of(category);
         }
 
         final List<Note> modelNotes = new ArrayList<>();
@@ -139,14 +170,8 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format("A person can have at most %d notes.", Person.MAX_NOTES));
         }
 
-        Person person = new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags,
-                Optional.ofNullable(modelCategory));
-
-        for (Note note : modelNotes) {
-            person.addNote(note); // safe since we already checked the size
-        }
-
-        return person;
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags,
+                Optional.ofNullable(modelCategory), modelNotes);
     }
 
 }
@@ -0,0 +1,121 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.JsonUtil;
+import trackup.model.AddressBook;
+
+/**
+ * Reads an address book saved by {@link JsonAddressBookWriter}, or by an earlier version, straight from a stream.
+ *
+ * Persons and events are bound, validated and handed to an {@link AddressBookAssembler} one at a time, so the memory
+ * needed does not grow with the size of the file beyond the address book itself. Events only have to be held back in
+ * the rare file that lists them before its persons.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data is not a JSON object";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Address book's %s field is not a list";
+
+    private boolean isLegacyFormat;
+
+    /**
+     * Reads the address book at the start of {@code in}; anything after it is left unread.
+     * Fields other than {@code persons} and {@code events} are skipped.
+     *
+     * @throws IOException if {@code in} could not be read, or does not hold JSON in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        readInto(in, assembler);
+        AddressBook addressBook = assembler.build();
+        isLegacyFormat = assembler.isLegacyFormat();
+        return addressBook;
+    }
+
+    /**
+     * Reads the address book at the start of {@code in} into {@code assembler}, which may already hold persons and
+     * events read from elsewhere; anything after it is left unread.
+     * Fields other than {@code persons} and {@code events} are skipped.
+     *
+     * @throws IOException if {@code in} could not be read, or does not hold JSON in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void readInto(InputStream in, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        requireNonNull(assembler);
+
+        List<JsonAdaptedEvent> earlyEvents = new ArrayList<>();
+        boolean hasReadPersons = false;
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(MESSAGE_NOT_AN_OBJECT, parser.getCurrentLocation());
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if ("persons".equals(fieldName)) {
+                    readArray(parser, fieldName, JsonAdaptedPerson.class, assembler::addPerson);
+                    hasReadPersons = true;
+                } else if ("events".equals(fieldName)) {
+                    readArray(parser, fieldName, JsonAdaptedEvent.class,
+                            hasReadPersons ? assembler::addEvent : earlyEvents::add);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        for (JsonAdaptedEvent event : earlyEvents) {
+            assembler.addEvent(event);
+        }
+    }
+
+    /**
+     * Returns true if the address book last read was saved before persons had identifiers.
+     */
+    public boolean isLegacyFormat() {
+        return isLegacyFormat;
+    }
+
+    /**
+     * Binds the elements of the JSON array the parser is at one at a time, handing each to {@code consumer} before
+     * the next is read. A {@code null} array has no elements.
+     */
+    private static <T> void readArray(JsonParser parser, String fieldName, Class<T> elementClass,
+            ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(String.format(MESSAGE_NOT_AN_ARRAY, fieldName),
+                    parser.getCurrentLocation());
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(parser.readValueAs(elementClass));
+        }
+    }
+
+    /**
+     * Receives the elements read by {@link #readArray}.
+     */
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+}
@@ -3,78 +3,200 @@ package trackup.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import trackup.commons.core.LogsCenter;
 import trackup.commons.exceptions.DataLoadingException;
 import trackup.commons.exceptions.IllegalValueException;
 import trackup.commons.util.FileUtil;
-import trackup.commons.util.JsonUtil;
 import trackup.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * The checksums of the file and its backup are listed in a checksum file next to them, so that a damaged file is read
+ * from its backup instead, while the file itself stays plain json. The checksums are listed before the new file
+ * replaces the old one, and a file passes if its checksum is listed under either name, so whichever file is in place
+ * after a crash in between passes. A file that the checksum file does not list, e.g. because the checksum file was
+ * deleted after editing the data file by hand, is read as it is.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage extends AtomicFileAddressBookStorage {
+
+    public static final int DEFAULT_PRETTY_PRINT_LIMIT = 1000;
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file %s does not match its checksum";
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
-    private Path filePath;
+    private static final String CHECKSUM_SUFFIX = ".crc";
+
+    private final int prettyPrintLimit;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, DEFAULT_PRETTY_PRINT_LIMIT);
     }
 
-    public Path getAddressBookFilePath() {
-        return filePath;
+    /**
+     * Creates a storage that indents the saved file for readability while the address book has at most
+     * {@code prettyPrintLimit} persons and events together, and saves it compactly once it grows larger.
+     */
+    public JsonAddressBookStorage(Path filePath, int prettyPrintLimit) {
+        super(filePath);
+        this.prettyPrintLimit = prettyPrintLimit;
     }
 
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+    /**
+     * Returns the path of the file that lists the checksums of the data file at {@code filePath} and its backup.
+     */
+    public static Path getChecksumPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_SUFFIX);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * {@inheritDoc}
+     * A data file in the legacy format is migrated in place.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+    @Override
+    protected ReadOnlyAddressBook readFile(Path source, Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + source + " found.");
 
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        ReadOnlyAddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            verifyChecksum(source, filePath);
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                addressBook = reader.read(Channels.newInputStream(channel));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + source + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found in " + source + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (source.equals(filePath) && reader.isLegacyFormat()) {
+            migrateLegacyFile(addressBook, filePath);
+        }
+        return addressBook;
     }
 
-    @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    /**
+     * Verifies {@code source}, which is the data file at {@code filePath} or its backup, against the checksums listed
+     * for them, reading it in chunks rather than all at once.
+     * A file that is not listed is not verified.
+     */
+    private static void verifyChecksum(Path source, Path filePath) throws IOException, IllegalValueException {
+        Map<String, String> checksums = readChecksums(filePath);
+        if (!checksums.containsKey(source.getFileName().toString())) {
+            return;
+        }
+
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(source), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        if (!checksums.containsValue(Long.toHexString(crc.getValue()))) {
+            logger.warning(String.format(MESSAGE_CHECKSUM_MISMATCH, source));
+            throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, source));
+        }
+    }
+
+    /**
+     * Returns the checksums listed for the data file at {@code filePath} and its backup, keyed by file name.
+     * Each line of the checksum file holds a checksum followed by the name of the file it belongs to.
+     */
+    private static Map<String, String> readChecksums(Path filePath) throws IOException {
+        Map<String, String> checksums = new LinkedHashMap<>();
+        Path checksumPath = getChecksumPath(filePath);
+        if (!Files.exists(checksumPath)) {
+            return checksums;
+        }
+        for (String line : FileUtil.readFromFile(checksumPath).split("\n")) {
+            String[] parts = line.strip().split("\\s+", 2);
+            if (parts.length == 2) {
+                checksums.put(parts[1], parts[0]);
+            }
+        }
+        return checksums;
+    }
+
+    /**
+     * Lists {@code checksum} for the data file at {@code filePath}, and {@code backupChecksum}, if not null, for its
+     * backup.
+     */
+    private static void writeChecksums(Path filePath, String checksum, String backupChecksum) throws IOException {
+        StringBuilder content = new StringBuilder(checksum + "  " + filePath.getFileName() + "\n");
+        if (backupChecksum != null) {
+            content.append(backupChecksum).append("  ").append(getBackupPath(filePath).getFileName()).append("\n");
+        }
+        FileUtil.writeToFileAtomically(getChecksumPath(filePath), content.toString(), null);
     }
 
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
+     * Rewrites the file at {@code filePath}, saved before persons had identifiers, with the migrated
+     * {@code addressBook}, so that the migration only happens once.
+     * Failing to do so is not fatal, as the file can still be migrated the next time it is read.
      */
+    private void migrateLegacyFile(ReadOnlyAddressBook addressBook, Path filePath) {
+        logger.info("Migrating " + filePath + " to refer to persons by ID");
+        try {
+            saveAddressBook(addressBook, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Could not save migrated data to " + filePath + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The checksum of the saved file is listed along with that of its backup.
+     */
+    @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Map<String, String> checksums = readChecksums(filePath);
+        Path backupPath = getBackupPath(filePath);
+        // The current file becomes the backup, so its checksum is listed for the backup from now on
+        String backupChecksum = Files.exists(filePath)
+                ? checksums.get(filePath.getFileName().toString())
+                : checksums.get(backupPath.getFileName().toString());
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+            writeFile(addressBook, checkedOut);
+            writeChecksums(filePath, Long.toHexString(checkedOut.getChecksum().getValue()), backupChecksum);
+        }, backupPath);
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        int size = addressBook.getPersonList().size() + addressBook.getEventList().size();
+        new JsonAddressBookWriter(size <= prettyPrintLimit).write(addressBook, out);
     }
 
+    /**
+     * Lists the checksum of the backup, which is now also the content of the data file at {@code filePath}, for both.
+     * If the backup has no checksum, neither file is listed any more.
+     */
+    @Override
+    protected void backupRestored(Path filePath) throws IOException {
+        String backupChecksum = readChecksums(filePath).get(getBackupPath(filePath).getFileName().toString());
+        if (backupChecksum != null) {
+            writeChecksums(filePath, backupChecksum, backupChecksum);
+        } else {
+            Files.deleteIfExists(getChecksumPath(filePath));
+        }
+    }
 }
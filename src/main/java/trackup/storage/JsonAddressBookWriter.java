@@ -0,0 +1,65 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import trackup.commons.util.JsonUtil;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+
+/**
+ * Writes an address book as a JSON object with a {@code persons} and an {@code events} list straight to a stream.
+ *
+ * Each person and event is adapted and written on its own, so only one of them is held in its Jackson-friendly form at
+ * a time, and the output never exists as a whole in memory.
+ */
+class JsonAddressBookWriter {
+
+    private final boolean isPrettyPrinted;
+
+    /**
+     * Creates a writer whose output is indented over several lines if {@code isPrettyPrinted}, or compact otherwise.
+     */
+    JsonAddressBookWriter(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, leaving {@code out} open.
+     */
+    public void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        write(addressBook.getPersonList(), addressBook.getEventList(), out);
+    }
+
+    /**
+     * Writes an address book holding only {@code persons} and {@code events} to {@code out}, leaving {@code out}
+     * open.
+     */
+    public void write(List<Person> persons, List<Event> events, OutputStream out) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(events);
+        requireNonNull(out);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("events");
+            for (Event event : events) {
+                generator.writeObject(new JsonAdaptedEvent(event));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package trackup.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of an address book saved by {@link ShardedAddressBookStorage}, naming the segment files
+ * that currently hold its persons and events.
+ * Guarantees: immutable.
+ */
+class JsonShardManifest {
+
+    public static final int CURRENT_VERSION = 1;
+
+    private final int version;
+    private final int segmentSize;
+    private final long generation;
+    private final List<Segment> persons = new ArrayList<>();
+    private final List<Segment> events = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     * Missing segment lists are taken to be empty.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version, @JsonProperty("segmentSize") int segmentSize,
+            @JsonProperty("generation") long generation, @JsonProperty("persons") List<Segment> persons,
+            @JsonProperty("events") List<Segment> events) {
+        this.version = version;
+        this.segmentSize = segmentSize;
+        this.generation = generation;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (events != null) {
+            this.events.addAll(events);
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the number of the save that wrote this manifest, which also tells apart the files of each save.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the segments holding persons, in the order they are to be read.
+     */
+    public List<Segment> getPersonSegments() {
+        return List.copyOf(persons);
+    }
+
+    /**
+     * Returns the segments holding events, in the order they are to be read.
+     */
+    public List<Segment> getEventSegments() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * Jackson-friendly entry of a {@link JsonShardManifest}, naming the file that holds one segment.
+     */
+    static class Segment {
+
+        private final long index;
+        private final String file;
+        private final String checksum;
+
+        /**
+         * Constructs a {@code Segment} for the segment with {@code index}, held in {@code file} with the CRC32
+         * {@code checksum} in hexadecimal.
+         */
+        @JsonCreator
+        public Segment(@JsonProperty("index") long index, @JsonProperty("file") String file,
+                @JsonProperty("checksum") String checksum) {
+            this.index = index;
+            this.file = file;
+            this.checksum = checksum;
+        }
+
+        public long getIndex() {
+            return index;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.category.Category;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.model.tag.Tag;
+
+/**
+ * A read-only address book backed by a memory-mapped file in the format of {@link BinaryAddressBookFormat}.
+ *
+ * Opening the file checks its checksum and structure, and records where each person and event starts, at a cost of
+ * a few dozen bytes per record. A record is only decoded when it is read, and only the most recently read records
+ * are kept, so browsing an address book far larger than the heap is possible. The file must not change while it is
+ * open.
+ *
+ * As records are decoded afresh once they are no longer kept, reading the same position twice may give two equal
+ * but distinct persons. Duplicate persons or events and events with unknown contacts are not looked for, as doing so
+ * would decode every record; a file that passes its checksum was written from a valid address book.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    public static final String MESSAGE_TRAILING_DATA = "Data file has unexpected data after its last record";
+    public static final String MESSAGE_UNREADABLE_RECORD = "Record %d of %s could not be read: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBook.class);
+
+    private final Path filePath;
+    private final MappedFile file;
+    private final List<String> strings;
+    private final Tag[] tags;
+    private final Category[] categories;
+    private final long[] sortedPersonIds;
+    private final int[] sortedPersonPositions;
+    private final RecordList<Person> persons;
+    private final RecordList<Event> events;
+
+    private MappedAddressBook(Path filePath, MappedFile file, List<String> strings, long[] personOffsets,
+            long[] eventOffsets, int cacheSize) throws IllegalValueException {
+        this.filePath = filePath;
+        this.file = file;
+        this.strings = strings;
+        this.tags = new Tag[strings.size()];
+        this.categories = new Category[strings.size()];
+
+        int personCount = personOffsets.length - 1;
+        this.sortedPersonIds = new long[personCount];
+        for (int i = 0; i < personCount; i++) {
+            // The identifier is the first field of a person record
+            sortedPersonIds[i] = file.getLong(personOffsets[i]);
+        }
+        this.sortedPersonPositions = sortByValue(sortedPersonIds);
+        for (int i = 1; i < personCount; i++) {
+            if (sortedPersonIds[i] == sortedPersonIds[i - 1] && PersonId.isValidId(sortedPersonIds[i])) {
+                throw new IllegalValueException(AddressBookAssembler.MESSAGE_DUPLICATE_PERSON_ID);
+            }
+        }
+
+        this.persons = new RecordList<>(personOffsets, cacheSize, this::decodePerson);
+        this.events = new RecordList<>(eventOffsets, cacheSize, BinaryAddressBookFormat::readEvent);
+    }
+
+    /**
+     * Sorts {@code values} in place and returns the position each of them had before.
+     * Persons are saved in the order they were added, so their identifiers are usually sorted already.
+     */
+    private static int[] sortByValue(long[] values) {
+        int[] positions = new int[values.length];
+        boolean isSorted = true;
+        for (int i = 0; i < values.length; i++) {
+            positions[i] = i;
+            isSorted &= i == 0 || values[i - 1] <= values[i];
+        }
+        if (isSorted) {
+            return positions;
+        }
+
+        Integer[] order = Arrays.stream(positions).boxed().toArray(Integer[]::new);
+        long[] original = values.clone();
+        Arrays.sort(order, (first, second) -> Long.compare(original[first], original[second]));
+        for (int i = 0; i < values.length; i++) {
+            positions[i] = order[i];
+            values[i] = original[order[i]];
+        }
+        return positions;
+    }
+
+    /**
+     * Maps the binary address book at {@code filePath} and indexes its records.
+     *
+     * @throws IOException if the file could not be read, is not in the binary format, or fails its checksum.
+     * @throws IllegalValueException if there are persons with the same identifier.
+     */
+    public static MappedAddressBook open(Path filePath) throws IOException, IllegalValueException {
+        return open(filePath, MappedFile.DEFAULT_SEGMENT_SIZE, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Maps the binary address book at {@code filePath} in segments of {@code segmentSize} bytes, keeping up to
+     * {@code cacheSize} decoded persons and as many events.
+     */
+    public static MappedAddressBook open(Path filePath, int segmentSize, int cacheSize)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        MappedFile file = MappedFile.map(filePath, segmentSize);
+        try {
+            return new Indexer(file).index(filePath, cacheSize);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException(BinaryAddressBookFormat.MESSAGE_NOT_BINARY, e);
+        }
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if any, decoding only that person.
+     */
+    @Override
+    public Optional<Person> getPersonById(PersonId id) {
+        requireNonNull(id);
+        int found = Arrays.binarySearch(sortedPersonIds, id.value);
+        if (found < 0 || !id.isAssigned()) {
+            return Optional.empty();
+        }
+        return Optional.of(persons.get(sortedPersonPositions[found]));
+    }
+
+    private synchronized Person decodePerson(DataInputStream data) throws IOException, IllegalValueException {
+        // The tags and categories made so far are shared between threads
+        return BinaryAddressBookFormat.readPerson(data, strings, tags, categories);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + filePath + ", " + persons.size() + " persons, " + events.size()
+                + " events]";
+    }
+
+    /**
+     * Decodes the record whose bytes are in {@code data}.
+     */
+    @FunctionalInterface
+    private interface RecordDecoder<T> {
+        T decode(DataInputStream data) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * An unmodifiable list of the records of one kind, decoded on demand.
+     */
+    private class RecordList<T> extends ObservableListBase<T> {
+        private final long[] offsets;
+        private final RecordDecoder<T> decoder;
+        private final Map<Integer, T> recentlyRead;
+
+        RecordList(long[] offsets, int cacheSize, RecordDecoder<T> decoder) {
+            this.offsets = offsets;
+            this.decoder = decoder;
+            this.recentlyRead = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+        }
+
+        /**
+         * Returns the record at {@code index}.
+         *
+         * @throws IllegalStateException if the record does not hold valid data.
+         */
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            synchronized (recentlyRead) {
+                T record = recentlyRead.get(index);
+                if (record != null) {
+                    return record;
+                }
+            }
+
+            T record = decode(index);
+            synchronized (recentlyRead) {
+                recentlyRead.put(index, record);
+            }
+            return record;
+        }
+
+        private T decode(int index) {
+            byte[] bytes = new byte[Math.toIntExact(offsets[index + 1] - offsets[index])];
+            file.get(offsets[index], bytes);
+            try {
+                return decoder.decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+            } catch (IOException | IllegalValueException e) {
+                logger.warning(String.format(MESSAGE_UNREADABLE_RECORD, index, filePath, e.getMessage()));
+                throw new IllegalStateException(String.format(MESSAGE_UNREADABLE_RECORD, index, filePath,
+                        e.getMessage()), e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return offsets.length - 1;
+        }
+    }
+
+    /**
+     * Walks through a mapped binary address book once to check its structure and find where its records start.
+     * Only lengths are read; strings are skipped over rather than decoded, apart from the table of tag and category
+     * names.
+     */
+    private static class Indexer {
+        private final MappedFile file;
+        private final long end;
+        private long position;
+
+        Indexer(MappedFile file) {
+            this.file = file;
+            this.end = file.size() - Integer.BYTES;
+        }
+
+        MappedAddressBook index(Path filePath, int cacheSize) throws IOException, IllegalValueException {
+            if (file.size() < 3 * Integer.BYTES || file.getInt(0) != BinaryAddressBookFormat.MAGIC) {
+                throw new IOException(BinaryAddressBookFormat.MESSAGE_NOT_BINARY);
+            }
+            int version = file.getInt(Integer.BYTES);
+            if (version != BinaryAddressBookFormat.VERSION) {
+                throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            CRC32 crc = new CRC32();
+            file.updateChecksum(crc, 0, end);
+            if (file.getInt(end) != (int) crc.getValue()) {
+                throw new IOException(BinaryAddressBookFormat.MESSAGE_CHECKSUM_MISMATCH);
+            }
+
+            position = 2 * Integer.BYTES;
+            int stringCount = readCount(Integer.BYTES);
+            List<String> strings = new ArrayList<>(stringCount);
+            for (int i = 0; i < stringCount; i++) {
+                strings.add(readString());
+            }
+
+            // The smallest person has an identifier, four empty strings, no tags, a category and no notes
+            long[] personOffsets = new long[readCount(Long.BYTES + 7 * Integer.BYTES) + 1];
+            for (int i = 0; i < personOffsets.length - 1; i++) {
+                personOffsets[i] = position;
+                skipPerson(stringCount);
+            }
+            personOffsets[personOffsets.length - 1] = position;
+
+            // The smallest event has an empty title, two times and no contacts
+            long[] eventOffsets = new long[readCount(2 * Long.BYTES + 2 * Integer.BYTES) + 1];
+            for (int i = 0; i < eventOffsets.length - 1; i++) {
+                eventOffsets[i] = position;
+                skipEvent();
+            }
+            eventOffsets[eventOffsets.length - 1] = position;
+
+            if (position != end) {
+                throw new IOException(MESSAGE_TRAILING_DATA);
+            }
+            logger.info("Mapped " + (personOffsets.length - 1) + " persons and " + (eventOffsets.length - 1)
+                    + " events of " + filePath);
+            return new MappedAddressBook(filePath, file, strings, personOffsets, eventOffsets, cacheSize);
+        }
+
+        private void skipPerson(int stringCount) throws IOException {
+            skip(Long.BYTES);
+            for (int i = 0; i < 4; i++) {
+                skipString();
+            }
+            int tagCount = readCount(Integer.BYTES);
+            for (int i = 0; i < tagCount; i++) {
+                checkIndex(readInt(), stringCount);
+            }
+            int categoryIndex = readInt();
+            if (categoryIndex != BinaryAddressBookFormat.NO_CATEGORY) {
+                checkIndex(categoryIndex, stringCount);
+            }
+            int noteCount = readCount(Integer.BYTES);
+            for (int i = 0; i < noteCount; i++) {
+                skipString();
+            }
+        }
+
+        private void skipEvent() throws IOException {
+            skipString();
+            skip(2 * Long.BYTES);
+            skip((long) readCount(Long.BYTES) * Long.BYTES);
+        }
+
+        private String readString() throws IOException {
+            byte[] bytes = new byte[readStringLength()];
+            file.get(position, bytes);
+            position += bytes.length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void skipString() throws IOException {
+            skip(readStringLength());
+        }
+
+        private int readStringLength() throws IOException {
+            int length = readCount(1);
+            if (length > BinaryAddressBookFormat.MAX_STRING_LENGTH) {
+                throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_INVALID_LENGTH, length));
+            }
+            return length;
+        }
+
+        /**
+         * Reads a count of items that are each at least {@code minItemSize} bytes long, and checks that they fit in
+         * the rest of the file.
+         */
+        private int readCount(int minItemSize) throws IOException {
+            int count = readInt();
+            if (count < 0 || (long) count * minItemSize > end - position) {
+                throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_INVALID_LENGTH, count));
+            }
+            return count;
+        }
+
+        private int readInt() throws IOException {
+            skip(Integer.BYTES);
+            return file.getInt(position - Integer.BYTES);
+        }
+
+        private void skip(long length) throws IOException {
+            if (length > end - position) {
+                throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_INVALID_LENGTH, length));
+            }
+            position += length;
+        }
+
+        private static void checkIndex(int index, int stringCount) throws IOException {
+            if (index < 0 || index >= stringCount) {
+                throw new IOException(String.format(BinaryAddressBookFormat.MESSAGE_INVALID_INDEX, index));
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * A class to browse AddressBook data stored in the binary format of {@link BinaryAddressBookFormat} without loading
+ * it into memory, as a {@link MappedAddressBook}.
+ * The storage is read-only: the file is never written, and neither its backup nor its journal is read.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_READ_ONLY = "Data file %s is open read-only";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public MappedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file could not be mapped, or does not hold a valid address book.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(MappedAddressBook.open(filePath));
+        } catch (IOException e) {
+            logger.warning("Error mapping binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Always fails, as the storage is read-only.
+     *
+     * @throws IOException in every case.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        throw new IOException(String.format(MESSAGE_READ_ONLY, filePath));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,135 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Checksum;
+
+/**
+ * A file mapped into memory for reading, addressed by {@code long} positions.
+ *
+ * A single mapping cannot exceed 2GB, so the file is mapped as consecutive segments; values that straddle two
+ * segments are put together byte by byte. The pages of the file are loaded by the operating system as they are read
+ * and do not count towards the Java heap. The mapping stays valid after the file is closed.
+ */
+class MappedFile {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final ByteBuffer[] segments;
+    private final int segmentSize;
+    private final long size;
+
+    private MappedFile(ByteBuffer[] segments, int segmentSize, long size) {
+        this.segments = segments;
+        this.segmentSize = segmentSize;
+        this.size = size;
+    }
+
+    /**
+     * Maps the file at {@code filePath} read-only.
+     */
+    public static MappedFile map(Path filePath) throws IOException {
+        return map(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps the file at {@code filePath} read-only, in segments of {@code segmentSize} bytes.
+     */
+    static MappedFile map(Path filePath, int segmentSize) throws IOException {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[(int) ((size + segmentSize - 1) / segmentSize)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, size - start));
+            }
+            return new MappedFile(segments, segmentSize, size);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the byte at {@code position}.
+     */
+    public byte get(long position) {
+        checkRange(position, Byte.BYTES);
+        return segments[(int) (position / segmentSize)].get((int) (position % segmentSize));
+    }
+
+    /**
+     * Returns the big-endian {@code int} at {@code position}.
+     */
+    public int getInt(long position) {
+        checkRange(position, Integer.BYTES);
+        int offset = (int) (position % segmentSize);
+        if (offset + Integer.BYTES <= segmentSize) {
+            return segments[(int) (position / segmentSize)].getInt(offset);
+        }
+        return (int) readAcrossSegments(position, Integer.BYTES);
+    }
+
+    /**
+     * Returns the big-endian {@code long} at {@code position}.
+     */
+    public long getLong(long position) {
+        checkRange(position, Long.BYTES);
+        int offset = (int) (position % segmentSize);
+        if (offset + Long.BYTES <= segmentSize) {
+            return segments[(int) (position / segmentSize)].getLong(offset);
+        }
+        return readAcrossSegments(position, Long.BYTES);
+    }
+
+    private long readAcrossSegments(long position, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << Byte.SIZE) | (get(position + i) & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Copies the bytes starting at {@code position} into the whole of {@code destination}.
+     */
+    public void get(long position, byte[] destination) {
+        checkRange(position, destination.length);
+        int copied = 0;
+        while (copied < destination.length) {
+            long current = position + copied;
+            int offset = (int) (current % segmentSize);
+            int length = Math.min(destination.length - copied, segmentSize - offset);
+            segments[(int) (current / segmentSize)].get(offset, destination, copied, length);
+            copied += length;
+        }
+    }
+
+    /**
+     * Updates {@code checksum} with the bytes from {@code start} up to, but excluding, {@code end}.
+     */
+    public void updateChecksum(Checksum checksum, long start, long end) {
+        checkRange(start, end - start);
+        long current = start;
+        while (current < end) {
+            int offset = (int) (current % segmentSize);
+            int length = (int) Math.min(end - current, segmentSize - offset);
+            checksum.update(segments[(int) (current / segmentSize)].slice(offset, length));
+            current += length;
+        }
+    }
+
+    private void checkRange(long position, long length) {
+        if (position < 0 || length < 0 || position > size - length) {
+            throw new IndexOutOfBoundsException("Position " + position + " and length " + length
+                    + " are out of the mapped file of size " + size);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.person.Person;
+
+/**
+ * Converts {@link JsonAdaptedPerson} records into the model's {@code Person} objects on the common fork-join pool.
+ *
+ * Each record is validated and built on its own, so a batch of records is split into chunks that are converted on
+ * several threads. The outcome is the same as converting the records one by one in order: the persons come back in
+ * the order of their records, and if any record is invalid, the error reported is that of the first invalid record,
+ * together with the persons of the records before it. Checks that span records, such as for duplicates, are left to
+ * the caller, which merges the persons one at a time.
+ */
+class ParallelPersonConverter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final int chunkSize;
+
+    ParallelPersonConverter() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a converter that converts at most {@code chunkSize} records in each task.
+     */
+    ParallelPersonConverter(int chunkSize) {
+        assert chunkSize > 0 : "Chunk size must be positive";
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts {@code records}, in parallel if there are more than fit in a chunk.
+     */
+    public Result convert(List<JsonAdaptedPerson> records) {
+        requireNonNull(records);
+
+        JsonAdaptedPerson[] input = records.toArray(new JsonAdaptedPerson[0]);
+        Person[] output = new Person[input.length];
+        ConvertTask task = new ConvertTask(input, output, 0, input.length);
+        Failure failure = input.length <= chunkSize ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+        if (failure == null) {
+            return new Result(Arrays.asList(output), null);
+        }
+        return new Result(Arrays.asList(output).subList(0, failure.index), failure.exception);
+    }
+
+    /**
+     * The persons converted from a batch of records, and the error of the first invalid record, if any.
+     */
+    static class Result {
+        private final List<Person> persons;
+        private final IllegalValueException failure;
+
+        private Result(List<Person> persons, IllegalValueException failure) {
+            this.persons = persons;
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the persons converted, in the order of their records, up to the first invalid record.
+         */
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Throws the error of the first invalid record, if there was one.
+         */
+        public void throwIfFailed() throws IllegalValueException {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * The position of an invalid record and the error it raised.
+     */
+    private static class Failure {
+        private final int index;
+        private final IllegalValueException exception;
+
+        private Failure(int index, IllegalValueException exception) {
+            this.index = index;
+            this.exception = exception;
+        }
+    }
+
+    /**
+     * Converts the records from {@code start} up to, but excluding, {@code end}, and returns the first failure
+     * among them, or null if there is none.
+     */
+    private class ConvertTask extends RecursiveTask<Failure> {
+        private final JsonAdaptedPerson[] input;
+        private final Person[] output;
+        private final int start;
+        private final int end;
+
+        private ConvertTask(JsonAdaptedPerson[] input, Person[] output, int start, int end) {
+            this.input = input;
+            this.output = output;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (end - start <= chunkSize) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        output[i] = input[i].toModelType();
+                    } catch (IllegalValueException e) {
+                        return new Failure(i, e);
+                    }
+                }
+                return null;
+            }
+
+            int middle = (start + end) >>> 1;
+            ConvertTask left = new ConvertTask(input, output, start, middle);
+            ConvertTask right = new ConvertTask(input, output, middle, end);
+            right.fork();
+            Failure leftFailure = left.compute();
+            Failure rightFailure = right.join();
+            // The earlier failure wins, whichever chunk finished first
+            return leftFailure != null ? leftFailure : rightFailure;
+        }
+    }
+}
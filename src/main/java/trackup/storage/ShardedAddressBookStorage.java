@@ -0,0 +1,436 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.AppUtil.checkArgument;
+import static trackup.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.FileUtil;
+import trackup.commons.util.JsonUtil;
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+
+/**
+ * A class to access AddressBook data stored as a folder of json segment files on the hard disk.
+ *
+ * Persons are split into segments by ranges of their identifiers, which never change, and each event is kept in the
+ * segment of its contact with the smallest identifier, or in the first segment if it has no contacts. A manifest in
+ * the folder names the file that holds each segment, along with its checksum. Saving the changes made since the last
+ * save only rewrites the segments they touch, so its cost grows with the changes rather than with the address book:
+ * the persons of a segment are looked up by the range of their identifiers, and the events of each segment are kept
+ * in an index that is brought up to date with the changes.
+ *
+ * Every save writes its segment files under new names before replacing the manifest in a single rename, so a crash
+ * midway leaves the previous save intact; files no longer named by the manifest are deleted afterwards. As the
+ * segments are read one after another, persons are loaded grouped by the segments of their identifiers and events by
+ * the segments they are kept in, rather than in the order they were saved in.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Segment file %s does not match its checksum";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Manifest %s has unsupported version %d";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String PERSONS_PREFIX = "persons-";
+    private static final String EVENTS_PREFIX = "events-";
+    private static final String SEGMENT_FILE_FORMAT = "%s%d.%d.json";
+
+    private final Path directoryPath;
+    private final int segmentSize;
+
+    // The manifest last read from or saved to directoryPath, or null if what the folder holds is not known
+    private JsonShardManifest lastManifest;
+    // The events of the address book last read from or saved to directoryPath, by the segments they are kept in
+    private Map<Long, List<Event>> eventsBySegment;
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a storage in the folder at {@code directoryPath} that puts the persons with each
+     * {@code segmentSize} consecutive identifiers into a segment of their own.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, int segmentSize) {
+        requireNonNull(directoryPath);
+        checkArgument(segmentSize > 0, "Segment size must be positive");
+        this.directoryPath = directoryPath;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the path of the manifest of the address book saved in the folder at {@code directoryPath}.
+     */
+    public static Path getManifestPath(Path directoryPath) {
+        return directoryPath.resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Returns {@code Optional.empty()} if the folder has no manifest.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataLoadingException if the manifest or a segment could not be read, or a segment does not match its
+     *     checksum.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath)
+            throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Path manifestPath = getManifestPath(directoryPath);
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+        logger.info("Sharded data folder " + directoryPath + " found.");
+
+        JsonShardManifest manifest;
+        AddressBook addressBook;
+        try {
+            manifest = readManifest(manifestPath);
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            // Events refer to persons, so every persons segment is read before any events segment
+            for (JsonShardManifest.Segment segment : manifest.getPersonSegments()) {
+                readSegment(directoryPath.resolve(segment.getFile()), segment.getChecksum(), reader, assembler);
+            }
+            for (JsonShardManifest.Segment segment : manifest.getEventSegments()) {
+                readSegment(directoryPath.resolve(segment.getFile()), segment.getChecksum(), reader, assembler);
+            }
+            addressBook = assembler.build();
+        } catch (IOException e) {
+            logger.warning("Error reading from sharded data folder " + directoryPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (directoryPath.equals(this.directoryPath)) {
+            lastManifest = manifest;
+            eventsBySegment = groupEvents(addressBook.getEventList());
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static JsonShardManifest readManifest(Path manifestPath) throws IOException {
+        JsonShardManifest manifest = JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath),
+                JsonShardManifest.class);
+        if (manifest.getVersion() != JsonShardManifest.CURRENT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, manifestPath, manifest.getVersion()));
+        }
+        return manifest;
+    }
+
+    private static void readSegment(Path file, String checksum, JsonAddressBookReader reader,
+            AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            reader.readInto(in, assembler);
+            // Whatever follows the JSON content still counts towards the checksum
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        if (!Long.toHexString(crc.getValue()).equals(checksum)) {
+            logger.warning(String.format(MESSAGE_CHECKSUM_MISMATCH, file));
+            throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, file));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Saves every segment of {@code addressBook} to the folder at {@code directoryPath}.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath)
+            throws IOException {
+        requireAllNonNull(addressBook, directoryPath);
+
+        boolean isOwnFolder = directoryPath.equals(this.directoryPath);
+        long generation = isOwnFolder && lastManifest != null
+                ? lastManifest.getGeneration()
+                : readGeneration(directoryPath);
+        if (isOwnFolder) {
+            // Until the save is done, what the folder holds is not known
+            lastManifest = null;
+        }
+        Map<Long, List<Person>> persons = groupPersons(addressBook.getPersonList());
+        Map<Long, List<Event>> events = groupEvents(addressBook.getEventList());
+        JsonShardManifest manifest = writeSegments(directoryPath, null, generation + 1, persons, persons.keySet(),
+                events, events.keySet());
+        if (isOwnFolder) {
+            lastManifest = manifest;
+            eventsBySegment = events;
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} by rewriting only the segments touched by {@code changes}, which were made to the
+     * address book last read from or saved to this storage.
+     * Every segment is saved if that address book is not known, or {@code changes} replace the whole of it.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+
+        if (lastManifest == null || lastManifest.getSegmentSize() != segmentSize
+                || changes.stream().anyMatch(AddressBookChange::isReset)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        Set<Long> touchedPersonSegments = new HashSet<>();
+        Set<Long> touchedEventSegments = new HashSet<>();
+        for (AddressBookChange change : changes) {
+            change.getPersonId().ifPresent(id -> touchedPersonSegments.add(getPersonSegment(id)));
+            change.getTargetEvent().ifPresent(event -> touchedEventSegments.add(getEventSegment(event)));
+            change.getEvent().ifPresent(event -> touchedEventSegments.add(getEventSegment(event)));
+        }
+        if (touchedPersonSegments.isEmpty() && touchedEventSegments.isEmpty()) {
+            return;
+        }
+
+        logger.fine("Rewriting " + touchedPersonSegments.size() + " persons segment(s) and "
+                + touchedEventSegments.size() + " events segment(s) of " + directoryPath);
+        // Only the persons and events of the segments written are picked out; the rest are never looked at
+        Map<Long, List<Person>> persons = new TreeMap<>();
+        for (long segment : touchedPersonSegments) {
+            List<Person> segmentPersons = addressBook.getPersonsWithIdsBetween(getFirstPersonId(segment),
+                    getFirstPersonId(segment + 1));
+            if (!segmentPersons.isEmpty()) {
+                persons.put(segment, segmentPersons);
+            }
+        }
+        JsonShardManifest base = lastManifest;
+        // Until the save is done, what the folder holds is not known, and the event index may be ahead of it
+        lastManifest = null;
+        indexEvents(changes);
+        lastManifest = writeSegments(directoryPath, base, base.getGeneration() + 1, persons, touchedPersonSegments,
+                eventsBySegment, touchedEventSegments);
+    }
+
+    /**
+     * Writes the segments in {@code personSegmentsToWrite} and {@code eventSegmentsToWrite}, holding the persons and
+     * events that {@code persons} and {@code events} list for them, and a manifest naming them together with the
+     * other segments of {@code base}, then deletes the files that the manifest no longer names.
+     * Segments that are now empty are dropped. If {@code base} is null, the manifest only names the segments written.
+     *
+     * @return the manifest written.
+     */
+    private JsonShardManifest writeSegments(Path directoryPath, JsonShardManifest base, long generation,
+            Map<Long, List<Person>> persons, Set<Long> personSegmentsToWrite, Map<Long, List<Event>> events,
+            Set<Long> eventSegmentsToWrite) throws IOException {
+        Map<Long, JsonShardManifest.Segment> personSegments = base == null
+                ? new TreeMap<>()
+                : toMap(base.getPersonSegments());
+        for (long segment : personSegmentsToWrite) {
+            List<Person> segmentPersons = persons.get(segment);
+            if (segmentPersons == null) {
+                personSegments.remove(segment);
+            } else {
+                personSegments.put(segment, writeSegment(directoryPath, PERSONS_PREFIX, segment, generation,
+                        segmentPersons, List.of()));
+            }
+        }
+        Map<Long, JsonShardManifest.Segment> eventSegments = base == null
+                ? new TreeMap<>()
+                : toMap(base.getEventSegments());
+        for (long segment : eventSegmentsToWrite) {
+            List<Event> segmentEvents = events.get(segment);
+            if (segmentEvents == null) {
+                eventSegments.remove(segment);
+            } else {
+                eventSegments.put(segment, writeSegment(directoryPath, EVENTS_PREFIX, segment, generation,
+                        List.of(), segmentEvents));
+            }
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(JsonShardManifest.CURRENT_VERSION, segmentSize,
+                generation, new ArrayList<>(personSegments.values()), new ArrayList<>(eventSegments.values()));
+        FileUtil.writeToFileAtomically(getManifestPath(directoryPath), JsonUtil.toJsonString(manifest), null);
+        deleteUnnamedSegments(directoryPath, manifest);
+        return manifest;
+    }
+
+    private Map<Long, List<Person>> groupPersons(List<Person> persons) {
+        Map<Long, List<Person>> groups = new TreeMap<>();
+        for (Person person : persons) {
+            groups.computeIfAbsent(getPersonSegment(person.getId()), unused -> new ArrayList<>()).add(person);
+        }
+        return groups;
+    }
+
+    private Map<Long, List<Event>> groupEvents(List<Event> events) {
+        Map<Long, List<Event>> groups = new TreeMap<>();
+        for (Event event : events) {
+            groups.computeIfAbsent(getEventSegment(event), unused -> new ArrayList<>()).add(event);
+        }
+        return groups;
+    }
+
+    /**
+     * Brings {@code eventsBySegment} up to date with {@code changes}.
+     * An edited event keeps its place if it stays in the same segment.
+     */
+    private void indexEvents(List<AddressBookChange> changes) {
+        for (AddressBookChange change : changes) {
+            switch (change.getKind()) {
+            case ADD_EVENT:
+                addToIndex(change.getEvent().get());
+                break;
+            case SET_EVENT:
+                Event target = change.getTargetEvent().get();
+                Event editedEvent = change.getEvent().get();
+                List<Event> segmentEvents = eventsBySegment.get(getEventSegment(target));
+                if (getEventSegment(target) == getEventSegment(editedEvent)) {
+                    segmentEvents.set(segmentEvents.indexOf(target), editedEvent);
+                } else {
+                    removeFromIndex(target);
+                    addToIndex(editedEvent);
+                }
+                break;
+            case DELETE_EVENT:
+                removeFromIndex(change.getEvent().get());
+                break;
+            default:
+                // Changes to persons and notes do not move events between segments
+                break;
+            }
+        }
+    }
+
+    private void addToIndex(Event event) {
+        eventsBySegment.computeIfAbsent(getEventSegment(event), unused -> new ArrayList<>()).add(event);
+    }
+
+    private void removeFromIndex(Event event) {
+        long segment = getEventSegment(event);
+        List<Event> segmentEvents = eventsBySegment.get(segment);
+        segmentEvents.remove(event);
+        if (segmentEvents.isEmpty()) {
+            eventsBySegment.remove(segment);
+        }
+    }
+
+    private static Map<Long, JsonShardManifest.Segment> toMap(List<JsonShardManifest.Segment> segments) {
+        Map<Long, JsonShardManifest.Segment> map = new TreeMap<>();
+        for (JsonShardManifest.Segment segment : segments) {
+            map.put(segment.getIndex(), segment);
+        }
+        return map;
+    }
+
+    private static JsonShardManifest.Segment writeSegment(Path directoryPath, String prefix, long segment,
+            long generation, List<Person> persons, List<Event> events) throws IOException {
+        String fileName = String.format(SEGMENT_FILE_FORMAT, prefix, segment, generation);
+        JsonAddressBookWriter writer = new JsonAddressBookWriter(
+                persons.size() + events.size() <= JsonAddressBookStorage.DEFAULT_PRETTY_PRINT_LIMIT);
+        CRC32 crc = new CRC32();
+        FileUtil.writeToFileAtomically(directoryPath.resolve(fileName), out ->
+                writer.write(persons, events, new CheckedOutputStream(out, crc)), null);
+        return new JsonShardManifest.Segment(segment, fileName, Long.toHexString(crc.getValue()));
+    }
+
+    /**
+     * Deletes the segment files in the folder at {@code directoryPath} that {@code manifest} does not name, such as
+     * those replaced by the save that wrote it, or left behind by a save that did not finish.
+     * Failing to do so is not fatal, as such files are never read.
+     */
+    private static void deleteUnnamedSegments(Path directoryPath, JsonShardManifest manifest) {
+        Set<String> namedFiles = new HashSet<>();
+        manifest.getPersonSegments().forEach(segment -> namedFiles.add(segment.getFile()));
+        manifest.getEventSegments().forEach(segment -> namedFiles.add(segment.getFile()));
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                boolean isSegmentFile = fileName.startsWith(PERSONS_PREFIX) || fileName.startsWith(EVENTS_PREFIX);
+                if (isSegmentFile && !namedFiles.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete old segment files in " + directoryPath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the generation of the manifest in the folder at {@code directoryPath}, or 0 if there is none, so that
+     * a new save does not overwrite the files it names.
+     */
+    private static long readGeneration(Path directoryPath) {
+        Path manifestPath = getManifestPath(directoryPath);
+        if (!Files.exists(manifestPath)) {
+            return 0;
+        }
+        try {
+            return readManifest(manifestPath).getGeneration();
+        } catch (IOException e) {
+            logger.warning("Could not read manifest " + manifestPath + ", overwriting it: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private long getPersonSegment(PersonId id) {
+        return Math.max(id.value - 1, 0) / segmentSize;
+    }
+
+    /**
+     * Returns the smallest identifier of the persons in {@code segment}.
+     */
+    private PersonId getFirstPersonId(long segment) {
+        return new PersonId(segment * segmentSize + 1);
+    }
+
+    /**
+     * Returns the segment that {@code event} is kept in, the one of its contact with the smallest identifier.
+     */
+    private long getEventSegment(Event event) {
+        return event.getContactIds().stream()
+                .min(Comparator.naturalOrder())
+                .map(this::getPersonSegment)
+                .orElse(0L);
+    }
+}
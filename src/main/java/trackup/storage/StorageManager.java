@@ -2,11 +2,13 @@ package trackup.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import trackup.commons.core.LogsCenter;
 import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBookChange;
 import trackup.model.ReadOnlyAddressBook;
 import trackup.model.ReadOnlyUserPrefs;
 import trackup.model.UserPrefs;
@@ -74,4 +76,35 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
+
+    /**
+     * Saves {@code addressBook} through the address book storage, handing it the {@code changes} made since the last
+     * save so that it can rewrite only the parts they touch.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook, changes);
+    }
+
+    @Override
+    public List<String> getLoadWarnings() {
+        return addressBookStorage.getLoadWarnings();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return addressBookStorage.isReadOnly();
+    }
+
+    @Override
+    public boolean isJournaling() {
+        return addressBookStorage.isJournaling();
+    }
+
+    @Override
+    public void appendChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException {
+        logger.fine("Attempting to append " + changes.size() + " change(s) to data file: " + getAddressBookFilePath());
+        addressBookStorage.appendChanges(addressBook, changes);
+    }
 }
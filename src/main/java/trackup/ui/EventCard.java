@@ -1,6 +1,7 @@
 package trackup.ui;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -9,6 +10,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import trackup.commons.core.Visibility;
 import trackup.model.event.Event;
+import trackup.model.person.Person;
 
 /**
  * An UI component that displays information of an {@code Event}.
@@ -35,9 +37,10 @@ public class EventCard extends UiPart<Region> {
     private FlowPane contacts;
 
     /**
-     * Creates an {@code EventCard} with the given {@code Event} and index to display.
+     * Creates an {@code EventCard} with the given {@code Event}, its linked {@code eventContacts}
+     * and index to display.
      */
-    public EventCard(Event event, int displayedIndex, Visibility visibility) {
+    public EventCard(Event event, List<Person> eventContacts, int displayedIndex, Visibility visibility) {
         super(FXML);
         this.event = event;
 
@@ -48,7 +51,7 @@ public class EventCard extends UiPart<Region> {
         endTime.setText("To: " + event.getEndDateTime().format(formatter));
         endTime.setVisible(visibility.isShowDatetime());
 
-        event.getContacts()
+        eventContacts
                 .forEach(person -> {
                     String labelText = person.getCategory()
                             .map(cat -> "[" + cat.categoryName + "] " + person.getName().fullName)
@@ -2,6 +2,7 @@ package trackup.ui;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -9,7 +10,9 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import trackup.commons.core.LogsCenter;
 import trackup.commons.core.Visibility;
+import trackup.model.ReadOnlyAddressBook;
 import trackup.model.event.Event;
+import trackup.model.person.Person;
 
 /**
  * Panel containing the list of events.
@@ -18,6 +21,7 @@ public class EventListPanel extends UiPart<Region> {
     private static final String FXML = "EventListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
 
+    private final ReadOnlyAddressBook addressBook;
     private final Visibility visibility;
 
     @FXML
@@ -25,14 +29,18 @@ public class EventListPanel extends UiPart<Region> {
 
     /**
      * Creates an {@code EventListPanel} with the given {@code ObservableList}.
+     * The contacts of the events are looked up in {@code addressBook}.
      */
-    public EventListPanel(ObservableList<Event> eventList, Visibility visibility) {
+    public EventListPanel(ObservableList<Event> eventList, ReadOnlyAddressBook addressBook, Visibility visibility) {
         super(FXML);
         eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListViewCell());
+        this.addressBook = addressBook;
         this.visibility = visibility;
 
         visibility.showDatetimeProperty().addListener((obs, oldVal, newVal) -> eventListView.refresh());
+        // Events only refer to their contacts, so edited contacts must be looked up again
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> eventListView.refresh());
     }
 
     /**
@@ -47,7 +55,7 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1, visibility).getRoot());
+                setGraphic(new EventCard(event, addressBook.getContacts(event), getIndex() + 1, visibility).getRoot());
             }
         }
     }
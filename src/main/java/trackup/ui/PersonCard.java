@@ -2,7 +2,6 @@ package trackup.ui;
 
 import java.util.Comparator;
 
-import javafx.collections.ListChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.OverrunStyle;
@@ -11,7 +10,6 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import trackup.commons.core.Visibility;
-import trackup.model.note.Note;
 import trackup.model.person.Person;
 
 /**
@@ -97,7 +95,6 @@ public class PersonCard extends UiPart<Region> {
         }
         if (visibility.isShowNote()) {
             renderNotes();
-            person.getNotes().addListener((ListChangeListener<Note>) change -> renderNotes());
         }
     }
 
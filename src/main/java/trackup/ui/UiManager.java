@@ -43,6 +43,10 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            for (String warning : logic.getLoadWarnings()) {
+                showAlertDialogAndWait(AlertType.WARNING, "Data file damaged", "The data file could not be loaded",
+                        warning);
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -3,14 +3,15 @@ package trackup.ui;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
-import javafx.collections.ObservableList;
 import javafx.geometry.HPos;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
+import trackup.model.ReadOnlyAddressBook;
 import trackup.model.event.Event;
 
 /**
@@ -25,16 +26,16 @@ public class WeeklyCalendarView {
     private static final double TIME_WIDTH = 40;
 
     private GridPane calendarGrid;
-    private ObservableList<Event> eventList;
+    private ReadOnlyAddressBook addressBook;
     private LocalDate currentWeekStart;
 
     /**
-     * Constructs a {@code WeeklyCalendarView} with the given list of events.
+     * Constructs a {@code WeeklyCalendarView} showing the events in the given address book.
      *
-     * @param eventList The list of events to be displayed in the calendar.
+     * @param addressBook The address book whose events are to be displayed in the calendar.
      */
-    public WeeklyCalendarView(ObservableList<Event> eventList) {
-        this.eventList = eventList;
+    public WeeklyCalendarView(ReadOnlyAddressBook addressBook) {
+        this.addressBook = addressBook;
         this.calendarGrid = new GridPane();
         this.currentWeekStart = LocalDate.now().with(DayOfWeek.MONDAY);
     }
@@ -106,9 +107,12 @@ public class WeeklyCalendarView {
 
     /**
      * Adds event labels to the calendar grid.
+     * Only the events overlapping the current week are fetched from the address book's time index.
      */
     private void addEventLabels() {
-        for (Event event : eventList) {
+        List<Event> weekEvents = addressBook.getEventsOverlapping(currentWeekStart.atStartOfDay(),
+                currentWeekStart.plusWeeks(1).atStartOfDay());
+        for (Event event : weekEvents) {
             if (isEventInCurrentWeek(event)) {
                 int dayColumn = event.getStartDateTime().getDayOfWeek().getValue();
                 int startRow = event.getStartDateTime().getHour() + 1;
@@ -39,10 +39,25 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validArchivePath_success() {
+        parametersStub.namedParameters.put("archive", "archive.bin");
+        expected.setArchivePath(Paths.get("archive.bin"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidArchivePath_success() {
+        parametersStub.namedParameters.put("archive", "a\0");
+        expected.setArchivePath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", archivePath=" + appParameters.getArchivePath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +81,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different archive path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setArchivePath(Paths.get("archive.bin"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
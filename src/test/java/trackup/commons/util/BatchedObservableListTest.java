@@ -0,0 +1,66 @@
+package trackup.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<List<String>> notifiedContents = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) change -> notifiedContents.add(List.copyOf(list)));
+    }
+
+    @Test
+    public void modify_outsideBatch_eachModificationNotified() {
+        list.add("d");
+        list.remove("a");
+        assertEquals(List.of(List.of("a", "b", "c", "d"), List.of("b", "c", "d")), notifiedContents);
+    }
+
+    @Test
+    public void modify_insideNestedBatches_notifiedOnceAtEnd() {
+        list.beginBatch();
+        list.add("d");
+        list.beginBatch();
+        list.remove("a");
+        list.set(0, "e");
+        list.endBatch();
+        assertTrue(notifiedContents.isEmpty());
+        list.endBatch();
+
+        assertEquals(List.of(List.of("e", "c", "d")), notifiedContents);
+    }
+
+    @Test
+    public void setAll_replacesContentsInOneChange() {
+        List<String> removed = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        list.setAll(List.of("x", "y"));
+        assertEquals(List.of("x", "y"), list);
+        assertEquals(List.of("a", "b", "c"), removed);
+        assertEquals(1, notifiedContents.size());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, notifiedContents.size());
+        assertThrows(NullPointerException.class, () -> list.setAll((List<String>) null));
+    }
+}
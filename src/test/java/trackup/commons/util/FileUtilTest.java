@@ -1,13 +1,22 @@
 package trackup.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,40 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedAndBackedUp() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        Path backup = testFolder.resolve("data").resolve("file.txt.bak");
+
+        // missing file -> created, nothing to back up
+        FileUtil.writeToFileAtomically(file, "first", backup);
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(backup));
+
+        // existing file -> replaced, old content backed up
+        FileUtil.writeToFileAtomically(file, "second", backup);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(backup));
+
+        // no backup -> old content dropped, no temporary file left behind
+        FileUtil.writeToFileAtomically(file, "third", null);
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(backup));
+        assertFalse(Files.exists(testFolder.resolve("data").resolve("file.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_failingWriter_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "old", null);
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }, null));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt.tmp")));
+    }
+
 }
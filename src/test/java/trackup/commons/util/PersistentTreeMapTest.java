@@ -0,0 +1,140 @@
+package trackup.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeMapTest {
+
+    @Test
+    public void empty_hasNoEntries() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.empty();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+        assertEquals(List.of(), map.values());
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getValueAt(0));
+    }
+
+    @Test
+    public void plus_existingKey_valueReplaced() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.<Integer, String>empty().plus(2, "b").plus(1, "a");
+        PersistentTreeMap<Integer, String> replaced = map.plus(2, "c");
+
+        assertEquals(List.of("a", "c"), replaced.values());
+        assertEquals("c", replaced.get(2));
+        assertEquals("c", replaced.getValueAt(1));
+        assertEquals(List.of("a", "b"), map.values());
+    }
+
+    @Test
+    public void minus_absentKey_returnsSameMap() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.<Integer, String>empty().plus(1, "a");
+        assertSame(map, map.minus(2));
+        assertTrue(map.minus(1).isEmpty());
+    }
+
+    @Test
+    public void copyOf_unsortedMap_valuesInKeyOrder() {
+        Map<Integer, String> entries = new LinkedHashMap<>();
+        entries.put(3, "c");
+        entries.put(1, "a");
+        entries.put(2, "b");
+
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.copyOf(entries);
+        assertEquals(List.of("a", "b", "c"), map.values());
+        assertEquals("b", map.get(2));
+        assertEquals("c", map.getValueAt(2));
+        assertEquals(2, map.indexOf(3));
+        assertEquals(-1, map.indexOf(4));
+    }
+
+    @Test
+    public void nullArguments_throwsNullPointerException() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.empty();
+        Map<Integer, String> withNullValue = new HashMap<>();
+        withNullValue.put(1, null);
+
+        assertThrows(NullPointerException.class, () -> map.plus(null, "a"));
+        assertThrows(NullPointerException.class, () -> map.plus(1, null));
+        assertThrows(NullPointerException.class, () -> map.minus(null));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+        assertThrows(NullPointerException.class, () -> map.indexOf(null));
+        assertThrows(NullPointerException.class, () -> PersistentTreeMap.copyOf(withNullValue));
+    }
+
+    @Test
+    public void values_unmodifiable() {
+        List<String> values = PersistentTreeMap.<Integer, String>empty().plus(1, "a").values();
+        assertThrows(UnsupportedOperationException.class, () -> values.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> values.remove(0));
+    }
+
+    @Test
+    public void valuesBetween_keysInAndOutOfRange_onlyValuesInRange() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.<Integer, String>empty()
+                .plus(10, "a").plus(20, "b").plus(30, "c").plus(40, "d");
+
+        assertEquals(List.of("b", "c"), map.valuesBetween(20, 40));
+        assertEquals(List.of("b", "c"), map.valuesBetween(11, 31));
+        assertEquals(List.of("a", "b", "c", "d"), map.valuesBetween(0, 100));
+        assertEquals(List.of(), map.valuesBetween(21, 29));
+        assertEquals(List.of(), map.valuesBetween(30, 20));
+    }
+
+    @Test
+    public void randomModifications_everyVersionUnchanged() {
+        Random random = new Random(24);
+        List<PersistentTreeMap<Integer, Integer>> versions = new ArrayList<>();
+        List<TreeMap<Integer, Integer>> expectedVersions = new ArrayList<>();
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+            if (i % 100 == 0) {
+                versions.add(map);
+                expectedVersions.add(new TreeMap<>(expected));
+            }
+        }
+        versions.add(map);
+        expectedVersions.add(expected);
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertMapEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    private static void assertMapEquals(TreeMap<Integer, Integer> expected, PersistentTreeMap<Integer, Integer> map) {
+        List<Integer> expectedValues = new ArrayList<>(expected.values());
+        assertEquals(expected.size(), map.size());
+        assertEquals(expectedValues, map.values());
+        for (int i = 0; i < expectedValues.size(); i++) {
+            assertEquals(expectedValues.get(i), map.getValueAt(i));
+        }
+        for (int key = 0; key < 300; key++) {
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.containsKey(key) ? expected.headMap(key).size() : -1, map.indexOf(key));
+            assertEquals(new ArrayList<>(expected.subMap(key, key + 50).values()), map.valuesBetween(key, key + 50));
+        }
+    }
+}
@@ -123,6 +123,29 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordStartingWithIgnoreCase --------------------------------------
+
+    @Test
+    public void containsWordStartingWithIgnoreCase_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsWordStartingWithIgnoreCase("abc", null));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsWordStartingWithIgnoreCase(null, "abc"));
+        assertThrows(IllegalArgumentException.class, "Prefix parameter cannot be empty", ()
+            -> StringUtil.containsWordStartingWithIgnoreCase("typical sentence", "  "));
+        assertThrows(IllegalArgumentException.class, "Prefix parameter should be a single word", ()
+            -> StringUtil.containsWordStartingWithIgnoreCase("typical sentence", "aaa BBB"));
+    }
+
+    @Test
+    public void containsWordStartingWithIgnoreCase_validInputs_correctResult() {
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("", "abc")); // Empty sentence
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "bc")); // Middle of a word
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "bbbb")); // Longer than the word
+
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("aaa bBb ccc", "B")); // Middle word
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("  AAA   bBb   ccc  ", "aa")); // Extra spaces
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "  CCC  ")); // Whole word
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,95 @@
+package trackup.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import trackup.model.person.Address;
+import trackup.model.person.Email;
+import trackup.model.person.Name;
+import trackup.model.person.Phone;
+import trackup.model.tag.Tag;
+
+/**
+ * Compares the validation checks of the model's value classes with matching their validation regexes, both through
+ * {@code String.matches} and through a precompiled {@code Pattern}.
+ * Every input is first checked to be accepted by the same checks as by the regex, so a check that is faster but
+ * wrong fails the benchmark.
+ * Run with {@code gradlew validationBenchmark -PbenchmarkArgs="<inputs> <rounds>"}; not part of the test suite.
+ */
+public class ValidationBenchmark {
+
+    /**
+     * Runs the benchmark with the number of inputs per value class and timed rounds given in {@code args}.
+     */
+    public static void main(String[] args) {
+        int inputCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.printf("%d inputs per value, best of %d rounds, ns per check%n", inputCount, rounds);
+        System.out.printf("%-8s %10s %10s %10s %8s%n", "value", "matches", "compiled", "check", "speedup");
+        run("name", Name.VALIDATION_REGEX, Name::isValidName, inputCount, rounds,
+                i -> i % 7 == 0 ? "R@chel " + i : "Person Number " + i);
+        run("phone", Phone.VALIDATION_REGEX, Phone::isValidPhone, inputCount, rounds,
+                i -> i % 7 == 0 ? "+65 " + i : String.valueOf(80_000_000 + i));
+        run("email", Email.VALIDATION_REGEX, Email::isValidEmail, inputCount, rounds,
+                i -> i % 7 == 0 ? "person" + i + "@example.c-" : "person." + i + "@mail-" + (i % 10) + ".example.com");
+        run("address", Address.VALIDATION_REGEX, Address::isValidAddress, inputCount, rounds,
+                i -> i % 7 == 0 ? " " + i : "Blk " + i + ", Clementi Ave " + (i % 10) + ", #08-111");
+        run("tag", Tag.VALIDATION_REGEX, Tag::isValidTagName, inputCount, rounds,
+                i -> i % 7 == 0 ? "best friend" : "friends" + (i % 100));
+    }
+
+    private static void run(String name, String regex, Predicate<String> check, int inputCount, int rounds,
+            InputGenerator generator) {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < inputCount; i++) {
+            inputs.add(generator.generate(i));
+        }
+        Pattern pattern = Pattern.compile(regex);
+        for (String input : inputs) {
+            if (pattern.matcher(input).matches() != check.test(input)) {
+                throw new AssertionError("Check for " + name + " differs from its regex on: " + input);
+            }
+        }
+
+        long matchesNanos = time(inputs, input -> input.matches(regex), rounds);
+        long compiledNanos = time(inputs, input -> pattern.matcher(input).matches(), rounds);
+        long checkNanos = time(inputs, check, rounds);
+        System.out.printf("%-8s %10.1f %10.1f %10.1f %7.1fx%n", name, (double) matchesNanos / inputCount,
+                (double) compiledNanos / inputCount, (double) checkNanos / inputCount,
+                (double) matchesNanos / Math.max(checkNanos, 1));
+    }
+
+    /**
+     * Returns the best time taken to test every input, over {@code rounds} rounds after one round of warming up.
+     */
+    private static long time(List<String> inputs, Predicate<String> check, int rounds) {
+        long bestNanos = Long.MAX_VALUE;
+        int accepted = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (String input : inputs) {
+                accepted += check.test(input) ? 1 : 0;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round > 0) {
+                bestNanos = Math.min(bestNanos, elapsed);
+            }
+        }
+        // Uses the results so that the checks are not optimised away
+        if (accepted < 0) {
+            throw new AssertionError();
+        }
+        return bestNanos;
+    }
+
+    /**
+     * Generates the {@code i}-th input of a value class.
+     */
+    @FunctionalInterface
+    private interface InputGenerator {
+        String generate(int i);
+    }
+}
@@ -0,0 +1,70 @@
+package trackup.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final String ALPHABET = "aZ09 _-.@\t\n\r\u0085\u2028\u00e9";
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 1));
+        assertTrue(ValidationUtil.isDigits("123", 3));
+        assertFalse(ValidationUtil.isDigits("12", 3));
+        assertFalse(ValidationUtil.isDigits("12a", 3));
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662\u0663", 3)); // non-ASCII digits
+        assertSameAsRegex("\\d{3,}", test -> ValidationUtil.isDigits(test, 3));
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+        assertTrue(ValidationUtil.isAlphanumeric("friends1"));
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("best friends"));
+        assertSameAsRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+    }
+
+    @Test
+    public void isAlphanumericPhrase() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericPhrase(null));
+        assertTrue(ValidationUtil.isAlphanumericPhrase("Capital Tan 2nd"));
+        assertFalse(ValidationUtil.isAlphanumericPhrase(" leading space"));
+        assertFalse(ValidationUtil.isAlphanumericPhrase("12345")); // no letters
+        assertSameAsRegex("(?=.*[A-Za-z])[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericPhrase);
+    }
+
+    @Test
+    public void isNonBlankLine() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isNonBlankLine(null));
+        assertTrue(ValidationUtil.isNonBlankLine("Blk 456, Den Road, #01-355"));
+        assertFalse(ValidationUtil.isNonBlankLine(" "));
+        assertFalse(ValidationUtil.isNonBlankLine("two\nlines"));
+        assertSameAsRegex("[^\\s].*", ValidationUtil::isNonBlankLine);
+    }
+
+    /**
+     * Asserts that {@code check} accepts exactly the random strings that {@code regex} matches.
+     */
+    private static void assertSameAsRegex(String regex, Predicate<String> check) {
+        Pattern pattern = Pattern.compile(regex);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                test.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertEquals(pattern.matcher(test).matches(), check.test(test.toString()), test.toString());
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package trackup.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static trackup.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static trackup.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,24 +16,33 @@ import static trackup.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import trackup.logic.commands.AddCommand;
+import trackup.logic.commands.ClearCommand;
 import trackup.logic.commands.CommandResult;
 import trackup.logic.commands.ListCommand;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.logic.parser.exceptions.ParseException;
+import trackup.model.AddressBook;
 import trackup.model.Model;
 import trackup.model.ModelManager;
 import trackup.model.ReadOnlyAddressBook;
+import trackup.model.ReadOnlyModelManager;
 import trackup.model.UserPrefs;
 import trackup.model.person.Person;
+import trackup.storage.JournaledAddressBookStorage;
 import trackup.storage.JsonAddressBookStorage;
 import trackup.storage.JsonUserPrefsStorage;
+import trackup.storage.MappedAddressBookStorage;
+import trackup.storage.ShardedAddressBookStorage;
 import trackup.storage.StorageManager;
 import trackup.testutil.PersonBuilder;
 
@@ -71,6 +83,104 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_nonMutatingCommand_skipsSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesAddressBook() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + CATEGORY_DESC_CLIENT);
+        logic.flushSaves();
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_journalingStorage_changesRecoverable() throws Exception {
+        Path filePath = temporaryFolder.resolve("journaled.json");
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(filePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + CATEGORY_DESC_CLIENT);
+        logic.execute("addnote 1 Met at the fair");
+        logic.flushSaves();
+
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+        // The first change is saved in full, the note is only journalled
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+    }
+
+    @Test
+    public void execute_shardedStorage_changesSaved() throws Exception {
+        Path directoryPath = temporaryFolder.resolve("addressBook.shards");
+        ShardedAddressBookStorage addressBookStorage = new ShardedAddressBookStorage(directoryPath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + CATEGORY_DESC_CLIENT);
+        logic.execute("addnote 1 Met at the fair");
+        logic.flushSaves();
+
+        assertEquals(model.getAddressBook(), new ShardedAddressBookStorage(directoryPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_readOnlyStorage_refusesMutatingCommands() throws Exception {
+        Path filePath = temporaryFolder.resolve("archive.bin");
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Model readOnlyModel = new ReadOnlyModelManager(new AddressBook(), filePath, new UserPrefs());
+        logic = new LogicManager(readOnlyModel, new StorageManager(new MappedAddressBookStorage(filePath),
+                userPrefsStorage));
+
+        assertThrows(CommandException.class, LogicManager.MESSAGE_READ_ONLY, () -> logic.execute(
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + CATEGORY_DESC_CLIENT));
+        assertTrue(readOnlyModel.getAddressBook().getPersonList().isEmpty());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_commandOverUndoBudget_userToldCommandCannotBeUndone() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 5000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMegabytes(1);
+        model = new ModelManager(addressBook, userPrefs);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")), userPrefsStorage));
+
+        CommandResult result = logic.execute(ClearCommand.COMMAND_WORD);
+
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + "\n" + LogicManager.MESSAGE_NOT_UNDOABLE,
+                result.getFeedbackToUser());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void getLoadWarnings_damagedFileReplacedByBackup_warningReported() throws Exception {
+        Path filePath = temporaryFolder.resolve("damaged.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        addressBookStorage.saveAddressBook(new AddressBook());
+        addressBookStorage.saveAddressBook(new AddressBook());
+        Files.writeString(filePath, "{");
+        addressBookStorage.readAddressBook();
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertEquals(addressBookStorage.getLoadWarnings(), logic.getLoadWarnings());
+        assertEquals(1, logic.getLoadWarnings().size());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -143,6 +253,7 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Saving happens in the background, so the command itself succeeds and the error is reported afterwards.
      *
      * @param e the exception to be thrown by the Storage component
      * @param expectedMessage the message expected inside exception thrown by the Logic component
@@ -164,6 +275,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedErrors = new CopyOnWriteArrayList<>();
+        logic.setSaveErrorHandler(reportedErrors::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -171,6 +284,10 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.flushSaves());
+        assertEquals(List.of(expectedMessage), reportedErrors);
+        assertEquals(expectedModel, model);
     }
 }
@@ -44,26 +44,26 @@ public class AddEventCommandTest {
     @Test
     public void execute_eventAcceptedByModel_addSuccessful() throws Exception {
         ModelStubAcceptingEventAdded modelStub = new ModelStubAcceptingEventAdded();
-        Person contact = new PersonBuilder().build();
+        Person contact = new PersonBuilder().withId(1).build();
         modelStub.contacts.add(contact);
 
         Set<Index> contactIndexes = Set.of(Index.fromZeroBased(0));
         AddEventCommand command = new AddEventCommand(TITLE, START, END, contactIndexes);
 
         CommandResult result = command.execute(modelStub);
-        Event expectedEvent = new Event(TITLE, START, END, Set.of(contact));
+        Event expectedEvent = new Event(TITLE, START, END, Set.of(contact.getId()));
 
-        assertEquals(String.format(MESSAGE_SUCCESS, Messages.format(expectedEvent)),
+        assertEquals(String.format(MESSAGE_SUCCESS, Messages.format(expectedEvent, List.of(contact))),
                 result.getFeedbackToUser());
         assertTrue(modelStub.eventsAdded.contains(expectedEvent));
     }
 
     @Test
     public void execute_duplicateEvent_throwsCommandException() {
-        Person contact = new PersonBuilder().build();
-        Event duplicate = new Event(TITLE, START, END, Set.of(contact));
+        Person contact = new PersonBuilder().withId(1).build();
+        Event duplicate = new Event(TITLE, START, END, Set.of(contact.getId()));
 
-        AddCommandTest.ModelStub modelStub = new ModelStubWithEvent(duplicate);
+        ModelStubWithEvent modelStub = new ModelStubWithEvent(duplicate);
         modelStub.contacts.add(contact);
 
         Set<Index> contactIndexes = Set.of(Index.fromZeroBased(0));
@@ -122,7 +122,6 @@ public class AddEventCommandTest {
             requireNonNull(event);
             this.event = event;
             this.eventsAdded.add(event);
-            this.contacts.addAll(event.getContacts());
         }
 
         @Override
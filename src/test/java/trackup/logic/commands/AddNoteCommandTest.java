@@ -2,6 +2,7 @@ package trackup.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static trackup.testutil.Assert.assertThrows;
 
@@ -40,6 +41,7 @@ public class AddNoteCommandTest {
 
         assertEquals(String.format(AddNoteCommand.MESSAGE_SUCCESS, personWithNoNotes.getName(), noteText),
                 result.getFeedbackToUser());
+        verify(model).addNote(personWithNoNotes, new Note(noteText));
     }
 
     @Test
@@ -53,12 +55,7 @@ public class AddNoteCommandTest {
 
     @Test
     public void execute_maxNotesReached_doesNotAddNote() throws Exception {
-        Person person = new PersonBuilder().build();
-        person.addNote(new Note("Note 1"));
-        person.addNote(new Note("Note 2"));
-        person.addNote(new Note("Note 3"));
-        person.addNote(new Note("Note 4"));
-        person.addNote(new Note("Note 5"));
+        Person person = new PersonBuilder().withNotes("Note 1", "Note 2", "Note 3", "Note 4", "Note 5").build();
 
         when(model.getFilteredPersonList()).thenReturn(FXCollections.observableArrayList(person));
 
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,7 +24,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import trackup.commons.util.ToStringBuilder;
 import trackup.logic.Messages;
 import trackup.logic.commands.exceptions.CommandException;
@@ -53,6 +54,10 @@ public class DeleteByCommandTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(model).batch(any());
     }
 
     @Test
@@ -66,8 +71,7 @@ public class DeleteByCommandTest {
         when(model.getFilteredPersonList()).thenReturn(FXCollections.observableArrayList(ALICE));
         when(model.hasPerson(ALICE)).thenReturn(true);
         List<Event> eventList = List.of();
-        ObservableList<Event> observableEventList = FXCollections.observableArrayList(eventList);
-        when(model.getEventList()).thenReturn(observableEventList);
+        when(model.getEventsForPerson(ALICE)).thenReturn(eventList);
 
         DeleteByCommand deleteCommand = new DeleteByCommand(
                 Optional.of(ALICE.getName()), Optional.empty(), Optional.empty(),
@@ -85,8 +89,7 @@ public class DeleteByCommandTest {
         when(model.getFilteredPersonList()).thenReturn(FXCollections.observableArrayList(ALICE));
         when(model.hasPerson(ALICE)).thenReturn(true);
         List<Event> eventList = List.of();
-        ObservableList<Event> observableEventList = FXCollections.observableArrayList(eventList);
-        when(model.getEventList()).thenReturn(observableEventList);
+        when(model.getEventsForPerson(ALICE)).thenReturn(eventList);
 
         DeleteByCommand deleteCommand = new DeleteByCommand(
                 Optional.empty(), Optional.of(ALICE.getPhone()), Optional.empty(),
@@ -104,8 +107,7 @@ public class DeleteByCommandTest {
         when(model.getFilteredPersonList()).thenReturn(FXCollections.observableArrayList(ALICE));
         when(model.hasPerson(ALICE)).thenReturn(true);
         List<Event> eventList = List.of();
-        ObservableList<Event> observableEventList = FXCollections.observableArrayList(eventList);
-        when(model.getEventList()).thenReturn(observableEventList);
+        when(model.getEventsForPerson(ALICE)).thenReturn(eventList);
 
         DeleteByCommand deleteCommand = new DeleteByCommand(
                 Optional.empty(), Optional.empty(), Optional.of(ALICE.getEmail()),
@@ -122,14 +124,12 @@ public class DeleteByCommandTest {
     public void execute_deleteByAddress_success() throws Exception {
         when(model.getFilteredPersonList()).thenReturn(FXCollections.observableArrayList(ALICE));
         when(model.hasPerson(ALICE)).thenReturn(true);
-        when(event.getContacts()).thenReturn(Set.of(ALICE));
         when(event.getTitle()).thenReturn(TITLE_MEETING);
         when(event.getStartDateTime()).thenReturn(START);
         when(event.getEndDateTime()).thenReturn(END);
-        when(event.getContacts()).thenReturn(Set.of(ALICE));
+        when(event.getContactIds()).thenReturn(Set.of(ALICE.getId()));
         List<Event> eventList = List.of(event);
-        ObservableList<Event> observableEventList = FXCollections.observableArrayList(eventList);
-        when(model.getEventList()).thenReturn(observableEventList);
+        when(model.getEventsForPerson(ALICE)).thenReturn(eventList);
 
         DeleteByCommand deleteCommand = new DeleteByCommand(
                 Optional.empty(), Optional.empty(), Optional.empty(),
@@ -148,8 +148,7 @@ public class DeleteByCommandTest {
         when(model.getFilteredPersonList()).thenReturn(FXCollections.observableArrayList(ALICE));
         when(model.hasPerson(ALICE)).thenReturn(true);
         List<Event> eventList = List.of();
-        ObservableList<Event> observableEventList = FXCollections.observableArrayList(eventList);
-        when(model.getEventList()).thenReturn(observableEventList);
+        when(model.getEventsForPerson(ALICE)).thenReturn(eventList);
 
         DeleteByCommand deleteCommand = new DeleteByCommand(
                 Optional.empty(), Optional.empty(), Optional.empty(),
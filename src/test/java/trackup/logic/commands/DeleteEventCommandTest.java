@@ -10,9 +10,12 @@ import static trackup.testutil.TypicalEvents.MEETING_EVENT;
 import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
 import static trackup.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static trackup.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -45,7 +48,8 @@ public class DeleteEventCommandTest {
         Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
         expectedModel.deleteEvent(MEETING_EVENT);
 
-        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS, Messages.format(MEETING_EVENT));
+        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS,
+                Messages.format(MEETING_EVENT, List.of(ALICE)));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
@@ -57,7 +61,8 @@ public class DeleteEventCommandTest {
         Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
         expectedModel.deleteEvent(MEETING_EVENT);
 
-        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS, Messages.format(MEETING_EVENT));
+        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS,
+                Messages.format(MEETING_EVENT, List.of(ALICE)));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
@@ -70,7 +75,8 @@ public class DeleteEventCommandTest {
         Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
         expectedModel.deleteEvent(MEETING_EVENT);
 
-        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS, Messages.format(MEETING_EVENT));
+        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS,
+                Messages.format(MEETING_EVENT, List.of(ALICE)));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
@@ -82,7 +88,8 @@ public class DeleteEventCommandTest {
         Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
         expectedModel.deleteEvent(LUNCH_EVENT);
 
-        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS, Messages.format(LUNCH_EVENT));
+        String expectedMessage = String.format(DeleteEventCommand.MESSAGE_SUCCESS,
+                Messages.format(LUNCH_EVENT, List.of(BOB)));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
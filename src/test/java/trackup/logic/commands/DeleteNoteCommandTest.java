@@ -2,6 +2,7 @@ package trackup.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static trackup.testutil.Assert.assertThrows;
 
@@ -44,9 +45,7 @@ public class DeleteNoteCommandTest {
 
         assertEquals(String.format(DeleteNoteCommand.MESSAGE_SUCCESS, 2, personWithNotes.getName()),
                 result.getFeedbackToUser());
-        assertEquals(2, personWithNotes.getNotes().size());
-        assertEquals("Note 1", personWithNotes.getNotes().get(0).text);
-        assertEquals("Note 3", personWithNotes.getNotes().get(1).text);
+        verify(model).deleteNote(personWithNotes, noteIndex);
     }
 
     @Test
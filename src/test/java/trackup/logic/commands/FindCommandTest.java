@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static trackup.logic.commands.FindCommand.MESSAGE_NO_MATCH;
+import static trackup.testutil.TypicalPersons.BENSON;
 import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.DANIEL;
 import static trackup.testutil.TypicalPersons.ELLE;
 import static trackup.testutil.TypicalPersons.FIONA;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
@@ -75,6 +77,16 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_prefixKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        NameContainsKeywordsPredicate predicate = preparePredicate("KU* mei*");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
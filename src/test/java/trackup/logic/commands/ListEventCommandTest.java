@@ -0,0 +1,88 @@
+package trackup.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.util.ToStringBuilder;
+import trackup.logic.Messages;
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ListEventCommand}.
+ */
+public class ListEventCommandTest {
+
+    private static final LocalDateTime APRIL_FIRST = LocalDateTime.of(2025, 4, 1, 0, 0);
+    private static final LocalDateTime APRIL_SECOND = LocalDateTime.of(2025, 4, 2, 0, 0);
+    private static final LocalDateTime APRIL_THIRD = LocalDateTime.of(2025, 4, 3, 0, 0);
+
+    private final Model model = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+
+    @Test
+    public void constructor_nullBounds_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ListEventCommand(null, APRIL_FIRST));
+        assertThrows(NullPointerException.class, () -> new ListEventCommand(APRIL_FIRST, null));
+    }
+
+    @Test
+    public void execute_rangeCoversEvents_listsEventsInStartOrder() {
+        String expectedMessage = String.format(ListEventCommand.MESSAGE_SUCCESS, 2,
+                "2025-04-01 00:00", "2025-04-03 00:00",
+                Messages.format(MEETING_EVENT, List.of(ALICE)) + "\n" + Messages.format(LUNCH_EVENT, List.of(BOB)));
+        assertCommandSuccess(new ListEventCommand(APRIL_FIRST, APRIL_THIRD), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeCoversSomeEvents_listsOnlyThose() {
+        String expectedMessage = String.format(ListEventCommand.MESSAGE_SUCCESS, 1,
+                "2025-04-02 00:00", "2025-04-03 00:00", Messages.format(LUNCH_EVENT, List.of(BOB)));
+        assertCommandSuccess(new ListEventCommand(APRIL_SECOND, APRIL_THIRD), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noEventsInRange_listsNothing() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        String expectedMessage = String.format(ListEventCommand.MESSAGE_SUCCESS, 0,
+                "2030-01-01 00:00", "2030-01-02 00:00", "");
+        assertCommandSuccess(new ListEventCommand(from, to), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ListEventCommand command = new ListEventCommand(APRIL_FIRST, APRIL_SECOND);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ListEventCommand(APRIL_FIRST, APRIL_SECOND)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(new ListEventCommand(APRIL_FIRST, APRIL_THIRD)));
+        assertFalse(command.equals(new ListEventCommand(APRIL_SECOND, APRIL_THIRD)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListEventCommand command = new ListEventCommand(APRIL_FIRST, APRIL_SECOND);
+        String expected = new ToStringBuilder(command)
+                .add("from", APRIL_FIRST)
+                .add("to", APRIL_SECOND)
+                .toString();
+        assertEquals(expected, command.toString());
+    }
+}
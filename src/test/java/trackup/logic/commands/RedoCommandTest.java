@@ -0,0 +1,57 @@
+package trackup.logic.commands;
+
+import static trackup.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.UserPrefs;
+import trackup.model.person.Person;
+import trackup.testutil.PersonBuilder;
+
+public class RedoCommandTest {
+
+    private final Person newPerson = new PersonBuilder().withName("Hoon Meier").build();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.addPerson(newPerson);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.undoAddressBook();
+    }
+
+    @Test
+    public void execute_noCommandToRedo_failure() {
+        model.redoAddressBook();
+        model.redoAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandsToRedo_success() {
+        expectedModel.deletePerson(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.addPerson(newPerson);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandAfterUndo_failure() {
+        model.addPerson(newPerson);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
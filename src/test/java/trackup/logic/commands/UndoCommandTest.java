@@ -0,0 +1,55 @@
+package trackup.logic.commands;
+
+import static trackup.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.UserPrefs;
+import trackup.model.person.Person;
+import trackup.testutil.PersonBuilder;
+
+public class UndoCommandTest {
+
+    private final Person newPerson = new PersonBuilder().withName("Hoon Meier").build();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.addPerson(newPerson);
+        model.commitAddressBook();
+    }
+
+    @Test
+    public void execute_noCommandToUndo_failure() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_commandsToUndo_success() {
+        expectedModel.deletePerson(ALICE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // the deleted person is added back at the end of the list
+        expectedModel.addPerson(ALICE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_filteredList_showsAllPersons() {
+        model.updateFilteredPersonList(person -> false);
+        expectedModel.deletePerson(ALICE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
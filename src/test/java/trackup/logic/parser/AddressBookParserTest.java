@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static trackup.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_CONTACT;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_END;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_START;
 import static trackup.logic.parser.CliSyntax.PREFIX_NAME;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -35,8 +37,11 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.ListEventCommand;
+import trackup.logic.commands.RedoCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.ToggleCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.parser.exceptions.ParseException;
 import trackup.model.event.Event;
 import trackup.model.person.Name;
@@ -90,6 +95,14 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -136,7 +149,7 @@ public class AddressBookParserTest {
                 .withTitle("Team Meeting")
                 .withStart(LocalDateTime.of(2025, 4, 1, 14, 0))
                 .withEnd(LocalDateTime.of(2025, 4, 1, 15, 0))
-                .withContacts(new HashSet<>()) // use indexes for linking below
+                .withContactIds(new HashSet<>()) // use indexes for linking below
                 .build();
 
         Set<Index> contactIndexes = Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
@@ -163,6 +176,15 @@ public class AddressBookParserTest {
         assertEquals(expected, command);
     }
 
+    @Test
+    public void parseCommand_listevent() throws Exception {
+        ListEventCommand command = (ListEventCommand) parser.parseCommand(ListEventCommand.COMMAND_WORD + " "
+                + PREFIX_EVENT_START + "2025-04-01 00:00 " + PREFIX_EVENT_END + "2025-04-08 00:00");
+        ListEventCommand expected = new ListEventCommand(LocalDateTime.of(2025, 4, 1, 0, 0),
+                LocalDateTime.of(2025, 4, 8, 0, 0));
+        assertEquals(expected, command);
+    }
+
 
     @Test
     public void parseCommand_addnote() throws Exception {
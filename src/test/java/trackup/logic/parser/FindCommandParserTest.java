@@ -32,6 +32,17 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_prefixKeywords_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Ali*", "Bob")));
+        assertParseSuccess(parser, "Ali* Bob", expectedFindCommand);
+
+        // a wildcard alone or in the middle of a keyword is not a valid name
+        assertParseFailure(parser, "*", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "A*li", Name.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_invalidNameWithQuotes_throwsParseException() {
         String invalidInput = "\"John\""; // the quotes make the name invalid
@@ -19,6 +19,7 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.ListEventCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.SortCommand;
 import trackup.logic.commands.ToggleCommand;
@@ -69,6 +70,12 @@ public class HelpCommandParserTest {
         assertEquals(expected, parser.parse(DeleteEventCommand.COMMAND_WORD));
     }
 
+    @Test
+    public void parse_listEventCommand_returnsCorrectHelpCommand() throws ParseException {
+        HelpCommand expected = new HelpCommand(ListEventCommand.MESSAGE_USAGE);
+        assertEquals(expected, parser.parse(ListEventCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parse_editCommand_returnsCorrectHelpCommand() throws ParseException {
         HelpCommand expected = new HelpCommand(EditCommand.MESSAGE_USAGE);
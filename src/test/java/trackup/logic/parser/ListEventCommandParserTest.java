@@ -0,0 +1,60 @@
+package trackup.logic.parser;
+
+import static trackup.logic.Messages.MESSAGE_END_BEFORE_START;
+import static trackup.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static trackup.logic.commands.CommandTestUtil.EVENT_END_DESC;
+import static trackup.logic.commands.CommandTestUtil.EVENT_START_DESC;
+import static trackup.logic.commands.CommandTestUtil.INVALID_EVENT_END_DESC;
+import static trackup.logic.commands.CommandTestUtil.INVALID_EVENT_START_DESC;
+import static trackup.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_END;
+import static trackup.logic.parser.CliSyntax.PREFIX_EVENT_START;
+import static trackup.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static trackup.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.logic.Messages;
+import trackup.logic.commands.ListEventCommand;
+
+public class ListEventCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventCommand.MESSAGE_USAGE);
+
+    private final ListEventCommandParser parser = new ListEventCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        ListEventCommand expectedCommand = new ListEventCommand(LocalDateTime.of(2025, 4, 1, 14, 0),
+                LocalDateTime.of(2025, 4, 1, 15, 0));
+        assertParseSuccess(parser, EVENT_START_DESC + EVENT_END_DESC, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFieldsOrPreamble_failure() {
+        assertParseFailure(parser, EVENT_END_DESC, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, EVENT_START_DESC, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + EVENT_START_DESC + EVENT_END_DESC, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDateTime_failure() {
+        assertParseFailure(parser, INVALID_EVENT_START_DESC + EVENT_END_DESC, ParserUtil.MESSAGE_INVALID_DATE_TIME);
+        assertParseFailure(parser, EVENT_START_DESC + INVALID_EVENT_END_DESC, ParserUtil.MESSAGE_INVALID_DATE_TIME);
+    }
+
+    @Test
+    public void parse_endNotAfterStart_failure() {
+        assertParseFailure(parser, " " + PREFIX_EVENT_START + "2025-04-01 15:00 " + PREFIX_EVENT_END
+                + "2025-04-01 15:00", MESSAGE_END_BEFORE_START);
+    }
+
+    @Test
+    public void parse_duplicatePrefixes_failure() {
+        assertParseFailure(parser, EVENT_START_DESC + EVENT_START_DESC + EVENT_END_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_EVENT_START));
+    }
+}
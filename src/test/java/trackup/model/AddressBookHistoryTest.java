@@ -0,0 +1,223 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.core.index.Index;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBookHistory history = new AddressBookHistory(Long.MAX_VALUE);
+    private final AddressBook addressBook = getTypicalAddressBookWithEvents();
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addPerson(new PersonBuilder().withName("Hoon Meier").withNotes("First", "Second").build());
+        addressBook.setHistory(history);
+    }
+
+    @Test
+    public void undo_everyKindOfModification_addressBookRestored() {
+        AddressBook original = new AddressBook(addressBook.snapshot());
+        Person hoon = addressBook.getPersonList().get(2);
+
+        addressBook.addPerson(new PersonBuilder().withName("Ida Mueller").build());
+        addressBook.setPerson(BOB, new PersonBuilder(BOB).withPhone("91234567").build());
+        addressBook.removeNote(hoon, Index.fromZeroBased(0));
+        addressBook.addNote(hoon, new Note("Third"));
+        addressBook.removePerson(addressBook.getPersonList().get(3));
+        addressBook.addEvent(new EventBuilder().withTitle("Review").build());
+        addressBook.setEvent(MEETING_EVENT, new EventBuilder(MEETING_EVENT).withTitle("Standup").build());
+        addressBook.deleteEvent(SOLO_EVENT);
+        AddressBook modified = new AddressBook(addressBook.snapshot());
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(original, addressBook);
+        assertFalse(history.canUndo());
+
+        history.redo(addressBook);
+        assertEquals(modified, addressBook);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_deletedPersonAndEvent_addedBackAtEnd() {
+        Person hoon = addressBook.getPersonList().get(2);
+        addressBook.removePerson(BOB);
+        addressBook.deleteEvent(MEETING_EVENT);
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(List.of(addressBook.getPersonList().get(0), hoon, BOB), addressBook.getPersonList());
+        assertEquals(List.of(LUNCH_EVENT, SOLO_EVENT, MEETING_EVENT), addressBook.getEventList());
+        Person alice = addressBook.getPersonList().get(0);
+        assertEquals(List.of(MEETING_EVENT), addressBook.getEventsForPerson(alice.getId()));
+    }
+
+    @Test
+    public void undo_reset_previousDataRestored() {
+        AddressBook original = new AddressBook(addressBook.snapshot());
+        addressBook.resetData(new AddressBook());
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(original, addressBook);
+    }
+
+    @Test
+    public void undo_severalSteps_undoneOneAtATime() {
+        addressBook.deleteEvent(MEETING_EVENT);
+        history.commit();
+        addressBook.deleteEvent(LUNCH_EVENT);
+        history.commit();
+
+        history.undo(addressBook);
+        assertEquals(List.of(SOLO_EVENT, LUNCH_EVENT), addressBook.getEventList());
+        history.undo(addressBook);
+        assertEquals(List.of(SOLO_EVENT, LUNCH_EVENT, MEETING_EVENT), addressBook.getEventList());
+        assertThrows(IllegalStateException.class, () -> history.undo(addressBook));
+    }
+
+    @Test
+    public void commit_noModifications_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, () -> history.undo(addressBook));
+    }
+
+    @Test
+    public void commit_afterUndo_redoForgotten() {
+        addressBook.deleteEvent(MEETING_EVENT);
+        history.commit();
+        history.undo(addressBook);
+        assertTrue(history.canRedo());
+
+        addressBook.deleteEvent(LUNCH_EVENT);
+        assertFalse(history.canRedo());
+        history.commit();
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, () -> history.redo(addressBook));
+    }
+
+    @Test
+    public void undo_uncommittedModifications_undoneFirst() {
+        addressBook.deleteEvent(MEETING_EVENT);
+        assertTrue(history.canUndo());
+
+        history.undo(addressBook);
+        assertTrue(addressBook.hasEvent(MEETING_EVENT));
+    }
+
+    @Test
+    public void commit_overBudget_oldestStepsForgotten() {
+        List<Integer> undone = new ArrayList<>();
+        AddressBookHistory smallHistory = new AddressBookHistory(2500);
+        for (int i = 0; i < 3; i++) {
+            int step = i;
+            smallHistory.record(unused -> {
+                undone.add(step);
+                smallHistory.record(unusedAgain -> undone.remove(Integer.valueOf(step)), 1000);
+            }, 1000);
+            smallHistory.commit();
+        }
+
+        smallHistory.undo(addressBook);
+        smallHistory.undo(addressBook);
+        assertFalse(smallHistory.canUndo());
+        assertEquals(List.of(2, 1), undone);
+        assertTrue(smallHistory.canRedo());
+
+        smallHistory.setBudget(0);
+        assertFalse(smallHistory.canRedo());
+        assertThrows(IllegalArgumentException.class, () -> smallHistory.setBudget(-1));
+    }
+
+    @Test
+    public void commit_stepOverBudget_historyForgotten() {
+        List<Integer> undone = new ArrayList<>();
+        AddressBookHistory smallHistory = new AddressBookHistory(2500);
+        smallHistory.record(unused -> undone.add(0), 1000);
+        assertTrue(smallHistory.commit());
+
+        smallHistory.record(unused -> undone.add(1), 1000);
+        smallHistory.record(unused -> undone.add(1), 2000);
+        assertFalse(smallHistory.commit());
+
+        assertFalse(smallHistory.canUndo());
+        assertFalse(smallHistory.canRedo());
+        assertThrows(IllegalStateException.class, () -> smallHistory.undo(addressBook));
+        assertTrue(undone.isEmpty());
+    }
+
+    @Test
+    public void undo_afterAddThenOversizedClear_nothingUndone() {
+        Person added = new PersonBuilder().withName("Ida Mueller").build();
+        AddressBookHistory smallHistory = new AddressBookHistory(1000);
+        addressBook.setHistory(smallHistory);
+        addressBook.addPerson(added);
+        assertTrue(smallHistory.commit());
+
+        addressBook.setPersons(List.of());
+        assertFalse(smallHistory.commit());
+
+        assertFalse(smallHistory.canUndo());
+        assertThrows(IllegalStateException.class, () -> smallHistory.undo(addressBook));
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void record_zeroBudget_nothingRecorded() {
+        AddressBookHistory noHistory = new AddressBookHistory(0);
+        assertFalse(noHistory.isRecording());
+
+        noHistory.record(unused -> { }, 0);
+        assertFalse(noHistory.canUndo());
+        assertTrue(noHistory.commit());
+        assertFalse(noHistory.canUndo());
+    }
+
+    @Test
+    public void undo_operationFails_historyForgotten() {
+        history.record(unused -> {
+            throw new IllegalStateException();
+        }, 0);
+        history.commit();
+        addressBook.deleteEvent(MEETING_EVENT);
+        history.commit();
+
+        history.undo(addressBook);
+        assertThrows(IllegalStateException.class, () -> history.undo(addressBook));
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void estimateSize_largerData_largerEstimate() {
+        Person person = new PersonBuilder().build();
+        Person withNotes = new PersonBuilder().withNotes("Follow up").build();
+        Event event = new EventBuilder().build();
+        Event longerTitle = new EventBuilder().withTitle("A much longer event title").build();
+
+        assertTrue(AddressBookHistory.estimateSize(withNotes) > AddressBookHistory.estimateSize(person));
+        assertTrue(AddressBookHistory.estimateSize(longerTitle) > AddressBookHistory.estimateSize(event));
+    }
+}
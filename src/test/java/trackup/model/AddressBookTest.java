@@ -3,28 +3,41 @@ package trackup.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static trackup.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalEvents.DUPLICATE_MEETING;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
 import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
 import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.AMY;
+import static trackup.testutil.TypicalPersons.BOB;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import trackup.commons.core.index.Index;
 import trackup.model.event.Event;
 import trackup.model.event.exceptions.DuplicateEventException;
+import trackup.model.note.Note;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 import trackup.model.person.exceptions.DuplicatePersonException;
+import trackup.testutil.EventBuilder;
 import trackup.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -148,6 +161,198 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getEventList().remove(0));
     }
 
+    @Test
+    public void getGeneration_modifications_increases() {
+        long generation = addressBook.getGeneration();
+        addressBook.hasPerson(ALICE);
+        addressBook.searchPersons("alice");
+        assertEquals(generation, addressBook.getGeneration());
+
+        Person person = new PersonBuilder().build();
+        addressBook.addPerson(person);
+        assertTrue(addressBook.getGeneration() > generation);
+
+        generation = addressBook.getGeneration();
+        assertTrue(addressBook.addNote(person, new Note("Follow up")));
+        assertTrue(addressBook.getGeneration() > generation);
+
+        generation = addressBook.getGeneration();
+        addressBook.removeNote(person, Index.fromZeroBased(0));
+        assertTrue(addressBook.getGeneration() > generation);
+        assertTrue(addressBook.getSamePerson(person).get().getNotes().isEmpty());
+
+        generation = addressBook.getGeneration();
+        addressBook.addEvent(MEETING_EVENT);
+        assertTrue(addressBook.getGeneration() > generation);
+    }
+
+    @Test
+    public void batch_severalModifications_listsNotifiedOnce() {
+        AddressBook typical = getTypicalAddressBookWithEvents();
+        List<AddressBookChange> changes = new ArrayList<>();
+        typical.addChangeListener(changes::add);
+        int[] notifications = new int[2];
+        typical.getPersonList().addListener((ListChangeListener<Person>) change -> notifications[0]++);
+        typical.getEventList().addListener((ListChangeListener<Event>) change -> notifications[1]++);
+
+        List<Event> events = List.copyOf(typical.getEventList());
+        typical.batch(() -> {
+            events.forEach(typical::deleteEvent);
+            typical.addPerson(AMY);
+            typical.removePerson(ALICE);
+        });
+
+        assertEquals(1, notifications[0]);
+        assertEquals(1, notifications[1]);
+        // Change listeners are still told about every modification
+        assertEquals(events.size() + 2, changes.size());
+        assertTrue(typical.getEventList().isEmpty());
+        assertTrue(typical.hasPerson(AMY));
+        assertFalse(typical.hasPerson(ALICE));
+    }
+
+    @Test
+    public void batch_changesThrow_modificationsReported() {
+        int[] notifications = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> notifications[0]++);
+
+        assertThrows(IllegalStateException.class, () -> addressBook.batch(() -> {
+            addressBook.addPerson(ALICE);
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, notifications[0]);
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+
+        assertThrows(NullPointerException.class, () -> addressBook.batch(null));
+    }
+
+    @Test
+    public void addNote_storedPerson_replacedByNotedCopySharedWithSnapshot() {
+        Person person = new PersonBuilder().withNotes("First").build();
+        addressBook.addPerson(person);
+        Person stored = addressBook.getSamePerson(person).get();
+
+        assertTrue(addressBook.addNote(stored, new Note("Second")));
+
+        Person noted = addressBook.getSamePerson(person).get();
+        assertEquals(List.of(new Note("First"), new Note("Second")), noted.getNotes());
+        assertEquals(stored.getId(), noted.getId());
+        assertEquals(List.of(new Note("First")), stored.getNotes());
+        assertSame(noted, addressBook.snapshot().getPersonList().get(0));
+    }
+
+    @Test
+    public void snapshot_laterModifications_snapshotUnchanged() {
+        Person person = new PersonBuilder().build();
+        addressBook.addPerson(person);
+        addressBook.addEvent(MEETING_EVENT);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        AddressBook expected = new AddressBook(addressBook);
+
+        addressBook.addNote(person, new Note("Follow up"));
+        addressBook.addPerson(BOB);
+        addressBook.deleteEvent(MEETING_EVENT);
+
+        assertEquals(expected, new AddressBook(snapshot));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void snapshot_afterEachModification_matchesAddressBook() {
+        AddressBook typical = getTypicalAddressBook();
+        typical.setEvents(List.of(MEETING_EVENT, LUNCH_EVENT));
+        assertSnapshotMatches(typical);
+
+        typical.addPerson(new PersonBuilder().withName("Hoon Meier").build());
+        assertSnapshotMatches(typical);
+        typical.removePerson(ALICE);
+        assertSnapshotMatches(typical);
+        Person hoon = typical.getPersonList().get(typical.getPersonList().size() - 1);
+        typical.setPerson(hoon, new PersonBuilder(hoon).withAddress(VALID_ADDRESS_BOB).build());
+        assertSnapshotMatches(typical);
+        typical.addNote(typical.getSamePerson(hoon).orElseThrow(), new Note("Follow up"));
+        assertSnapshotMatches(typical);
+        typical.setEvent(MEETING_EVENT, new EventBuilder(MEETING_EVENT).withTitle("Standup").build());
+        assertSnapshotMatches(typical);
+        typical.deleteEvent(LUNCH_EVENT);
+        assertSnapshotMatches(typical);
+
+        assertEquals(Optional.empty(), typical.snapshot().getPersonById(ALICE.getId()));
+
+        List<Person> reversed = new ArrayList<>(typical.getPersonList());
+        Collections.reverse(reversed);
+        typical.setPersons(reversed);
+        assertSnapshotMatches(typical);
+    }
+
+    @Test
+    public void snapshot_noteRemovedLater_snapshotKeepsNote() {
+        addressBook.addPerson(new PersonBuilder().withNotes("Follow up").build());
+        Person person = addressBook.getPersonList().get(0);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.removeNote(person, Index.fromZeroBased(0));
+
+        Person snapshotPerson = snapshot.getPersonList().get(0);
+        assertEquals(List.of(new Note("Follow up")), snapshotPerson.getNotes());
+        assertEquals(Optional.of(snapshotPerson), snapshot.getPersonById(person.getId()));
+        assertTrue(addressBook.snapshot().getPersonList().get(0).getNotes().isEmpty());
+    }
+
+    @Test
+    public void addNote_maximumNotesReached_generationUnchanged() {
+        Person person = new PersonBuilder().withNotes("1", "2", "3", "4", "5").build();
+        addressBook.addPerson(person);
+        long generation = addressBook.getGeneration();
+
+        assertFalse(addressBook.addNote(person, new Note("6")));
+        assertEquals(generation, addressBook.getGeneration());
+    }
+
+    @Test
+    public void getEventsForPerson_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getEventsForPerson(null));
+    }
+
+    @Test
+    public void getEventsForPerson_noLinkedEvents_returnsEmptyList() {
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(), addressBook.getEventsForPerson(ALICE.getId()));
+    }
+
+    @Test
+    public void getEventsForPerson_addAndDeleteEvent_indexUpdated() {
+        addressBook.addEvent(MEETING_EVENT);
+        addressBook.addEvent(LUNCH_EVENT);
+        assertEquals(List.of(MEETING_EVENT), addressBook.getEventsForPerson(ALICE.getId()));
+        assertEquals(List.of(LUNCH_EVENT), addressBook.getEventsForPerson(BOB.getId()));
+
+        addressBook.deleteEvent(MEETING_EVENT);
+        assertEquals(List.of(), addressBook.getEventsForPerson(ALICE.getId()));
+        assertEquals(List.of(LUNCH_EVENT), addressBook.getEventsForPerson(BOB.getId()));
+    }
+
+    @Test
+    public void getEventsForPerson_setEvent_indexUpdated() {
+        addressBook.addEvent(MEETING_EVENT);
+        Event reassigned = new EventBuilder(MEETING_EVENT).withContactIds(Set.of(BOB.getId())).build();
+        addressBook.setEvent(MEETING_EVENT, reassigned);
+
+        assertEquals(List.of(), addressBook.getEventsForPerson(ALICE.getId()));
+        assertEquals(List.of(reassigned), addressBook.getEventsForPerson(BOB.getId()));
+    }
+
+    @Test
+    public void getEventsForPerson_resetData_indexRebuilt() {
+        addressBook.addEvent(LUNCH_EVENT);
+        addressBook.resetData(getTypicalAddressBookWithEvents());
+
+        assertEquals(List.of(MEETING_EVENT), addressBook.getEventsForPerson(ALICE.getId()));
+        assertEquals(List.of(LUNCH_EVENT), addressBook.getEventsForPerson(BOB.getId()));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(List.of(), addressBook.getEventsForPerson(BOB.getId()));
+    }
 
     @Test
     public void equals() {
@@ -168,6 +373,23 @@ public class AddressBookTest {
         assertNotEquals(newData1, newData3);
     }
 
+    /**
+     * Asserts that a snapshot of {@code addressBook} holds its persons and events in the same order, and finds each
+     * person by its identifier, and the persons in a range of identifiers in list order.
+     */
+    private static void assertSnapshotMatches(AddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getEventList(), snapshot.getEventList());
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(Optional.of(person), snapshot.getPersonById(person.getId()));
+        }
+        List<Person> inRange = addressBook.getPersonList().stream()
+                .filter(person -> person.getId().value >= 2 && person.getId().value < 5)
+                .toList();
+        assertEquals(inRange, snapshot.getPersonsWithIdsBetween(new PersonId(2), new PersonId(5)));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
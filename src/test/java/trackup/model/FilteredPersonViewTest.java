@@ -0,0 +1,153 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.DANIEL;
+import static trackup.testutil.TypicalPersons.ELLE;
+import static trackup.testutil.TypicalPersons.FIONA;
+import static trackup.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import trackup.model.person.Person;
+import trackup.testutil.PersonBuilder;
+
+public class FilteredPersonViewTest {
+
+    private static final Predicate<Person> NAME_HAS_MEIER = person -> person.getName().fullName.contains("Meier");
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList();
+    private final List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+    private FilteredPersonView view;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(ALICE, BENSON, CARL, DANIEL);
+        view = new FilteredPersonView(source, NAME_HAS_MEIER);
+        view.addListener((ListChangeListener<Person>) changes::add);
+    }
+
+    @Test
+    public void constructor_showsMatchingPersons() {
+        assertEquals(List.of(BENSON, DANIEL), view);
+        assertEquals(1, view.getSourceIndex(0));
+        assertEquals(3, view.getSourceIndex(1));
+        assertEquals(0, view.getViewIndex(1));
+        assertEquals(-1, view.getViewIndex(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+    }
+
+    @Test
+    public void sourceChanged_personNotShownAdded_nothingReported() {
+        source.add(ELLE);
+        assertEquals(List.of(BENSON, DANIEL), view);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_shownPersonAdded_onlyAdditionReported() {
+        Person hoon = new PersonBuilder().withName("Hoon Meier").build();
+        source.add(2, hoon);
+        assertEquals(List.of(BENSON, hoon, DANIEL), view);
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(2, change.getTo());
+        assertTrue(change.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_personsEditedAndRemoved_viewUpdated() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        source.set(0, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON, DANIEL), view);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        source.set(1, editedBenson);
+        assertEquals(List.of(editedAlice, DANIEL), view);
+
+        source.remove(CARL);
+        source.remove(editedAlice);
+        assertEquals(List.of(DANIEL), view);
+        assertEquals(1, view.getSourceIndex(0));
+    }
+
+    @Test
+    public void setPredicate_samePredicate_nothingReported() {
+        view.setPredicate(NAME_HAS_MEIER);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setPredicate_differentPredicate_showsMatchingPersons() {
+        view.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), view);
+        assertEquals(PREDICATE_SHOW_ALL_PERSONS, view.getPredicate());
+
+        view.setPredicate(person -> person.getName().fullName.startsWith("C"));
+        assertEquals(List.of(CARL), view);
+    }
+
+    @Test
+    public void listener_randomChanges_canFollowView() {
+        Random random = new Random(22);
+        List<Person> pool = List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE);
+        List<Person> mirror = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Person>) change -> applyChange(change, mirror));
+
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), pool.get(random.nextInt(pool.size())));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), pool.get(random.nextInt(pool.size())));
+            } else if (operation == 3) {
+                source.setAll(pool.subList(0, random.nextInt(pool.size())));
+            } else {
+                Set<Person> chosen = new HashSet<>(pool.subList(random.nextInt(pool.size()), pool.size()));
+                view.setPredicate(random.nextBoolean() ? NAME_HAS_MEIER : chosen::contains);
+            }
+            assertEquals(filter(source, view.getPredicate()), view);
+            assertEquals(view, mirror);
+        }
+    }
+
+    private static List<Person> filter(List<Person> persons, Predicate<? super Person> predicate) {
+        return persons.stream().filter(predicate).toList();
+    }
+
+    /**
+     * Applies {@code change} to {@code mirror}, as a listener that keeps its own copy of the view would.
+     */
+    private static void applyChange(ListChangeListener.Change<? extends Person> change, List<Person> mirror) {
+        while (change.next()) {
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                mirror.remove(change.getFrom());
+            }
+            if (change.wasAdded()) {
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ import static trackup.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,6 +23,7 @@ import trackup.commons.core.Visibility;
 import trackup.model.event.Event;
 import trackup.model.person.NameContainsKeywordsPredicate;
 import trackup.testutil.AddressBookBuilder;
+import trackup.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -98,6 +100,49 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_filteredList_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+
+        // The added person is shown only if it passes the filter
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        modelManager.addPerson(new PersonBuilder().withName("Alice Meier").withPhone("91234567").build());
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(3, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void undoAddressBook_afterCommittedCommands_undoneAndRedone() {
+        assertFalse(modelManager.canUndoAddressBook());
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_noUndoHistory_cannotUndo() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMegabytes(0);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void hasEvent_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasEvent(null));
@@ -122,6 +167,47 @@ public class ModelManagerTest {
         assertEquals(expected, modelManager.getEventList());
     }
 
+    @Test
+    public void getEventsForPerson_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.getEventsForPerson(null));
+    }
+
+    @Test
+    public void getEventsForPerson_linkedEvents_returnsOnlyThoseEvents() {
+        modelManager.addEvent(MEETING_EVENT);
+        modelManager.addEvent(LUNCH_EVENT);
+        assertEquals(List.of(MEETING_EVENT), modelManager.getEventsForPerson(ALICE));
+        assertEquals(List.of(), modelManager.getEventsForPerson(BENSON));
+    }
+
+    @Test
+    public void getEventsOverlapping_eventsInAndOutOfRange_returnsOnlyOverlapping() {
+        modelManager.addEvent(MEETING_EVENT);
+        modelManager.addEvent(LUNCH_EVENT);
+        assertEquals(List.of(LUNCH_EVENT), modelManager.getEventsOverlapping(
+                LocalDateTime.of(2025, 4, 2, 0, 0), LocalDateTime.of(2025, 4, 3, 0, 0)));
+        assertThrows(NullPointerException.class, () -> modelManager.getEventsOverlapping(null, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void fromLoadedAddressBook_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ModelManager.fromLoadedAddressBook(null, new UserPrefs()));
+        assertThrows(NullPointerException.class, () -> ModelManager.fromLoadedAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void fromLoadedAddressBook_adoptsAddressBook() {
+        AddressBook loaded = new AddressBookBuilder().withPerson(ALICE).build();
+        loaded.addEvent(MEETING_EVENT);
+        ModelManager adopted = ModelManager.fromLoadedAddressBook(loaded, new UserPrefs());
+        assertTrue(adopted.getAddressBook() == loaded);
+        assertEquals(new ModelManager(loaded, new UserPrefs()), adopted);
+
+        adopted.addPerson(BENSON);
+        assertTrue(loaded.hasPerson(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), adopted.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
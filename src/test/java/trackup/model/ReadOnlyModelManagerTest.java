@@ -0,0 +1,147 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.DANIEL;
+import static trackup.testutil.TypicalPersons.HOON;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import trackup.model.person.Comparators;
+import trackup.model.person.Person;
+import trackup.storage.BinaryAddressBookStorage;
+import trackup.storage.MappedAddressBook;
+
+public class ReadOnlyModelManagerTest {
+
+    private static final Path FILE_PATH = Paths.get("archive.bin");
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+    private ModelManager modelManager;
+    private ReadOnlyModelManager readOnlyModelManager;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBookWithEvents();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        readOnlyModelManager = new ReadOnlyModelManager(addressBook, FILE_PATH, new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReadOnlyModelManager(null, FILE_PATH, new UserPrefs()));
+        assertThrows(NullPointerException.class, () -> new ReadOnlyModelManager(addressBook, null, new UserPrefs()));
+    }
+
+    @Test
+    public void getAddressBookFilePath_returnsBrowsedFile() {
+        assertEquals(FILE_PATH, readOnlyModelManager.getAddressBookFilePath());
+    }
+
+    @Test
+    public void modify_readOnly_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModelManager.addPerson(HOON));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModelManager.deletePerson(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModelManager.setAddressBook(
+                new AddressBook()));
+        assertThrows(UnsupportedOperationException.class, () -> readOnlyModelManager.getFilteredPersonList()
+                .remove(0));
+    }
+
+    @Test
+    public void hasPerson_sameAsModelManager() {
+        assertTrue(readOnlyModelManager.hasPerson(ALICE));
+        assertFalse(readOnlyModelManager.hasPerson(HOON));
+    }
+
+    @Test
+    public void searchAndFind_sameAsModelManager() {
+        for (String keyword : List.of("a", "ali", "ALICE", "friends", "9482", "nothing")) {
+            assertEquals(new HashSet<>(modelManager.searchPersons(keyword)),
+                    readOnlyModelManager.searchPersons(keyword));
+        }
+        List<String> keywords = List.of("Alice", "ben*");
+        assertEquals(new HashSet<>(modelManager.findPersonsByName(keywords)),
+                readOnlyModelManager.findPersonsByName(keywords));
+    }
+
+    @Test
+    public void searchAndFind_personsDecodedAfresh_allMatchesShown() throws Exception {
+        Path filePath = testFolder.resolve("archive.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        // Caches a single person, so that every other person is decoded again each time it is read
+        MappedAddressBook archive = MappedAddressBook.open(filePath, 64, 1);
+        ReadOnlyModelManager archiveModel = new ReadOnlyModelManager(archive, filePath, new UserPrefs());
+
+        Set<Person> found = archiveModel.findPersonsByName(List.of("Meier"));
+        archiveModel.updateFilteredPersonList(found::contains);
+        assertEquals(List.of(BENSON, DANIEL), archiveModel.getFilteredPersonList());
+
+        Set<Person> searched = archiveModel.searchPersons("meier");
+        archiveModel.updateFilteredPersonList(searched::contains);
+        assertEquals(List.of(BENSON, DANIEL), archiveModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameAsModelManager() {
+        assertEquals(modelManager.getFilteredPersonList(), readOnlyModelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(person -> person.getName().fullName.contains("e"));
+        readOnlyModelManager.updateFilteredPersonList(person -> person.getName().fullName.contains("e"));
+        assertEquals(modelManager.getFilteredPersonList(), readOnlyModelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(Comparators.PHONE_COMPARATOR);
+        readOnlyModelManager.sortFilteredPersonList(Comparators.PHONE_COMPARATOR);
+        assertEquals(modelManager.getFilteredPersonList(), readOnlyModelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        readOnlyModelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(modelManager.getFilteredPersonList(), readOnlyModelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(null);
+        readOnlyModelManager.sortFilteredPersonList(null);
+        assertEquals(modelManager.getFilteredPersonList(), readOnlyModelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_listenerTold() {
+        List<Person> shown = new ArrayList<>(readOnlyModelManager.getFilteredPersonList());
+        readOnlyModelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                shown.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                shown.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        readOnlyModelManager.updateFilteredPersonList(BOB::equals);
+        assertEquals(List.of(BOB), shown);
+    }
+
+    @Test
+    public void events_sameAsModelManager() {
+        assertEquals(modelManager.getEventList(), readOnlyModelManager.getEventList());
+        assertEquals(modelManager.getEventsForPerson(ALICE), readOnlyModelManager.getEventsForPerson(ALICE));
+        assertEquals(modelManager.getEventsForPerson(HOON), readOnlyModelManager.getEventsForPerson(HOON));
+    }
+}
@@ -9,6 +9,7 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 
 import trackup.commons.core.GuiSettings;
+import trackup.commons.core.StorageFormat;
 import trackup.commons.core.Visibility;
 
 public class UserPrefsTest {
@@ -25,6 +26,18 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageFormat(null));
+    }
+
+    @Test
+    public void setUndoHistoryMegabytes_negativeSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMegabytes(-1));
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         UserPrefs userPrefs = new UserPrefs();
@@ -53,6 +66,33 @@ public class UserPrefsTest {
         assertNotEquals(userPrefs1, userPrefs2);
     }
 
+    @Test
+    public void equals_differentStorageFormat_returnsFalse() {
+        UserPrefs userPrefs1 = new UserPrefs();
+        UserPrefs userPrefs2 = new UserPrefs();
+        userPrefs2.setStorageFormat(StorageFormat.BINARY);
+        assertNotEquals(userPrefs1, userPrefs2);
+        assertEquals(userPrefs2, new UserPrefs(userPrefs2));
+    }
+
+    @Test
+    public void equals_differentUndoHistorySize_returnsFalse() {
+        UserPrefs userPrefs1 = new UserPrefs();
+        UserPrefs userPrefs2 = new UserPrefs();
+        userPrefs2.setUndoHistoryMegabytes(0);
+        assertNotEquals(userPrefs1, userPrefs2);
+        assertEquals(userPrefs2, new UserPrefs(userPrefs2));
+    }
+
+    @Test
+    public void equals_differentJournaling_returnsFalse() {
+        UserPrefs userPrefs1 = new UserPrefs();
+        UserPrefs userPrefs2 = new UserPrefs();
+        userPrefs2.setJournaling(true);
+        assertNotEquals(userPrefs1, userPrefs2);
+        assertEquals(userPrefs2, new UserPrefs(userPrefs2));
+    }
+
     @Test
     public void hashCode_sameValues_returnsSameHashCode() {
         UserPrefs userPrefs1 = new UserPrefs();
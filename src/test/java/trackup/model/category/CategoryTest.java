@@ -1,6 +1,9 @@
 package trackup.model.category;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 
@@ -19,6 +22,21 @@ public class CategoryTest {
         assertThrows(IllegalArgumentException.class, () -> new Category(invalidCategory));
     }
 
+    @Test
+    public void of_validCategory_returnsSameCategory() {
+        Category client = Category.of("Client");
+        assertSame(client, Category.of("Client"));
+        assertEquals(new Category("Client"), client);
+        assertNotSame(client, Category.of("Investor"));
+    }
+
+    @Test
+    public void of_invalidCategory_throwsException() {
+        assertThrows(NullPointerException.class, () -> Category.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Category.of("client"));
+        assertThrows(IllegalArgumentException.class, () -> Category.of("InvalidCategory"));
+    }
+
     @Test
     public void isValidCategoryName() {
         // invalid category names
@@ -2,6 +2,7 @@ package trackup.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.ALICE;
@@ -22,12 +23,18 @@ public class EventTest {
     private static final LocalDateTime DIFFERENT_START = LocalDateTime.of(2024, 5, 2, 10, 0);
     private static final LocalDateTime DIFFERENT_END = LocalDateTime.of(2024, 5, 2, 12, 0);
 
-    private final Event baseEvent = new Event(TITLE_MEETING, START, END, Set.of(ALICE));
+    private final Event baseEvent = new Event(TITLE_MEETING, START, END, Set.of(ALICE.getId()));
 
     @Test
-    public void getContacts_modifySet_throwsUnsupportedOperationException() {
-        Event event = new Event(TITLE_MEETING, START, END, Set.of(ALICE));
-        assertThrows(UnsupportedOperationException.class, () -> event.getContacts().remove(ALICE));
+    public void getContactIds_modifySet_throwsUnsupportedOperationException() {
+        Event event = new Event(TITLE_MEETING, START, END, Set.of(ALICE.getId()));
+        assertThrows(UnsupportedOperationException.class, () -> event.getContactIds().remove(ALICE.getId()));
+    }
+
+    @Test
+    public void hasContact() {
+        assertTrue(baseEvent.hasContact(ALICE.getId()));
+        assertFalse(baseEvent.hasContact(BOB.getId()));
     }
 
     @Test
@@ -39,26 +46,26 @@ public class EventTest {
         assertFalse(baseEvent.isSameEvent(null));
 
         // same title, start and end -> true
-        Event copy = new Event(TITLE_MEETING, START, END, Set.of(BOB));
+        Event copy = new Event(TITLE_MEETING, START, END, Set.of(BOB.getId()));
         assertTrue(baseEvent.isSameEvent(copy));
 
         // different title -> false
-        Event diffTitle = new Event(TITLE_WORKSHOP, START, END, Set.of(ALICE));
+        Event diffTitle = new Event(TITLE_WORKSHOP, START, END, Set.of(ALICE.getId()));
         assertFalse(baseEvent.isSameEvent(diffTitle));
 
         // different start -> false
-        Event diffStart = new Event(TITLE_MEETING, DIFFERENT_START, END, Set.of(ALICE));
+        Event diffStart = new Event(TITLE_MEETING, DIFFERENT_START, END, Set.of(ALICE.getId()));
         assertFalse(baseEvent.isSameEvent(diffStart));
 
         // different end -> false
-        Event diffEnd = new Event(TITLE_MEETING, START, DIFFERENT_END, Set.of(ALICE));
+        Event diffEnd = new Event(TITLE_MEETING, START, DIFFERENT_END, Set.of(ALICE.getId()));
         assertFalse(baseEvent.isSameEvent(diffEnd));
     }
 
     @Test
     public void equalsMethod() {
         // same values -> true
-        Event eventCopy = new Event(TITLE_MEETING, START, END, Set.of(ALICE));
+        Event eventCopy = new Event(TITLE_MEETING, START, END, Set.of(ALICE.getId()));
         assertTrue(baseEvent.equals(eventCopy));
 
         // same object -> true
@@ -71,26 +78,40 @@ public class EventTest {
         assertFalse(baseEvent.equals(5));
 
         // different title -> false
-        Event differentTitle = new Event(TITLE_WORKSHOP, START, END, Set.of(ALICE));
+        Event differentTitle = new Event(TITLE_WORKSHOP, START, END, Set.of(ALICE.getId()));
         assertFalse(baseEvent.equals(differentTitle));
 
         // different start -> false
-        Event differentStart = new Event(TITLE_MEETING, DIFFERENT_START, END, Set.of(ALICE));
+        Event differentStart = new Event(TITLE_MEETING, DIFFERENT_START, END, Set.of(ALICE.getId()));
         assertFalse(baseEvent.equals(differentStart));
 
         // different end -> false
-        Event differentEnd = new Event(TITLE_MEETING, START, DIFFERENT_END, Set.of(ALICE));
+        Event differentEnd = new Event(TITLE_MEETING, START, DIFFERENT_END, Set.of(ALICE.getId()));
         assertFalse(baseEvent.equals(differentEnd));
 
         // different contacts -> false
-        Event differentContacts = new Event(TITLE_MEETING, START, END, Set.of(BOB));
+        Event differentContacts = new Event(TITLE_MEETING, START, END, Set.of(BOB.getId()));
         assertFalse(baseEvent.equals(differentContacts));
     }
 
+    @Test
+    public void getIdentity() {
+        // different contacts -> same identity
+        Event otherContacts = new Event(TITLE_MEETING, START, END, Set.of(BOB.getId()));
+        assertEquals(baseEvent.getIdentity(), otherContacts.getIdentity());
+        assertEquals(baseEvent.getIdentity().hashCode(), otherContacts.getIdentity().hashCode());
+        assertNotEquals(baseEvent.hashCode(), otherContacts.hashCode());
+
+        // different title or time range -> different identity
+        assertNotEquals(baseEvent.getIdentity(), new Event(TITLE_WORKSHOP, START, END, Set.of()).getIdentity());
+        assertNotEquals(baseEvent.getIdentity(),
+                new Event(TITLE_MEETING, DIFFERENT_START, DIFFERENT_END, Set.of()).getIdentity());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = "Event{title='Team Meeting', startDateTime=2024-05-01T10:00, "
-                + "endDateTime=2024-05-01T12:00, contacts=" + baseEvent.getContacts() + "}";
+                + "endDateTime=2024-05-01T12:00, contacts=[1]}";
         assertEquals(expected, baseEvent.toString());
     }
 }
@@ -0,0 +1,175 @@
+package trackup.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.model.event.exceptions.DuplicateEventException;
+import trackup.model.event.exceptions.EventNotFoundException;
+import trackup.testutil.EventBuilder;
+
+public class UniqueEventListTest {
+
+    private final UniqueEventList uniqueEventList = new UniqueEventList();
+
+    @Test
+    public void contains_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.contains(null));
+    }
+
+    @Test
+    public void contains_eventWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueEventList.add(MEETING_EVENT);
+        Event editedMeeting = new EventBuilder(MEETING_EVENT).addContacts(BOB).build();
+        assertTrue(uniqueEventList.contains(editedMeeting));
+        assertFalse(uniqueEventList.contains(LUNCH_EVENT));
+    }
+
+    @Test
+    public void add_duplicateEvent_throwsDuplicateEventException() {
+        uniqueEventList.add(MEETING_EVENT);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(MEETING_EVENT));
+    }
+
+    @Test
+    public void setEvent_targetNotInList_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.setEvent(MEETING_EVENT, LUNCH_EVENT));
+    }
+
+    @Test
+    public void setEvent_identityChanged_indexUpdated() {
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.setEvent(MEETING_EVENT, LUNCH_EVENT);
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+        assertTrue(uniqueEventList.contains(LUNCH_EVENT));
+        assertEquals(Collections.singletonList(LUNCH_EVENT), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvent_editedEventHasNonUniqueIdentity_throwsDuplicateEventException() {
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.add(LUNCH_EVENT);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(MEETING_EVENT, LUNCH_EVENT));
+    }
+
+    @Test
+    public void remove_existingEvent_releasesIdentity() {
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.remove(MEETING_EVENT);
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.remove(MEETING_EVENT));
+    }
+
+    @Test
+    public void setEvents_listWithDuplicateEvents_throwsDuplicateEventExceptionAndKeepsList() {
+        uniqueEventList.add(LUNCH_EVENT);
+        List<Event> listWithDuplicateEvents = Arrays.asList(MEETING_EVENT,
+                new EventBuilder(MEETING_EVENT).addContacts(BOB).build());
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
+        assertTrue(uniqueEventList.contains(LUNCH_EVENT));
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+    }
+
+    @Test
+    public void setEvents_largeList_replacesIndex() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            events.add(new EventBuilder().withTitle("Event " + i).build());
+        }
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.setEvents(events);
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+        assertTrue(uniqueEventList.contains(new EventBuilder().withTitle("Event 4999").build()));
+
+        UniqueEventList replacement = new UniqueEventList();
+        replacement.add(LUNCH_EVENT);
+        uniqueEventList.setEvents(replacement);
+        assertEquals(replacement, uniqueEventList);
+        assertTrue(uniqueEventList.contains(LUNCH_EVENT));
+    }
+
+    @Test
+    public void getOverlapping_nullBounds_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.getOverlapping(null, LocalDateTime.MAX));
+        assertThrows(NullPointerException.class, () -> uniqueEventList.getOverlapping(LocalDateTime.MIN, null));
+    }
+
+    @Test
+    public void getOverlapping_halfOpenRange_excludesTouchingEvents() {
+        uniqueEventList.add(MEETING_EVENT); // 2025-04-01 14:00 to 15:00
+        uniqueEventList.add(LUNCH_EVENT); // 2025-04-02 12:00 to 13:00
+
+        assertEquals(List.of(MEETING_EVENT), uniqueEventList.getOverlapping(
+                LocalDateTime.of(2025, 4, 1, 14, 30), LocalDateTime.of(2025, 4, 2, 12, 0)));
+        assertEquals(List.of(), uniqueEventList.getOverlapping(
+                LocalDateTime.of(2025, 4, 1, 15, 0), LocalDateTime.of(2025, 4, 2, 12, 0)));
+        assertEquals(List.of(MEETING_EVENT, LUNCH_EVENT), uniqueEventList.getOverlapping(
+                LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 4, 3, 0, 0)));
+    }
+
+    @Test
+    public void getOverlapping_afterSetEventAndRemove_indexUpdated() {
+        uniqueEventList.add(MEETING_EVENT);
+        Event moved = new EventBuilder(MEETING_EVENT).withStart(LocalDateTime.of(2025, 5, 1, 14, 0))
+                .withEnd(LocalDateTime.of(2025, 5, 1, 15, 0)).build();
+        uniqueEventList.setEvent(MEETING_EVENT, moved);
+
+        assertEquals(List.of(), uniqueEventList.getOverlapping(
+                LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 4, 2, 0, 0)));
+        assertEquals(List.of(moved), uniqueEventList.getOverlapping(
+                LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 5, 2, 0, 0)));
+
+        uniqueEventList.remove(moved);
+        assertEquals(List.of(), uniqueEventList.getOverlapping(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    public void getOverlapping_randomOperations_matchesLinearScan() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(24 * 60));
+            events.add(new EventBuilder().withTitle("Event " + i).withStart(start)
+                    .withEnd(start.plusHours(1 + random.nextInt(random.nextInt(10) == 0 ? 24 * 14 : 6))).build());
+        }
+        uniqueEventList.setEvents(events.subList(0, 250));
+        for (Event event : events.subList(250, 500)) {
+            uniqueEventList.add(event);
+        }
+        for (int i = 0; i < 100; i++) {
+            uniqueEventList.remove(events.get(i * 5));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = base.plusHours(random.nextInt(24 * 60));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24 * 7));
+            List<Event> expected = uniqueEventList.asUnmodifiableObservableList().stream()
+                    .filter(event -> event.getStartDateTime().isBefore(to) && event.getEndDateTime().isAfter(from))
+                    .sorted(Comparator.comparing(Event::getStartDateTime).thenComparing(Event::getEndDateTime)
+                            .thenComparing(Event::getTitle))
+                    .toList();
+            assertEquals(expected, uniqueEventList.getOverlapping(from, to));
+        }
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueEventList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,81 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static trackup.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.testutil.PersonBuilder;
+
+public class ComparatorsTest {
+
+    @Test
+    public void comparators_matchFieldComparisons() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("alice pauline").withPhone("123").withEmail("b@example.com")
+                .withTags().withCategory("Investor").build());
+        persons.add(new PersonBuilder().withName("ALICE Zed").withPhone("94351253").withTags("zeta", "alpha")
+                .build());
+
+        assertSameOrder(persons, Comparators.NAME_COMPARATOR, Comparator.comparing(Person::getName));
+        assertSameOrder(persons, Comparators.PHONE_COMPARATOR, Comparator.comparing(Person::getPhone));
+        assertSameOrder(persons, Comparators.EMAIL_COMPARATOR, Comparator.comparing(Person::getEmail));
+        assertSameOrder(persons, Comparators.ADDRESS_COMPARATOR, Comparator.comparing(Person::getAddress));
+        assertSameOrder(persons, Comparators.TAG_COMPARATOR, Comparator.comparing(p -> p.getTags().toString()));
+        assertSameOrder(persons, Comparators.CATEGORY_COMPARATOR,
+                Comparator.comparing(p -> p.getCategory().toString()));
+    }
+
+    @Test
+    public void foldCase_randomStrings_ordersLikeCompareToIgnoreCase() {
+        Random random = new Random(8);
+        String alphabet = "aAbBzZ09 _-[]`{|}~éÉß";
+        for (int i = 0; i < 2000; i++) {
+            String first = randomString(random, alphabet);
+            String second = randomString(random, alphabet);
+            assertEquals(Integer.signum(first.compareToIgnoreCase(second)),
+                    Integer.signum(PersonSortKeys.foldCase(first).compareTo(PersonSortKeys.foldCase(second))));
+        }
+    }
+
+    @Test
+    public void precomputeSortKeys_largeList_sortsLikeFieldComparison() {
+        List<Person> persons = new ArrayList<>();
+        Random random = new Random(2103);
+        for (int i = 0; i < Comparators.PARALLEL_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withName("Person " + random.nextInt(Integer.MAX_VALUE)).build());
+        }
+        Comparators.precomputeSortKeys(persons);
+        Person first = persons.get(0);
+        assertSame(first.getSortKeys(), first.getSortKeys());
+
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(Comparator.comparing(Person::getName));
+        persons.sort(Comparators.NAME_COMPARATOR);
+        assertEquals(expected, persons);
+    }
+
+    private static void assertSameOrder(List<Person> persons, Comparator<Person> actual, Comparator<Person> expected) {
+        for (Person first : persons) {
+            for (Person second : persons) {
+                assertEquals(Integer.signum(expected.compare(first, second)),
+                        Integer.signum(actual.compare(first, second)));
+            }
+        }
+    }
+
+    private static String randomString(Random random, String alphabet) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -1,9 +1,13 @@
 package trackup.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -80,6 +84,31 @@ public class EmailTest {
 
     }
 
+    @Test
+    public void isValidEmail_randomStrings_sameAsValidationRegex() {
+        Pattern pattern = Pattern.compile(Email.VALIDATION_REGEX);
+        Random random = new Random(42);
+        String alphabet = "aZ9+_.-@ ";
+        int validCount = 0;
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                test.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            boolean isValid = pattern.matcher(test).matches();
+            assertEquals(isValid, Email.isValidEmail(test.toString()), test.toString());
+            validCount += isValid ? 1 : 0;
+        }
+        assertTrue(validCount > 0);
+    }
+
+    @Test
+    public void isValidEmail_longInvalidDomain_returnsFalse() {
+        // Matching the validation regex would backtrack for a very long time on this
+        assertFalse(Email.isValidEmail("peter@example." + "a".repeat(10_000) + "-"));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email.com");
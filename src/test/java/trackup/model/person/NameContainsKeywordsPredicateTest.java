@@ -74,6 +74,27 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_prefixKeywords_matchesStartOfWords() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob ALI").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob Kalita").build()));
+
+        // Without the wildcard only whole words match
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("ali"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void isPrefixKeyword() {
+        assertTrue(NameContainsKeywordsPredicate.isPrefixKeyword("a*"));
+        assertFalse(NameContainsKeywordsPredicate.isPrefixKeyword("a"));
+        assertFalse(NameContainsKeywordsPredicate.isPrefixKeyword("*"));
+        assertEquals("a", NameContainsKeywordsPredicate.stripWildcard("a*"));
+        assertEquals("a", NameContainsKeywordsPredicate.stripWildcard("a"));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,57 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonId(0));
+        assertThrows(IllegalArgumentException.class, () -> new PersonId(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(PersonId.isValidId(0));
+        assertFalse(PersonId.isValidId(-5));
+        assertTrue(PersonId.isValidId(1));
+        assertTrue(PersonId.isValidId(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void isAssigned() {
+        assertFalse(PersonId.UNASSIGNED.isAssigned());
+        assertTrue(new PersonId(1).isAssigned());
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = new PersonId(3);
+
+        // same values -> returns true
+        assertTrue(id.equals(new PersonId(3)));
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(3L));
+
+        // different values -> returns false
+        assertFalse(id.equals(new PersonId(4)));
+        assertFalse(id.equals(PersonId.UNASSIGNED));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("3", new PersonId(3).toString());
+    }
+}
@@ -2,6 +2,7 @@ package trackup.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static trackup.logic.commands.CommandTestUtil.VALID_CATEGORY_INVESTOR;
@@ -13,8 +14,11 @@ import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.ALICE;
 import static trackup.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import trackup.model.note.Note;
 import trackup.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -141,6 +145,43 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getIdentity() {
+        // same identity fields, different data fields -> same identity
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND)
+                .build();
+        assertEquals(ALICE.getIdentity(), editedAlice.getIdentity());
+        assertEquals(ALICE.getIdentity().hashCode(), editedAlice.getIdentity().hashCode());
+
+        // email differs only in case -> same identity
+        editedAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertEquals(ALICE.getIdentity(), editedAlice.getIdentity());
+        assertEquals(ALICE.hashCode(), editedAlice.hashCode());
+
+        // different phone -> different identity
+        editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertNotEquals(ALICE.getIdentity(), editedAlice.getIdentity());
+    }
+
+    @Test
+    public void getNotes_modifyNotes_throwsUnsupportedOperationException() {
+        Person person = new PersonBuilder().withNotes("Follow up").build();
+        assertThrows(UnsupportedOperationException.class, () -> person.getNotes().add(new Note("Call back")));
+    }
+
+    @Test
+    public void withNotes_newNotes_copyWithNotesReturned() {
+        Person person = new PersonBuilder().withId(7).withNotes("First").build();
+        Person noted = person.withNotes(List.of(new Note("First"), new Note("Second")));
+
+        assertEquals(List.of(new Note("First"), new Note("Second")), noted.getNotes());
+        assertEquals(person.getId(), noted.getId());
+        assertTrue(person.isSamePerson(noted));
+        assertNotEquals(person, noted);
+        // the original person is left unchanged
+        assertEquals(List.of(new Note("First")), person.getNotes());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
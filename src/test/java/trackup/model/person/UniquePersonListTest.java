@@ -4,19 +4,30 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static trackup.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static trackup.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.ALICE;
 import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import trackup.model.person.exceptions.DuplicatePersonException;
 import trackup.model.person.exceptions.PersonNotFoundException;
+import trackup.model.tag.Tag;
 import trackup.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -39,6 +50,18 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(ALICE));
     }
 
+    @Test
+    public void contains_emailDifferingInCaseUnderTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            uniquePersonList.add(new PersonBuilder(ALICE).withEmail("IRIS@example.com").build());
+            assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).withEmail("iris@example.com").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void contains_personWithSameIdentityFieldsInList_returnsTrue() {
         uniquePersonList.add(ALICE);
@@ -172,4 +195,255 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void contains_emailDiffersOnlyInCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseEmailAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseEmailAlice));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(upperCaseEmailAlice));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_identityChanged_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(editedAlice));
+
+        // the released identity can be taken by another person again
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPersons_replacesIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(CARL);
+        uniquePersonList.setPersons(replacement);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.contains(CARL));
+
+        // the two lists must not share their index
+        replacement.remove(CARL);
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void add_personWithoutId_assignedFreshId() {
+        uniquePersonList.add(ALICE);
+        Person person = new PersonBuilder().build();
+        uniquePersonList.add(person);
+
+        Person stored = uniquePersonList.asUnmodifiableObservableList().get(1);
+        assertEquals(person, stored);
+        assertTrue(stored.getId().isAssigned());
+        assertFalse(stored.getId().equals(ALICE.getId()));
+        assertEquals(Optional.of(stored), uniquePersonList.getPerson(stored.getId()));
+    }
+
+    @Test
+    public void add_personWithTakenId_assignedFreshId() {
+        uniquePersonList.add(ALICE);
+        Person sameIdAsAlice = new PersonBuilder(BOB).withId(ALICE.getId().value).build();
+        uniquePersonList.add(sameIdAsAlice);
+
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPerson(ALICE.getId()));
+        assertEquals(Optional.of(sameIdAsAlice), uniquePersonList.getSamePerson(BOB));
+        assertFalse(uniquePersonList.getSamePerson(BOB).get().getId().equals(ALICE.getId()));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsTargetId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(ALICE.getId(), uniquePersonList.getSamePerson(BOB).get().getId());
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(ALICE.getId()));
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(BOB.getId()));
+    }
+
+    @Test
+    public void remove_existingPerson_releasesId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(ALICE.getId()));
+    }
+
+    @Test
+    public void setPersons_list_keepsUniqueIdsAndAssignsOthers() {
+        Person withoutId = new PersonBuilder().build();
+        Person sameIdAsAlice = new PersonBuilder(BOB).withId(ALICE.getId().value).build();
+        uniquePersonList.setPersons(Arrays.asList(withoutId, ALICE, sameIdAsAlice, CARL));
+
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPerson(ALICE.getId()));
+        assertEquals(Optional.of(CARL), uniquePersonList.getPerson(CARL.getId()));
+        long maxId = Math.max(ALICE.getId().value, CARL.getId().value);
+        assertTrue(uniquePersonList.getSamePerson(withoutId).get().getId().value > maxId);
+        assertTrue(uniquePersonList.getSamePerson(BOB).get().getId().value > maxId);
+    }
+
+    @Test
+    public void search_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.search(null));
+    }
+
+    @Test
+    public void search_keywordInAnyAttribute_returnsMatchingPersons() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertEquals(Set.of(ALICE), Set.copyOf(uniquePersonList.search("alice PAU")));
+        assertEquals(Set.of(ALICE), Set.copyOf(uniquePersonList.search(ALICE.getPhone().value)));
+        assertEquals(Set.of(CARL), Set.copyOf(uniquePersonList.search(CARL.getAddress().value.toUpperCase())));
+        assertTrue(uniquePersonList.search("no such keyword").isEmpty());
+    }
+
+    @Test
+    public void search_afterSetPersonAndRemove_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(uniquePersonList.search(ALICE.getAddress().value).isEmpty());
+        assertEquals(1, uniquePersonList.search(VALID_ADDRESS_BOB).size());
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.search(VALID_ADDRESS_BOB).isEmpty());
+    }
+
+    @Test
+    public void findByName_wholeAndPrefixKeywords_returnsMatchingPersons() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertEquals(Set.of(ALICE, CARL), Set.copyOf(uniquePersonList.findByName(List.of("PAULINE", "kurz"))));
+        assertEquals(Set.of(ALICE), Set.copyOf(uniquePersonList.findByName(List.of("al*"))));
+        assertTrue(uniquePersonList.findByName(List.of("al")).isEmpty());
+        assertTrue(uniquePersonList.findByName(List.of()).isEmpty());
+    }
+
+    @Test
+    public void findByName_afterSetPersonAndRemove_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(uniquePersonList.findByName(List.of("Pauline")).isEmpty());
+        assertEquals(1, uniquePersonList.findByName(List.of("tan")).size());
+
+        uniquePersonList.remove(renamedAlice);
+        assertTrue(uniquePersonList.findByName(List.of("tan", "ali*")).isEmpty());
+    }
+
+    @Test
+    public void setPersonAndRemove_middlePerson_othersKeepTheirPositions() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<Person> expected = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        expected.set(2, editedCarl);
+        expected.remove(0);
+        expected.add(BOB);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void randomOperations_indexConsistentWithList() {
+        List<Person> pool = new ArrayList<>(getTypicalPersons());
+        pool.add(BOB);
+        for (Person person : getTypicalPersons()) {
+            pool.add(new PersonBuilder(person).withAddress(VALID_ADDRESS_BOB).build());
+        }
+
+        Random random = new Random(2103);
+        for (int i = 0; i < 2000; i++) {
+            Person person = pool.get(random.nextInt(pool.size()));
+            Person other = pool.get(random.nextInt(pool.size()));
+            try {
+                switch (random.nextInt(4)) {
+                case 0:
+                    uniquePersonList.add(person);
+                    break;
+                case 1:
+                    uniquePersonList.remove(person);
+                    break;
+                case 2:
+                    uniquePersonList.setPerson(person, other);
+                    break;
+                default:
+                    if (random.nextInt(20) == 0) {
+                        uniquePersonList.setPersons(Arrays.asList(person));
+                    }
+                    break;
+                }
+            } catch (DuplicatePersonException | PersonNotFoundException e) {
+                // rejected operations must leave the list untouched, which the check below verifies
+            }
+            assertIndexConsistent(pool);
+        }
+    }
+
+    /**
+     * Asserts that identity lookups through the index agree with a linear scan of the backing list.
+     */
+    private void assertIndexConsistent(List<Person> pool) {
+        List<Person> backingList = uniquePersonList.asUnmodifiableObservableList();
+        for (Person person : pool) {
+            boolean expected = backingList.stream().anyMatch(person::isSamePerson);
+            assertEquals(expected, uniquePersonList.contains(person));
+        }
+        for (Person person : backingList) {
+            assertTrue(uniquePersonList.getPerson(person.getId()).get() == person);
+        }
+        for (int i = 0; i < backingList.size(); i++) {
+            for (int j = i + 1; j < backingList.size(); j++) {
+                assertFalse(backingList.get(i).isSamePerson(backingList.get(j)));
+            }
+        }
+        for (String keyword : List.of("a", "el", "ali", "STREET", "9482", "@example.com", "friends] [owes", "zzz")) {
+            Set<Person> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            backingList.stream().filter(person -> linearSearchMatches(person, keyword)).forEach(expected::add);
+            assertEquals(expected, uniquePersonList.search(keyword));
+        }
+        for (List<String> keywords : List.of(List.of("alice", "MEIER"), List.of("k*", "BE*"), List.of("d*"))) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Person> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            backingList.stream().filter(predicate).forEach(expected::add);
+            assertEquals(expected, uniquePersonList.findByName(keywords));
+        }
+    }
+
+    /**
+     * Returns true if {@code person} matches {@code keyword} when tested attribute by attribute.
+     */
+    private static boolean linearSearchMatches(Person person, String keyword) {
+        String lowerKeyword = keyword.toLowerCase();
+        return person.getName().fullName.toLowerCase().contains(lowerKeyword)
+                || person.getPhone().value.contains(lowerKeyword)
+                || person.getEmail().value.toLowerCase().contains(lowerKeyword)
+                || person.getAddress().value.toLowerCase().contains(lowerKeyword)
+                || person.getTags().stream().map(Tag::toString).collect(Collectors.joining(" "))
+                        .toLowerCase().contains(lowerKeyword)
+                || person.getCategory().map(category -> category.toString().toLowerCase().contains(lowerKeyword))
+                        .orElse(false);
+    }
 }
@@ -2,6 +2,8 @@ package trackup.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static trackup.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,24 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameTag() {
+        Tag tag = Tag.of("abc");
+        assertSame(tag, Tag.of("abc"));
+        assertSame(tag, Tag.of(new String("abc")));
+        assertEquals(new Tag("abc"), tag);
+
+        // different tag name -> different tag
+        assertNotSame(tag, Tag.of("ABC"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("best friend"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
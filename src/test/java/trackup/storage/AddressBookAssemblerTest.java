@@ -0,0 +1,67 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static trackup.storage.ParallelPersonConverterTest.createRecords;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.model.person.Phone;
+
+public class AddressBookAssemblerTest {
+
+    private static final int BATCH_SIZE = 8;
+
+    @Test
+    public void build_personsOverSeveralBatches_orderKept() throws Exception {
+        List<JsonAdaptedPerson> records = createRecords(30);
+        AddressBookAssembler assembler = new AddressBookAssembler(BATCH_SIZE);
+        for (JsonAdaptedPerson record : records) {
+            assembler.addPerson(record);
+        }
+
+        AddressBook addressBook = assembler.build();
+        assertEquals(records.size(), addressBook.getPersonList().size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(records.get(i).toModelType(), addressBook.getPersonList().get(i));
+        }
+        assertFalse(assembler.isLegacyFormat());
+    }
+
+    @Test
+    public void build_duplicateIdBeforeInvalidPerson_duplicateReported() {
+        List<JsonAdaptedPerson> records = createRecords(BATCH_SIZE);
+        // A copy of the first person, followed by an invalid person in the same batch
+        records.set(3, records.get(0));
+        records.set(5, new JsonAdaptedPerson("Valid Name", "+651234", "valid@example.com", "Valid address",
+                List.of(), null, List.of()));
+
+        AddressBookAssembler assembler = new AddressBookAssembler(BATCH_SIZE);
+        assertThrows(IllegalValueException.class, AddressBookAssembler.MESSAGE_DUPLICATE_PERSON_ID, () -> {
+            for (JsonAdaptedPerson record : records) {
+                assembler.addPerson(record);
+            }
+        });
+    }
+
+    @Test
+    public void build_invalidPersonBeforeDuplicateId_invalidPersonReported() {
+        List<JsonAdaptedPerson> records = createRecords(BATCH_SIZE - 1);
+        records.set(2, new JsonAdaptedPerson("Valid Name", "+651234", "valid@example.com", "Valid address",
+                List.of(), null, List.of()));
+        records.set(5, records.get(0));
+
+        AddressBookAssembler assembler = new AddressBookAssembler(BATCH_SIZE);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> {
+            for (JsonAdaptedPerson record : records) {
+                assembler.addPerson(record);
+            }
+            assembler.build();
+        });
+    }
+}
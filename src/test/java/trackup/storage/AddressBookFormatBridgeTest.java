@@ -0,0 +1,112 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.core.StorageFormat;
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+
+public class AddressBookFormatBridgeTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private Path binaryFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        jsonFilePath = testFolder.resolve("trackup.json");
+        binaryFilePath = testFolder.resolve("trackup.bin");
+    }
+
+    @Test
+    public void getFilePath() {
+        assertEquals(jsonFilePath, AddressBookFormatBridge.getFilePath(jsonFilePath, StorageFormat.JSON));
+        assertEquals(binaryFilePath, AddressBookFormatBridge.getFilePath(jsonFilePath, StorageFormat.BINARY));
+        assertEquals(Paths.get("data", "book.bin"),
+                AddressBookFormatBridge.getFilePath(Paths.get("data", "book"), StorageFormat.BINARY));
+        assertEquals(testFolder.resolve("trackup.shards"),
+                AddressBookFormatBridge.getFilePath(jsonFilePath, StorageFormat.SHARDED));
+    }
+
+    @Test
+    public void importFromOtherFormats_noData_nothingImported() throws Exception {
+        assertFalse(AddressBookFormatBridge.importFromOtherFormats(jsonFilePath, StorageFormat.BINARY));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void importFromOtherFormats_switchedBackAndForth_dataKept() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, false).saveAddressBook(addressBook);
+
+        // json -> binary
+        assertTrue(AddressBookFormatBridge.importFromOtherFormats(jsonFilePath, StorageFormat.BINARY));
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(addressBook,
+                AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.BINARY, false)
+                        .readAddressBook().get());
+
+        // binary data already there -> nothing to import
+        assertFalse(AddressBookFormatBridge.importFromOtherFormats(jsonFilePath, StorageFormat.BINARY));
+
+        // changes made in binary are taken back to json
+        addressBook.addPerson(HOON);
+        AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.BINARY, true).saveAddressBook(addressBook);
+        assertTrue(AddressBookFormatBridge.importFromOtherFormats(jsonFilePath, StorageFormat.JSON));
+        assertFalse(Files.exists(binaryFilePath));
+        assertEquals(addressBook,
+                AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, false)
+                        .readAddressBook().get());
+    }
+
+    @Test
+    public void importFromOtherFormats_toSharded_dataKept() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, false).saveAddressBook(addressBook);
+
+        assertTrue(AddressBookFormatBridge.importFromOtherFormats(jsonFilePath, StorageFormat.SHARDED));
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(addressBook,
+                AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.SHARDED, false)
+                        .readAddressBook().get());
+        assertFalse(AddressBookFormatBridge.importFromOtherFormats(jsonFilePath, StorageFormat.SHARDED));
+    }
+
+    @Test
+    public void createStorage_journalingOff_notJournaling() {
+        assertFalse(AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, false).isJournaling());
+        assertTrue(AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, true).isJournaling());
+        assertFalse(AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.SHARDED, true).isJournaling());
+    }
+
+    @Test
+    public void createStorage_journalingTurnedOff_journalFoldedIntoDataFile() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        AddressBookStorage journaled = AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, true);
+        journaled.saveAddressBook(addressBook);
+        AddressBook changed = new AddressBook(addressBook);
+        changed.addPerson(HOON);
+        journaled.appendChanges(changed, List.of(AddressBookChange.addPerson(HOON)));
+
+        AddressBookStorage storage = AddressBookFormatBridge.createStorage(jsonFilePath, StorageFormat.JSON, false);
+        assertFalse(storage.isJournaling());
+        assertEquals(changed, storage.readAddressBook().get());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(jsonFilePath)));
+        assertEquals(changed, new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+    }
+}
@@ -0,0 +1,236 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+import trackup.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_thenFlush_writesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        AddressBook original = getTypicalAddressBook();
+        saver.save(original);
+        saver.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new CopyOnWriteArrayList<>();
+        AddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                written.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        AddressBook first = new AddressBook();
+        saver.save(first);
+        firstWriteStarted.await();
+
+        AddressBook last = new AddressBook();
+        saver.save(new AddressBook());
+        saver.save(new AddressBook());
+        saver.save(last);
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(last, written.get(1));
+    }
+
+    @Test
+    public void saveWithChanges_burstWhileWriting_changesGathered() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<List<AddressBookChange>> written = new CopyOnWriteArrayList<>();
+        AddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+                written.add(changes);
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        AddressBookChange first = AddressBookChange.addPerson(ALICE);
+        saver.save(new AddressBook(), List.of(first));
+        firstWriteStarted.await();
+
+        AddressBookChange second = AddressBookChange.addPerson(BENSON);
+        AddressBookChange third = AddressBookChange.deletePerson(ALICE.getId());
+        saver.save(new AddressBook(), List.of(second));
+        saver.save(new AddressBook(), List.of(third));
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(List.of(List.of(first), List.of(second, third)), written);
+    }
+
+    @Test
+    public void saveWithChanges_afterFullSave_savedInFull() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> savedInFull = new CopyOnWriteArrayList<>();
+        AddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                savedInFull.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+                throw new AssertionError("A full save must not be turned into a partial one");
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        saver.save(new AddressBook());
+        firstWriteStarted.await();
+        AddressBook last = new AddressBook();
+        saver.save(new AddressBook());
+        saver.save(last, List.of(AddressBookChange.addPerson(ALICE)));
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, savedInFull.size());
+        assertSame(last, savedInFull.get(1));
+    }
+
+    @Test
+    public void append_burstWhileWriting_changesGatheredWithLatestAddressBook() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> appendedAddressBooks = new CopyOnWriteArrayList<>();
+        List<List<AddressBookChange>> written = new CopyOnWriteArrayList<>();
+        AddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("unused.json")) {
+            @Override
+            public void appendChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+                appendedAddressBooks.add(addressBook);
+                written.add(changes);
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        AddressBookChange first = AddressBookChange.addPerson(ALICE);
+        AddressBook firstAddressBook = new AddressBook();
+        saver.append(firstAddressBook, List.of(first));
+        firstWriteStarted.await();
+
+        AddressBookChange second = AddressBookChange.addPerson(BENSON);
+        AddressBookChange third = AddressBookChange.deletePerson(ALICE.getId());
+        AddressBook last = new AddressBook();
+        saver.append(new AddressBook(), List.of(second));
+        saver.append(last, List.of(third));
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertEquals(List.of(List.of(first), List.of(second, third)), written);
+        assertSame(firstAddressBook, appendedAddressBooks.get(0));
+        assertSame(last, appendedAddressBooks.get(1));
+    }
+
+    @Test
+    public void save_storageFails_errorReportedAndThrownByFlush() {
+        IOException failure = new IOException("disk full");
+        AddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        List<IOException> reported = new CopyOnWriteArrayList<>();
+        saver.setErrorHandler(reported::add);
+
+        saver.save(new AddressBook());
+
+        assertThrows(IOException.class, "disk full", saver::flush);
+        assertEquals(List.of(failure), reported);
+    }
+
+    @Test
+    public void flush_firstSaveFailed_latestAddressBookSavedInFull() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        IOException failure = new IOException("disk full");
+        AtomicBoolean hasFailed = new AtomicBoolean();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                if (!hasFailed.getAndSet(true)) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook);
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        List<IOException> reported = new CopyOnWriteArrayList<>();
+        saver.setErrorHandler(reported::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.save(addressBook);
+        saver.flush();
+
+        assertEquals(List.of(failure), reported);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_null_throwsNullPointerException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("unused.json")));
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+}
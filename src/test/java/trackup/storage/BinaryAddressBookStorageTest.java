@@ -0,0 +1,149 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.HOON;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.person.Person;
+import trackup.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithEvents();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(original.getPersonById(HOON.getId()), storage.readAddressBook().get().getPersonById(HOON.getId()));
+    }
+
+    @Test
+    public void read_sameTagOrCategory_sharedBetweenPersons() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("First Person").withTags("friends").withCategory("Client")
+                .withNotes("Likes tea").build());
+        original.addPerson(new PersonBuilder().withName("Second Person").withPhone("91234567")
+                .withTags("friends").withCategory("Client").build());
+
+        ReadOnlyAddressBook readBack = BinaryAddressBookFormat.read(new ByteArrayInputStream(write(original)));
+
+        assertEquals(original, readBack);
+        Person first = readBack.getPersonList().get(0);
+        Person second = readBack.getPersonList().get(1);
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+        assertSame(first.getCategory().get(), second.getCategory().get());
+    }
+
+    @Test
+    public void read_notBinaryAddressBook_throwsIoException() {
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_NOT_BINARY, () ->
+                BinaryAddressBookFormat.read(new ByteArrayInputStream("{ \"persons\": [] }".getBytes())));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIoException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(BinaryAddressBookFormat.MAGIC);
+        data.writeInt(BinaryAddressBookFormat.VERSION + 1);
+
+        assertThrows(IOException.class, String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.VERSION + 1), () ->
+                BinaryAddressBookFormat.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    public void read_truncated_throwsIoException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBookWithEvents());
+        assertThrows(IOException.class, () ->
+                BinaryAddressBookFormat.read(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1))));
+    }
+
+    @Test
+    public void read_invalidValue_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBookWithEvents());
+        // Turns the first letter of the first name, "Alice", into a character not allowed in names
+        int nameStart = indexOf(bytes, "Alice".getBytes());
+        bytes[nameStart] = '!';
+        assertThrows(IllegalValueException.class, () -> BinaryAddressBookFormat.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithoutBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBookWithEvents());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        int nameStart = indexOf(bytes, "Alice".getBytes());
+        bytes[nameStart] = 'B';
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        assertTrue(Files.exists(filePath));
+    }
+
+    private static byte[] write(ReadOnlyAddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+}
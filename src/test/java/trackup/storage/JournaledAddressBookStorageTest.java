@@ -0,0 +1,283 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.AMY;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.HOON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.core.index.Index;
+import trackup.commons.util.FileUtil;
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private AddressBook addressBook;
+    private List<AddressBookChange> changes;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        addressBook = getTypicalAddressBookWithEvents();
+        changes = new ArrayList<>();
+        addressBook.addChangeListener(changes::add);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void appendChanges_noSavedAddressBook_throwsIoException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        assertThrows(IOException.class, () -> storage.appendChanges(addressBook, List.of()));
+    }
+
+    @Test
+    public void appendChanges_everyKindOfChange_replayedOnRead() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        makeEveryKindOfChange();
+        storage.appendChanges(addressBook, changes);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void appendChanges_severalBatches_replayedInOrder() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.appendChanges(addressBook, changes);
+        changes.clear();
+        addressBook.removePerson(addressBook.getPersonById(HOON.getId()).get());
+        storage.appendChanges(addressBook, changes);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastRecord_droppedAndTruncated() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.appendChanges(addressBook, changes);
+        long completeSize = Files.size(journalPath);
+
+        FileUtil.appendToFile(journalPath, "{\"kind\":\"DELETE_PERS");
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertEquals(completeSize, Files.size(journalPath));
+    }
+
+    @Test
+    public void appendChanges_personRemovedByEqualKey_replayedOnRead() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(addressBook.getPersonById(BOB.getId()).get().withId(PersonId.UNASSIGNED));
+        storage.appendChanges(addressBook, changes);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordBeforeLast_replayStoppedAndJournalKept() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.appendChanges(addressBook, changes);
+        AddressBook replayable = new AddressBook(addressBook);
+        long replayableSize = Files.size(journalPath);
+        FileUtil.appendToFile(journalPath, "not a record\n");
+        changes.clear();
+        addressBook.addPerson(AMY);
+        storage.appendChanges(addressBook, changes);
+        String journal = FileUtil.readFromFile(journalPath);
+
+        assertEquals(replayable, storage.readAddressBook().get());
+        assertEquals(replayableSize, Files.size(journalPath));
+        assertEquals(List.of(journal), readRejectedJournals());
+    }
+
+    @Test
+    public void readAddressBook_inapplicableRecord_replayStoppedAndJournalKept() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        AddressBook saved = new AddressBook(addressBook);
+        storage.appendChanges(addressBook, List.of(AddressBookChange.deletePerson(HOON.getId())));
+
+        assertEquals(saved, storage.readAddressBook().get());
+        assertEquals(1, FileUtil.readFromFile(journalPath).lines().count());
+        assertEquals(1, readRejectedJournals().size());
+        assertEquals(1, storage.getLoadWarnings().size());
+
+        // Changes journalled after the rejected record are replayed again
+        addressBook.addPerson(HOON);
+        storage.appendChanges(addressBook, changes);
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_setAsideAndWarned() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.appendChanges(addressBook, changes);
+        String journal = FileUtil.readFromFile(journalPath);
+
+        // As if the app crashed after writing a new snapshot but before starting its journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(List.of(journal), readRejectedJournals());
+        assertEquals(1, storage.getLoadWarnings().size());
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedByHand_journalNotReplayedButSetAside() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        AddressBook edited = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.appendChanges(addressBook, changes);
+        String journal = FileUtil.readFromFile(journalPath);
+
+        edited.addPerson(AMY);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(edited, reopened.readAddressBook().get());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(List.of(journal), readRejectedJournals());
+        assertEquals(1, reopened.getLoadWarnings().size());
+        assertTrue(reopened.getLoadWarnings().get(0).contains(journalPath.toString()));
+    }
+
+    @Test
+    public void readAddressBook_emptyJournalOfOlderSnapshot_removedWithoutWarning() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(List.of(), readRejectedJournals());
+        assertEquals(List.of(), storage.getLoadWarnings());
+    }
+
+    @Test
+    public void readAddressBook_journalingOff_journalFoldedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        makeEveryKindOfChange();
+        storage.appendChanges(addressBook, changes);
+
+        JournaledAddressBookStorage folding = JournaledAddressBookStorage.withJournalingOff(
+                new JsonAddressBookStorage(filePath));
+        assertFalse(folding.isJournaling());
+        assertEquals(addressBook, folding.readAddressBook().get());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertThrows(UnsupportedOperationException.class, () -> folding.appendChanges(addressBook, List.of()));
+    }
+
+    @Test
+    public void appendChanges_pastCompactionThreshold_journalFoldedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(addressBook);
+        String emptyJournal = FileUtil.readFromFile(journalPath);
+
+        makeEveryKindOfChange();
+        storage.appendChanges(addressBook, changes);
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(1, FileUtil.readFromFile(journalPath).lines().count());
+        assertNotEquals(emptyJournal, FileUtil.readFromFile(journalPath));
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void appendChanges_binarySnapshot_replayedOnRead() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(binaryFilePath), JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.saveAddressBook(addressBook);
+
+        makeEveryKindOfChange();
+        storage.appendChanges(addressBook, changes);
+
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    private List<String> readRejectedJournals() throws IOException {
+        List<String> journals = new ArrayList<>();
+        try (Stream<Path> files = Files.list(testFolder)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().startsWith(
+                    journalPath.getFileName() + ".rejected-")).toList()) {
+                journals.add(FileUtil.readFromFile(file));
+            }
+        }
+        return journals;
+    }
+
+    private void makeEveryKindOfChange() {
+        addressBook.addPerson(HOON);
+        Person noted = new PersonBuilder().withName("Noted Person").build();
+        addressBook.addPerson(noted);
+        Person storedNoted = addressBook.getSamePerson(noted).get();
+        addressBook.addNote(storedNoted, new Note("First"));
+        addressBook.addNote(storedNoted, new Note("Second"));
+        addressBook.removeNote(storedNoted, Index.fromZeroBased(0));
+
+        Person editedBob = new PersonBuilder(BOB).withPhone("99999999").build();
+        addressBook.setPerson(addressBook.getPersonById(BOB.getId()).get(), editedBob);
+
+        Event moved = new EventBuilder(MEETING_EVENT).withStart(LocalDateTime.of(2025, 4, 1, 16, 0))
+                .withEnd(LocalDateTime.of(2025, 4, 1, 17, 0)).withContactIds(Set.of(ALICE.getId())).build();
+        addressBook.setEvent(MEETING_EVENT, moved);
+        addressBook.deleteEvent(LUNCH_EVENT);
+        addressBook.addEvent(new EventBuilder().withTitle("Review").withContactIds(Set.of(HOON.getId())).build());
+        Person temporary = new PersonBuilder().withName("Temporary Person").build();
+        addressBook.addPerson(temporary);
+        addressBook.removePerson(addressBook.getSamePerson(temporary).get());
+    }
+}
@@ -1,16 +1,32 @@
 package trackup.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.storage.JsonAdaptedEvent.MESSAGE_UNKNOWN_CONTACT;
 import static trackup.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import trackup.commons.core.LogsCenter;
 import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.model.person.PersonId;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.PersonBuilder;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_START = "not-a-date";
@@ -19,55 +35,120 @@ public class JsonAdaptedEventTest {
     private static final String VALID_TITLE = MEETING_EVENT.getTitle();
     private static final String VALID_START = MEETING_EVENT.getStartDateTime().toString();
     private static final String VALID_END = MEETING_EVENT.getEndDateTime().toString();
-    private static final List<JsonAdaptedPerson> VALID_CONTACTS = MEETING_EVENT.getContacts().stream()
-            .map(JsonAdaptedPerson::new)
+    private static final List<Long> VALID_CONTACT_IDS = MEETING_EVENT.getContactIds().stream()
+            .map(id -> id.value)
             .collect(Collectors.toList());
 
+    private final AddressBook addressBook = getTypicalAddressBook();
+
     @Test
     public void toModelType_validEvent_returnsEvent() throws Exception {
         JsonAdaptedEvent event = new JsonAdaptedEvent(MEETING_EVENT);
-        assertEquals(MEETING_EVENT, event.toModelType());
+        assertEquals(MEETING_EVENT, event.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullTitle_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_START, VALID_END, VALID_CONTACTS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_START, VALID_END, VALID_CONTACT_IDS, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "Title");
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullStart_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, null, VALID_END, VALID_CONTACTS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, null, VALID_END, VALID_CONTACT_IDS, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "Start DateTime");
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullEnd_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, null, VALID_CONTACTS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, null, VALID_CONTACT_IDS, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "End DateTime");
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_invalidStart_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, INVALID_START, VALID_END, VALID_CONTACTS);
-        assertThrows(IllegalValueException.class, "Invalid DateTime format for Event.", event::toModelType);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, INVALID_START, VALID_END, VALID_CONTACT_IDS, null);
+        assertThrows(IllegalValueException.class, "Invalid DateTime format for Event.", ()
+            -> event.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_invalidEnd_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, INVALID_END, VALID_CONTACTS);
-        assertThrows(IllegalValueException.class, "Invalid DateTime format for Event.", event::toModelType);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, INVALID_END, VALID_CONTACT_IDS, null);
+        assertThrows(IllegalValueException.class, "Invalid DateTime format for Event.", ()
+            -> event.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_invalidContactId_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, List.of(0L), null);
+        assertThrows(IllegalValueException.class, PersonId.MESSAGE_CONSTRAINTS, () -> event.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_unknownContactId_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END,
+                List.of(BOB.getId().value), null);
+        String expectedMessage = String.format(MESSAGE_UNKNOWN_CONTACT, BOB.getId().value);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_legacyContacts_migratedToIds() throws Exception {
+        // contacts were saved as full copies, which may be out of date except for their identity
+        List<JsonAdaptedPerson> legacyContacts = List.of(
+                new JsonAdaptedPerson(new PersonBuilder(ALICE).withAddress("Old address").build()),
+                new JsonAdaptedPerson(BOB));
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, null, legacyContacts);
+
+        // BOB is not in the address book, so the link to him is dropped
+        assertEquals(new EventBuilder(MEETING_EVENT).withContactIds(Set.of(ALICE.getId())).build(),
+                event.toModelType(addressBook));
     }
 
     @Test
-    public void toModelType_invalidContact_throwsIllegalValueException() {
+    public void toModelType_unknownLegacyContact_warningLogged() throws Exception {
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = LogsCenter.getLogger(JsonAdaptedEvent.class);
+        Level originalLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+        logger.addHandler(handler);
+        try {
+            new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, null, List.of(new JsonAdaptedPerson(BOB)))
+                    .toModelType(addressBook);
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(originalLevel);
+        }
+
+        assertEquals(1, records.size());
+        assertEquals(Level.WARNING, records.get(0).getLevel());
+        assertTrue(records.get(0).getMessage().contains(BOB.getName().fullName));
+        assertTrue(records.get(0).getMessage().contains(VALID_TITLE));
+    }
+
+    @Test
+    public void toModelType_invalidLegacyContact_throwsIllegalValueException() {
         List<JsonAdaptedPerson> invalidContacts = List.of(new JsonAdaptedPerson(
                 null, "12345678", "email@example.com", "Some Street", List.of(), null, List.of()));
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, invalidContacts);
-        assertThrows(IllegalValueException.class, event::toModelType);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, null, invalidContacts);
+        assertThrows(IllegalValueException.class, () -> event.toModelType(addressBook));
     }
 }
-
@@ -1,6 +1,7 @@
 package trackup.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static trackup.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.BENSON;
@@ -16,7 +17,9 @@ import trackup.model.category.Category;
 import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
+import trackup.model.person.Person;
 import trackup.model.person.Phone;
+import trackup.model.tag.Tag;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -44,6 +47,16 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_samePersonTwice_sharesTagsAndCategory() throws Exception {
+        Person first = new JsonAdaptedPerson(BENSON).toModelType();
+        Person second = new JsonAdaptedPerson(BENSON).toModelType();
+        for (Tag tag : first.getTags()) {
+            assertSame(tag, second.getTags().stream().filter(tag::equals).findFirst().get());
+        }
+        assertSame(first.getCategory().get(), second.getCategory().get());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
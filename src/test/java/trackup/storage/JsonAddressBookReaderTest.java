@@ -0,0 +1,135 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.AddressBook;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.TypicalEvents;
+import trackup.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path TYPICAL_DATA_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBookWithEvents.json");
+    private static final Path LEGACY_DATA_FILE = TEST_DATA_FOLDER.resolve("legacyAddressBookWithEvents.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_ID_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonIdAddressBook.json");
+    private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER.resolve("duplicateEventAddressBook.json");
+    private static final Path UNKNOWN_CONTACT_FILE = TEST_DATA_FOLDER.resolve("unknownContactAddressBook.json");
+
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_typicalDataFile_success() throws Exception {
+        AddressBook addressBook = read(TYPICAL_DATA_FILE);
+        assertEquals(TypicalEvents.getTypicalAddressBookWithEvents(), addressBook);
+        assertEquals(Optional.of(BOB), addressBook.getPersonById(BOB.getId()));
+        assertFalse(reader.isLegacyFormat());
+    }
+
+    @Test
+    public void read_legacyDataFile_migratesContactsToIds() throws Exception {
+        AddressBook addressBook = read(LEGACY_DATA_FILE);
+        assertTrue(reader.isLegacyFormat());
+
+        // persons are given IDs in file order, and the link to Bob, who is not in the persons list, is dropped
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        expected.addEvent(MEETING_EVENT);
+        expected.addEvent(new EventBuilder(LUNCH_EVENT).withContactIds(Set.of()).build());
+        expected.addEvent(SOLO_EVENT);
+        assertEquals(expected, addressBook);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonById(ALICE.getId()));
+
+        // once written again, the data is no longer in the legacy format
+        reader.read(toStream(write(addressBook)));
+        assertFalse(reader.isLegacyFormat());
+    }
+
+    @Test
+    public void read_eventsBeforePersons_success() throws Exception {
+        AddressBook original = TypicalEvents.getTypicalAddressBookWithEvents();
+        String persons = write(original);
+        String eventsFirst = "{\"_comment\":{\"skipped\":[1,2]},\"events\":"
+                + persons.substring(persons.indexOf("\"events\":") + "\"events\":".length(), persons.length() - 1)
+                + "," + persons.substring(1, persons.indexOf(",\"events\":")) + "}";
+
+        assertEquals(original, reader.read(toStream(eventsFirst)));
+    }
+
+    @Test
+    public void read_missingOrNullLists_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), reader.read(toStream("{}")));
+        assertEquals(new AddressBook(), reader.read(toStream("{\"persons\":null,\"events\":null}")));
+    }
+
+    @Test
+    public void read_trailingContent_ignored() throws Exception {
+        assertEquals(new AddressBook(), reader.read(toStream("{\"persons\":[]}\n#CRC32 0\n")));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> reader.read(toStream("[]")));
+        assertThrows(IOException.class, () -> reader.read(toStream("{\"persons\":{}}")));
+        assertThrows(IOException.class, () -> reader.read(toStream("{\"persons\":[{\"name\":\"Al")));
+        assertThrows(IOException.class, () -> reader.read(toStream("")));
+    }
+
+    @Test
+    public void read_invalidData_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PERSON_FILE));
+        assertThrows(IllegalValueException.class, AddressBookAssembler.MESSAGE_DUPLICATE_PERSON, () ->
+                read(DUPLICATE_PERSON_FILE));
+        assertThrows(IllegalValueException.class, AddressBookAssembler.MESSAGE_DUPLICATE_PERSON_ID, () ->
+                read(DUPLICATE_PERSON_ID_FILE));
+        assertThrows(IllegalValueException.class, AddressBookAssembler.MESSAGE_DUPLICATE_EVENT, () ->
+                read(DUPLICATE_EVENT_FILE));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedEvent.MESSAGE_UNKNOWN_CONTACT, 2), () ->
+                read(UNKNOWN_CONTACT_FILE));
+    }
+
+    private AddressBook read(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file)) {
+            return reader.read(in);
+        }
+    }
+
+    private static String write(AddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonAddressBookWriter(false).write(addressBook, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package trackup.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.ALICE;
 import static trackup.testutil.TypicalPersons.HOON;
@@ -9,13 +10,19 @@ import static trackup.testutil.TypicalPersons.IDA;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.util.FileUtil;
 import trackup.model.AddressBook;
 import trackup.model.ReadOnlyAddressBook;
 
@@ -86,11 +93,217 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_legacyFile_rewrittenOnce() throws Exception {
+        Path legacyFile = Paths.get("src", "test", "data", "JsonAddressBookReaderTest",
+                "legacyAddressBookWithEvents.json");
+        Path filePath = testFolder.resolve("LegacyAddressBook.json");
+        Files.copy(legacyFile, filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook migrated = jsonAddressBookStorage.readAddressBook().get();
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        readWithoutChecksum(reader, filePath);
+        assertFalse(reader.isLegacyFormat());
+
+        // reading the migrated file gives the same data, including the person IDs
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(migrated, readBack);
+        assertEquals(migrated.getPersonList().get(0).getId(), readBack.getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void saveAddressBook_pastPrettyPrintLimit_savedCompactly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        int size = original.getPersonList().size();
+
+        new JsonAddressBookStorage(filePath, size).saveAddressBook(original);
+        long prettyLineCount = FileUtil.readFromFile(filePath).lines().count();
+        new JsonAddressBookStorage(filePath, size - 1).saveAddressBook(original);
+
+        assertEquals(1, FileUtil.readFromFile(filePath).lines().count());
+        assertTrue(prettyLineCount > 1);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(edited);
+
+        String damaged = FileUtil.readFromFile(filePath).replace("Hoon", "Hoom");
+        FileUtil.writeToFile(filePath, damaged);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        // the good backup is put back, so the damaged file no longer shadows it
+        assertEquals(FileUtil.readFromFile(JsonAddressBookStorage.getBackupPath(filePath)),
+                FileUtil.readFromFile(filePath));
+        // the damaged file is kept for the user, who is told where
+        Path rejectedPath = findRejectedFile(filePath);
+        assertEquals(damaged, FileUtil.readFromFile(rejectedPath));
+        assertEquals(List.of(String.format(JsonAddressBookStorage.MESSAGE_BACKUP_LOADED, filePath, rejectedPath)),
+                jsonAddressBookStorage.getLoadWarnings());
+
+        // the restored file passes its checksum from now on
+        JsonAddressBookStorage reopened = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+        assertTrue(reopened.getLoadWarnings().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_checksumInSeparateFile_dataFileIsPlainJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(Files.exists(JsonAddressBookStorage.getChecksumPath(filePath)));
+        assertEquals(original, readWithoutChecksum(new JsonAddressBookReader(), filePath));
+    }
+
+    @Test
+    public void readAddressBook_editedWithChecksumFileDeleted_editsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("Alice", "Alicia"));
+        Files.delete(JsonAddressBookStorage.getChecksumPath(filePath));
+
+        assertEquals("Alicia Pauline",
+                jsonAddressBookStorage.readAddressBook().get().getPersonList().get(0).getName().fullName);
+        assertTrue(jsonAddressBookStorage.getLoadWarnings().isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeNewFileMovedIn_oldFileRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        String originalContent = FileUtil.readFromFile(filePath);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        // As if the app crashed after listing the new checksum but before moving the new file in
+        FileUtil.writeToFile(filePath, originalContent);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertTrue(jsonAddressBookStorage.getLoadWarnings().isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithBackupWithoutChecksum_backupRestoredOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        writeWithoutChecksum(original, filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        FileUtil.writeToFile(filePath, "{\"persons\": [");
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(1, jsonAddressBookStorage.getLoadWarnings().size());
+        JsonAddressBookStorage reopened = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+        assertTrue(reopened.getLoadWarnings().isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_fileWithChecksumLine_success() throws Exception {
+        // Files saved by earlier versions end with a checksum line, which is left unread
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        writeWithoutChecksum(original, filePath);
+        FileUtil.appendToFile(filePath, "\n#CRC32 0\n");
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private Path findRejectedFile(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(filePath.getFileName() + ".corrupt-"))
+                    .findFirst().orElseThrow();
+        }
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // As if the app crashed between backing up the old file and moving the new one in
+        Files.delete(filePath);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithoutBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("Alice", "Alicf"));
+
+        assertThrows(DataLoadingException.class, jsonAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_fileWithoutChecksum_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        writeWithoutChecksum(original, filePath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
     }
 
+    /**
+     * Writes {@code addressBook} to {@code filePath} as plain JSON, without a checksum file.
+     */
+    private static void writeWithoutChecksum(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            new JsonAddressBookWriter(true).write(addressBook, out);
+        }
+    }
+
+    /**
+     * Reads the address book at {@code filePath} with {@code reader}, ignoring any checksum file.
+     */
+    private static AddressBook readWithoutChecksum(JsonAddressBookReader reader, Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return reader.read(in);
+        }
+    }
+
     /**
      * Saves {@code addressBook} at the specified {@code filePath}.
      */
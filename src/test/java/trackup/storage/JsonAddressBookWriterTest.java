@@ -0,0 +1,71 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.util.JsonUtil;
+import trackup.model.AddressBook;
+import trackup.testutil.TypicalEvents;
+
+public class JsonAddressBookWriterTest {
+
+    private final AddressBook addressBook = TypicalEvents.getTypicalAddressBookWithEvents();
+
+    @Test
+    public void write_prettyPrinted_sameAsDataBinding() throws Exception {
+        assertEquals(JsonUtil.toJsonString(toBoundForm(addressBook)), write(true));
+    }
+
+    @Test
+    public void write_compact_sameAsDataBinding() throws Exception {
+        String json = write(false);
+        assertEquals(JsonUtil.toCompactJsonString(toBoundForm(addressBook)), json);
+        assertEquals(1, json.lines().count());
+    }
+
+    @Test
+    public void write_thenRead_sameAddressBook() throws Exception {
+        for (boolean isPrettyPrinted : new boolean[] {true, false}) {
+            byte[] bytes = write(isPrettyPrinted).getBytes(StandardCharsets.UTF_8);
+            assertEquals(addressBook, new JsonAddressBookReader().read(new ByteArrayInputStream(bytes)));
+        }
+        assertEquals(new AddressBook(), new JsonAddressBookReader().read(
+                new ByteArrayInputStream(write(new AddressBook(), false).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void write_null_throwsNullPointerException() {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter(false);
+        assertThrows(NullPointerException.class, () -> writer.write(null, new ByteArrayOutputStream()));
+        assertThrows(NullPointerException.class, () -> writer.write(addressBook, null));
+    }
+
+    /**
+     * Returns {@code addressBook} in the form that Jackson binds to the same JSON as the writer writes.
+     */
+    private static Map<String, List<?>> toBoundForm(AddressBook addressBook) {
+        Map<String, List<?>> boundForm = new LinkedHashMap<>();
+        boundForm.put("persons", addressBook.getPersonList().stream().map(JsonAdaptedPerson::new).toList());
+        boundForm.put("events", addressBook.getEventList().stream().map(JsonAdaptedEvent::new).toList());
+        return boundForm;
+    }
+
+    private String write(boolean isPrettyPrinted) throws Exception {
+        return write(addressBook, isPrettyPrinted);
+    }
+
+    private static String write(AddressBook toWrite, boolean isPrettyPrinted) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonAddressBookWriter(isPrettyPrinted).write(toWrite, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,131 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.HOON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.testutil.PersonBuilder;
+
+public class MappedAddressBookTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook original;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        filePath = testFolder.resolve("archive.bin");
+        original = getTypicalAddressBookWithEvents();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+    }
+
+    @Test
+    public void open_binaryAddressBook_sameContent() throws Exception {
+        MappedAddressBook mapped = MappedAddressBook.open(filePath);
+        assertEquals(original.getPersonList(), mapped.getPersonList());
+        assertEquals(original.getEventList(), mapped.getEventList());
+        assertEquals(original, new AddressBook(mapped));
+    }
+
+    @Test
+    public void open_smallSegments_valuesAcrossSegmentsRead() throws Exception {
+        // Segments of a few bytes split most values and records between two or more of them
+        MappedAddressBook mapped = MappedAddressBook.open(filePath, 7, 2);
+        assertEquals(original.getPersonList(), mapped.getPersonList());
+        assertEquals(original.getEventList(), mapped.getEventList());
+    }
+
+    @Test
+    public void getPersonById_mappedAddressBook_findsPerson() throws Exception {
+        MappedAddressBook mapped = MappedAddressBook.open(filePath);
+        assertEquals(original.getPersonById(BOB.getId()), mapped.getPersonById(BOB.getId()));
+        assertFalse(mapped.getPersonById(HOON.getId()).isPresent());
+        assertFalse(mapped.getPersonById(PersonId.UNASSIGNED).isPresent());
+    }
+
+    @Test
+    public void getPersonById_unsortedIdentifiers_findsPerson() throws Exception {
+        AddressBook unsorted = new AddressBook();
+        unsorted.addPerson(new PersonBuilder().withId(30).withName("Third Person").withPhone("93333333").build());
+        unsorted.addPerson(new PersonBuilder().withId(10).withName("First Person").withPhone("91111111").build());
+        unsorted.addPerson(new PersonBuilder().withId(20).withName("Second Person").withPhone("92222222").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(unsorted);
+
+        MappedAddressBook mapped = MappedAddressBook.open(filePath);
+        for (Person person : unsorted.getPersonList()) {
+            assertEquals(person, mapped.getPersonById(person.getId()).get());
+        }
+    }
+
+    @Test
+    public void getPersonList_beyondCache_decodedAgain() throws Exception {
+        MappedAddressBook mapped = MappedAddressBook.open(filePath, MappedFile.DEFAULT_SEGMENT_SIZE, 1);
+        Person first = mapped.getPersonList().get(0);
+        mapped.getPersonList().get(1);
+        assertEquals(first, mapped.getPersonList().get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.getPersonList().get(original.getPersonList()
+                .size()));
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() throws Exception {
+        MappedAddressBook mapped = MappedAddressBook.open(filePath);
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getPersonList().remove(0));
+    }
+
+    @Test
+    public void open_damagedFile_throwsIoException() throws Exception {
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_CHECKSUM_MISMATCH, () ->
+                MappedAddressBook.open(filePath));
+    }
+
+    @Test
+    public void open_notBinaryAddressBook_throwsIoException() throws Exception {
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_NOT_BINARY, () ->
+                MappedAddressBook.open(filePath));
+    }
+
+    @Test
+    public void readAddressBook_mappedStorage_readOnly() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        assertTrue(storage.isReadOnly());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertThrows(IOException.class, () -> storage.saveAddressBook(new AddressBook()));
+        assertArrayEquals(bytes, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAddressBook_mappedStorageMissingOrDamagedFile_emptyOrThrows() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+
+        Files.writeString(filePath, "not binary");
+        assertThrows(DataLoadingException.class, new MappedAddressBookStorage(filePath)::readAddressBook);
+    }
+}
@@ -0,0 +1,69 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.model.person.Name;
+import trackup.model.person.Person;
+import trackup.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int CHUNK_SIZE = 16;
+
+    @Test
+    public void convert_manyRecords_sameAsSequential() throws Exception {
+        List<JsonAdaptedPerson> records = createRecords(1000);
+        List<Person> expected = new ArrayList<>();
+        for (JsonAdaptedPerson record : records) {
+            expected.add(record.toModelType());
+        }
+
+        ParallelPersonConverter.Result result = new ParallelPersonConverter(CHUNK_SIZE).convert(records);
+        result.throwIfFailed();
+        assertEquals(expected, result.getPersons());
+    }
+
+    @Test
+    public void convert_fewerRecordsThanChunk_converted() throws Exception {
+        List<JsonAdaptedPerson> records = createRecords(3);
+        ParallelPersonConverter.Result result = new ParallelPersonConverter().convert(records);
+        result.throwIfFailed();
+        assertEquals(3, result.getPersons().size());
+        assertEquals(List.of(), new ParallelPersonConverter().convert(List.of()).getPersons());
+    }
+
+    @Test
+    public void convert_severalInvalidRecords_firstOneReported() throws Exception {
+        List<JsonAdaptedPerson> records = createRecords(1000);
+        records.set(700, new JsonAdaptedPerson("Valid Name", "+651234", "valid@example.com", "Valid address",
+                List.of(), null, List.of()));
+        records.set(300, new JsonAdaptedPerson("R@chel", "91234567", "valid@example.com", "Valid address",
+                List.of(), null, List.of()));
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            ParallelPersonConverter.Result result = new ParallelPersonConverter(CHUNK_SIZE).convert(records);
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, result::throwIfFailed);
+            assertEquals(300, result.getPersons().size());
+            assertEquals(records.get(299).toModelType(), result.getPersons().get(299));
+        }
+    }
+
+    /**
+     * Returns {@code count} valid records with distinct identifiers, names and phones.
+     */
+    static List<JsonAdaptedPerson> createRecords(int count) {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            records.add(new JsonAdaptedPerson(new PersonBuilder().withId(i).withName("Person " + i)
+                    .withPhone(String.valueOf(90000000 + i)).withTags("friends").build()));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,241 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBook;
+import trackup.model.AddressBookChange;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directoryPath;
+
+    @BeforeEach
+    public void setUp() {
+        directoryPath = testFolder.resolve("trackup.shards");
+    }
+
+    @Test
+    public void readAddressBook_noManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(directoryPath).readAddressBook().isPresent());
+        Files.createDirectories(directoryPath);
+        assertFalse(new ShardedAddressBookStorage(directoryPath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBookWithEvents();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+
+        // Persons are saved in segments of their identifiers, which the typical persons are sorted by
+        AddressBook typical = getTypicalAddressBook();
+        storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE);
+        storage.saveAddressBook(typical);
+        assertEquals(typical, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(3, listSegmentFiles().size());
+    }
+
+    @Test
+    public void readAddressBook_eventsInSeveralSegments_groupedBySegment() throws Exception {
+        AddressBook original = getTypicalAddressBookWithEvents();
+        new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE)
+                .readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(new HashSet<>(original.getEventList()), new HashSet<>(readBack.getEventList()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_onlyTouchedSegmentRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE);
+        storage.saveAddressBook(addressBook);
+        Map<String, byte[]> before = readSegmentFiles();
+
+        List<AddressBookChange> changes = new ArrayList<>();
+        addressBook.addChangeListener(changes::add);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook, changes);
+
+        Map<String, byte[]> after = readSegmentFiles();
+        assertEquals(before.size(), after.size());
+        // CARL has the third identifier, so only the first segment is replaced
+        assertFalse(after.containsKey("persons-0.1.json"));
+        assertTrue(after.containsKey("persons-0.2.json"));
+        assertArrayEquals(before.get("persons-1.1.json"), after.get("persons-1.1.json"));
+        assertArrayEquals(before.get("persons-2.1.json"), after.get("persons-2.1.json"));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_eventChanges_onlyTouchedSegmentsLookedUp() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE);
+        storage.saveAddressBook(addressBook);
+
+        List<AddressBookChange> changes = new ArrayList<>();
+        addressBook.addChangeListener(changes::add);
+        addressBook.setEvent(MEETING_EVENT, new EventBuilder(MEETING_EVENT).withTitle("Team Retro").build());
+        // Without contacts, the lunch moves from the segment of BOB to the first one
+        addressBook.setEvent(LUNCH_EVENT, new EventBuilder(LUNCH_EVENT).withContactIds(new HashSet<>()).build());
+        addressBook.deleteEvent(SOLO_EVENT);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(new RangeOnlyAddressBook(addressBook.snapshot()), changes);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE)
+                .readAddressBook().get();
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        assertEquals(new HashSet<>(addressBook.getEventList()), new HashSet<>(readBack.getEventList()));
+    }
+
+    @Test
+    public void saveAddressBook_segmentEmptied_segmentDropped() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, SEGMENT_SIZE);
+        storage.saveAddressBook(addressBook);
+
+        List<AddressBookChange> changes = new ArrayList<>();
+        addressBook.addChangeListener(changes::add);
+        // The seventh person is the only one in the last segment
+        addressBook.removePerson(addressBook.getPersonList().get(6));
+        storage.saveAddressBook(addressBook, changes);
+
+        assertEquals(2, listSegmentFiles().size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesWithoutKnownManifest_everythingSaved() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(new AddressBook());
+
+        // A fresh storage has not read the folder, so it cannot tell which segments are missing
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(addressBook, List.of());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directoryPath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedSegment_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Path segmentFile = listSegmentFiles().get(0);
+        String content = Files.readString(segmentFile);
+        // Still valid data, so only the checksum tells that it is not what was saved
+        Files.writeString(segmentFile, content.replace("Alice Pauline", "Alice Paulina"));
+
+        assertThrows(DataLoadingException.class, new ShardedAddressBookStorage(directoryPath)::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(listSegmentFiles().get(0));
+
+        assertThrows(DataLoadingException.class, new ShardedAddressBookStorage(directoryPath)::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_otherFolder_ownFolderUnchanged() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook original = getTypicalAddressBookWithEvents();
+        storage.saveAddressBook(original);
+        Path otherPath = testFolder.resolve("other.shards");
+        storage.saveAddressBook(new AddressBook(), otherPath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertNotEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullArguments_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook((ReadOnlyAddressBook) null));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), (Path) null));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(),
+                (List<AddressBookChange>) null));
+    }
+
+    /**
+     * An address book that only gives out its persons by the range of their identifiers, so that saving it fails if
+     * the storage walks all of its persons or events.
+     */
+    private static class RangeOnlyAddressBook implements ReadOnlyAddressBook {
+        private final ReadOnlyAddressBook addressBook;
+
+        RangeOnlyAddressBook(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            throw new AssertionError("The persons should only be looked up by identifier");
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            throw new AssertionError("The events should be taken from the index of the storage");
+        }
+
+        @Override
+        public List<Person> getPersonsWithIdsBetween(PersonId fromId, PersonId toId) {
+            return addressBook.getPersonsWithIdsBetween(fromId, toId);
+        }
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.filter(file -> !file.getFileName().toString()
+                    .equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME)).sorted().toList();
+        }
+    }
+
+    private Map<String, byte[]> readSegmentFiles() throws IOException {
+        Map<String, byte[]> contents = new TreeMap<>();
+        for (Path file : listSegmentFiles()) {
+            contents.put(file.getFileName().toString(), Files.readAllBytes(file));
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,99 @@
+package trackup.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.model.person.PersonId;
+import trackup.testutil.PersonBuilder;
+
+/**
+ * Compares how long it takes to save and load a large address book in the json and binary formats.
+ * Run with {@code gradlew benchmark -PbenchmarkArgs="<persons> <events> <rounds>"}; not part of the test suite.
+ */
+public class StorageFormatBenchmark {
+
+    private static final String[] TAGS = {"friends", "colleagues", "family", "owesMoney", "vip"};
+    private static final String[] CATEGORIES = {"Client", "Investor", "Partner", "Other"};
+
+    /**
+     * Runs the benchmark with the number of persons, events and timed rounds given in {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int eventCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        AddressBook addressBook = createAddressBook(personCount, eventCount);
+        Path folder = Files.createTempDirectory("trackup-benchmark");
+        try {
+            System.out.printf("%d persons, %d events, best of %d rounds%n", personCount, eventCount, rounds);
+            run("json", new JsonAddressBookStorage(folder.resolve("trackup.json")), addressBook, rounds);
+            run("binary", new BinaryAddressBookStorage(folder.resolve("trackup.bin")), addressBook, rounds);
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void run(String name, AddressBookStorage storage, ReadOnlyAddressBook addressBook, int rounds)
+            throws IOException, DataLoadingException {
+        // The first round warms up the JIT and is not counted
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            ReadOnlyAddressBook loaded = storage.readAddressBook().orElseThrow();
+            long end = System.nanoTime();
+
+            if (loaded.getPersonList().size() != addressBook.getPersonList().size()) {
+                throw new AssertionError("Loaded address book differs from the saved one");
+            }
+            if (round > 0) {
+                bestSaveNanos = Math.min(bestSaveNanos, saved - start);
+                bestLoadNanos = Math.min(bestLoadNanos, end - saved);
+            }
+        }
+        System.out.printf("%-8s save %6d ms, load %6d ms, file %8d KiB%n", name, bestSaveNanos / 1_000_000,
+                bestLoadNanos / 1_000_000, Files.size(storage.getAddressBookFilePath()) / 1024);
+    }
+
+    private static AddressBook createAddressBook(int personCount, int eventCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder().withId(i + 1)
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress(i + " Clementi Ave " + (i % 10))
+                    .withTags(TAGS[i % TAGS.length], TAGS[(i + 1) % TAGS.length])
+                    .withCategory(CATEGORIES[i % CATEGORIES.length])
+                    .withNotes("Met at event " + (i % 100))
+                    .build();
+            addressBook.addPerson(person);
+        }
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime eventStart = start.plusHours(i);
+            Set<PersonId> contactIds = Set.of(
+                    addressBook.getPersonList().get(i % personCount).getId());
+            addressBook.addEvent(new Event("Event " + i, eventStart, eventStart.plusMinutes(30), contactIds));
+        }
+        return addressBook;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Set;
 
 import trackup.model.event.Event;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 
 /**
  * A utility class to help with building Event objects.
@@ -19,7 +20,7 @@ public class EventBuilder {
     private String title;
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
-    private Set<Person> contacts;
+    private Set<PersonId> contactIds;
 
     /**
      * Creates an {@code EventBuilder} with the default details.
@@ -28,7 +29,7 @@ public class EventBuilder {
         title = DEFAULT_TITLE;
         startDateTime = DEFAULT_START;
         endDateTime = DEFAULT_END;
-        contacts = new HashSet<>();
+        contactIds = new HashSet<>();
     }
 
     /**
@@ -38,7 +39,7 @@ public class EventBuilder {
         title = eventToCopy.getTitle();
         startDateTime = eventToCopy.getStartDateTime();
         endDateTime = eventToCopy.getEndDateTime();
-        contacts = new HashSet<>(eventToCopy.getContacts());
+        contactIds = new HashSet<>(eventToCopy.getContactIds());
     }
 
     /**
@@ -66,10 +67,10 @@ public class EventBuilder {
     }
 
     /**
-     * Sets the contacts of the {@code Event} that we are building.
+     * Sets the contact identifiers of the {@code Event} that we are building.
      */
-    public EventBuilder withContacts(Set<Person> contacts) {
-        this.contacts = new HashSet<>(contacts);
+    public EventBuilder withContactIds(Set<PersonId> contactIds) {
+        this.contactIds = new HashSet<>(contactIds);
         return this;
     }
 
@@ -78,12 +79,12 @@ public class EventBuilder {
      */
     public EventBuilder addContacts(Person... persons) {
         for (Person p : persons) {
-            contacts.add(p);
+            contactIds.add(p.getId());
         }
         return this;
     }
 
     public Event build() {
-        return new Event(title, startDateTime, endDateTime, contacts);
+        return new Event(title, startDateTime, endDateTime, contactIds);
     }
 }
@@ -12,6 +12,7 @@ import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
 import trackup.model.person.Person;
+import trackup.model.person.PersonId;
 import trackup.model.person.Phone;
 import trackup.model.tag.Tag;
 import trackup.model.util.SampleDataUtil;
@@ -26,6 +27,7 @@ public class PersonBuilder {
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
 
+    private PersonId id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -38,6 +40,7 @@ public class PersonBuilder {
      * Creates a {@code PersonBuilder} with the default details.
      */
     public PersonBuilder() {
+        id = PersonId.UNASSIGNED;
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
@@ -51,13 +54,22 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
         category = personToCopy.getCategory();
-        notes = personToCopy.getNotes();
+        notes = new ArrayList<>(personToCopy.getNotes());
+    }
+
+    /**
+     * Sets the {@code PersonId} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(long id) {
+        this.id = new PersonId(id);
+        return this;
     }
 
     /**
@@ -104,7 +116,7 @@ public class PersonBuilder {
      * Sets the {@code Category} of the {@code Person} that we are building.
      */
     public PersonBuilder withCategory(String category) {
-        this.category = Optional.of(new Category(category));
+        this.category = Optional.of(Category.of(category));
         return this;
     }
 
@@ -131,11 +143,7 @@ public class PersonBuilder {
      * Builds and returns the {@code Person}.
      */
     public Person build() {
-        Person person = new Person(name, phone, email, address, tags, category);
-        for (Note note : notes) {
-            person.addNote(note);
-        }
-        return person;
+        return new Person(id, name, phone, email, address, tags, category, notes);
     }
 
 }
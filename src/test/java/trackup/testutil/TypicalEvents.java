@@ -34,7 +34,7 @@ public class TypicalEvents {
             .withTitle("Solo Planning")
             .withStart(LocalDateTime.of(2025, 4, 3, 9, 0))
             .withEnd(LocalDateTime.of(2025, 4, 3, 10, 0))
-            .withContacts(new HashSet<>()) // no contacts
+            .withContactIds(new HashSet<>()) // no contacts
             .build();
 
     public static final Event DUPLICATE_MEETING = new EventBuilder(MEETING_EVENT).build(); // same as MEETING_EVENT